@@ -0,0 +1,69 @@
+package com.jangyeonguk.backend.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Field;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청마다 실행되는 JWT 검증 벤치마크
+ * verifiedCache=true는 검증 결과 캐시 적중(재방문 요청), false는 매번 HMAC 검증과 JSON 파싱(첫 요청)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtUtilBenchmark {
+
+    private static final long EXPIRATION_MS = 86_400_000L;
+
+    @Param({"true", "false"})
+    public boolean verifiedCache;
+
+    private JwtUtil jwtUtil;
+    private String token;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        // 폐기 저장소는 조회(isRevoked)만 하므로 DB 저장소 없이 생성
+        TokenRevocationStore tokenRevocationStore = new TokenRevocationStore(null, EXPIRATION_MS, 60_000L, 200_000);
+        jwtUtil = new JwtUtil(tokenRevocationStore, new SimpleMeterRegistry());
+        setField("secret", "benchmark-secret-key-must-be-at-least-256-bits-long-for-hmac-sha-256");
+        setField("expiration", EXPIRATION_MS);
+        setField("verifiedCacheMaxSize", verifiedCache ? 10_000L : 0L); // 0이면 캐시에 남지 않음
+        jwtUtil.init();
+
+        token = jwtUtil.generateToken(UUID.randomUUID());
+        jwtUtil.validateToken(token);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtUtil.validateToken(token);
+    }
+
+    @Benchmark
+    public UUID getUserIdFromToken() {
+        return jwtUtil.getUserIdFromToken(token);
+    }
+
+    private void setField(String name, Object value) throws ReflectiveOperationException {
+        Field field = JwtUtil.class.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(jwtUtil, value);
+    }
+}
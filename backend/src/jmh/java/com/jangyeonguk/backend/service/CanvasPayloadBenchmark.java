@@ -0,0 +1,152 @@
+package com.jangyeonguk.backend.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.jangyeonguk.backend.dto.CanvasObjectResponse;
+import com.jangyeonguk.backend.entity.CanvasObject;
+import com.jangyeonguk.backend.entity.Room;
+import com.jangyeonguk.backend.entity.User;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 방 전체 조회 경로 벤치마크 (엔티티 -> 응답 DTO 변환, JSON 직렬화, path 객체 데이터 파싱)
+ * roomSize는 방의 객체 수, strokeLength는 path 객체 하나의 점 개수
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CanvasPayloadBenchmark {
+
+    @Param({"100", "1000", "5000"})
+    public int roomSize;
+
+    @Param({"16", "256", "2048"})
+    public int strokeLength;
+
+    // Spring Boot의 기본 ObjectMapper와 같은 설정 (JavaTimeModule, 날짜를 ISO-8601 문자열로)
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .findAndAddModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private CanvasObjectService canvasObjectService;
+    private MethodHandle mapToResponse;
+    private List<CanvasObject> objects;
+    private List<CanvasObjectResponse> responses;
+    private String pathData;
+
+    @Setup
+    public void setUp() throws Throwable {
+        // mapToResponse는 의존 객체를 사용하지 않으므로 생성자에서 지표를 등록하는 MeterRegistry 외에는 null로 생성
+        Constructor<?> constructor = CanvasObjectService.class.getDeclaredConstructors()[0];
+        Object[] dependencies = new Object[constructor.getParameterCount()];
+        for (int i = 0; i < dependencies.length; i++) {
+            if (constructor.getParameterTypes()[i] == MeterRegistry.class) {
+                dependencies[i] = new SimpleMeterRegistry();
+            }
+        }
+        canvasObjectService = (CanvasObjectService) constructor.newInstance(dependencies);
+        mapToResponse = MethodHandles.privateLookupIn(CanvasObjectService.class, MethodHandles.lookup())
+                .findVirtual(CanvasObjectService.class, "mapToResponse",
+                        MethodType.methodType(CanvasObjectResponse.class, CanvasObject.class));
+
+        Random random = new Random(42);
+        Room room = Room.builder().roomId(UUID.randomUUID()).build();
+        User creator = User.builder().userId(UUID.randomUUID()).build();
+        objects = new ArrayList<>(roomSize);
+        for (int i = 0; i < roomSize; i++) {
+            objects.add(CanvasObject.builder()
+                    .objectId(UUID.randomUUID())
+                    .room(room)
+                    .creator(creator)
+                    .objectType("path")
+                    .objectData(pathData(random))
+                    .createdAt(OffsetDateTime.now())
+                    .version(0L)
+                    .build());
+        }
+        pathData = objects.get(0).getObjectData();
+        responses = mapAll();
+    }
+
+    @Benchmark
+    public List<CanvasObjectResponse> mapToResponse() throws Throwable {
+        return mapAll();
+    }
+
+    @Benchmark
+    public byte[] serializeRoom() throws Exception {
+        return objectMapper.writeValueAsBytes(responses);
+    }
+
+    @Benchmark
+    public byte[] mapAndSerializeRoom() throws Throwable {
+        return objectMapper.writeValueAsBytes(mapAll());
+    }
+
+    @Benchmark
+    public double parsePathData() throws Exception {
+        JsonNode points = objectMapper.readTree(pathData).path("points");
+        double sum = 0;
+        for (JsonNode point : points) {
+            sum += point.path("x").asDouble() + point.path("y").asDouble();
+        }
+        return sum;
+    }
+
+    private List<CanvasObjectResponse> mapAll() throws Throwable {
+        List<CanvasObjectResponse> mapped = new ArrayList<>(objects.size());
+        for (CanvasObject canvasObject : objects) {
+            mapped.add((CanvasObjectResponse) mapToResponse.invokeExact(canvasObjectService, canvasObject));
+        }
+        return mapped;
+    }
+
+    /**
+     * 프론트엔드 PathObjectData 형식 ({points: [{x, y}], color, strokeWidth})
+     */
+    private String pathData(Random random) throws Exception {
+        ObjectNode data = objectMapper.createObjectNode();
+        ArrayNode points = data.putArray("points");
+        double x = random.nextDouble() * 1000;
+        double y = random.nextDouble() * 1000;
+        for (int i = 0; i < strokeLength; i++) {
+            x += random.nextGaussian() * 3;
+            y += random.nextGaussian() * 3;
+            points.addObject().put("x", Math.round(x * 10) / 10.0).put("y", Math.round(y * 10) / 10.0);
+        }
+        data.put("color", "#4a9eff");
+        data.put("strokeWidth", 2);
+        return objectMapper.writeValueAsString(data);
+    }
+}
@@ -0,0 +1,83 @@
+package com.jangyeonguk.backend.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이미지 크기 확인 벤치마크
+ * 헤더만 읽는 ImageDimensions.probe와 전체 디코딩(ImageIO.read) 비교
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ImageDimensionsBenchmark {
+
+    @Param({"256", "2048"})
+    public int imageSize;
+
+    private byte[] png;
+    private byte[] jpeg;
+
+    @Setup
+    public void setUp() throws IOException {
+        BufferedImage image = new BufferedImage(imageSize, imageSize, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        try {
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, imageSize, imageSize);
+            graphics.setColor(Color.BLUE);
+            graphics.drawOval(imageSize / 4, imageSize / 4, imageSize / 2, imageSize / 2);
+        } finally {
+            graphics.dispose();
+        }
+        png = encode(image, "png");
+        jpeg = encode(image, "jpg");
+    }
+
+    @Benchmark
+    public ImageDimensions.Info probePng() {
+        return ImageDimensions.probe(png);
+    }
+
+    @Benchmark
+    public ImageDimensions.Info probeJpeg() {
+        return ImageDimensions.probe(jpeg);
+    }
+
+    @Benchmark
+    public int decodePng() throws IOException {
+        return ImageIO.read(new ByteArrayInputStream(png)).getWidth();
+    }
+
+    @Benchmark
+    public int decodeJpeg() throws IOException {
+        return ImageIO.read(new ByteArrayInputStream(jpeg)).getWidth();
+    }
+
+    private static byte[] encode(BufferedImage image, String format) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(image, format, output);
+        return output.toByteArray();
+    }
+}
@@ -0,0 +1,120 @@
+package com.jangyeonguk.backend.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * 합성 방 fixture 생성기
+ * 사용자, 방, 참가자, 캔버스 객체(path)를 JDBC 배치 INSERT로 직접 넣음 (API를 거치면 10만 개 방 하나에도 수 분이 걸림)
+ * 사용자 비밀번호는 로그인하지 않으므로 더미 값이며, 토큰은 JwtUtil로 직접 발급
+ */
+class FixtureGenerator {
+
+    private static final int BATCH_SIZE = 1000;
+    private static final String DUMMY_PASSWORD_HASH = "load-test-no-login";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final Random random = new Random(42);
+
+    FixtureGenerator(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 생성된 방과 참가자
+     *
+     * @param roomId 방 ID
+     * @param userIds 방 참가자 ID (첫 번째가 방장)
+     */
+    record SeededRoom(UUID roomId, List<UUID> userIds) {
+    }
+
+    List<SeededRoom> seed(LoadTestOptions options) {
+        String runId = Long.toString(System.currentTimeMillis(), 36);
+        List<SeededRoom> rooms = new ArrayList<>();
+
+        for (int r = 0; r < options.rooms(); r++) {
+            UUID roomId = UUID.randomUUID();
+            List<UUID> userIds = new ArrayList<>();
+            for (int c = 0; c < options.clientsPerRoom(); c++) {
+                userIds.add(UUID.randomUUID());
+            }
+            Timestamp now = Timestamp.from(Instant.now());
+
+            jdbcTemplate.batchUpdate(
+                    "INSERT INTO users (user_id, email, password_hash, display_name, created_at) VALUES (?, ?, ?, ?, ?)",
+                    userIds, BATCH_SIZE, (statement, userId) -> {
+                        statement.setObject(1, userId);
+                        statement.setString(2, "load-" + runId + "-" + userId + "@example.com");
+                        statement.setString(3, DUMMY_PASSWORD_HASH);
+                        statement.setString(4, "load-" + userId.toString().substring(0, 8));
+                        statement.setTimestamp(5, now);
+                    });
+            jdbcTemplate.update(
+                    "INSERT INTO rooms (room_id, owner_id, title, is_anonymous, created_at, last_updated_at) VALUES (?, ?, ?, false, ?, ?)",
+                    roomId, userIds.get(0), "load-test " + runId + " #" + r, now, now);
+            jdbcTemplate.batchUpdate(
+                    "INSERT INTO room_participants (user_id, room_id, joined_at) VALUES (?, ?, ?)",
+                    userIds, BATCH_SIZE, (statement, userId) -> {
+                        statement.setObject(1, userId);
+                        statement.setObject(2, roomId);
+                        statement.setTimestamp(3, now);
+                    });
+            seedObjects(roomId, userIds, options);
+
+            rooms.add(new SeededRoom(roomId, userIds));
+            System.out.printf("fixture: 방 %d/%d (객체 %d개)%n", r + 1, options.rooms(), options.objectsPerRoom());
+        }
+        return rooms;
+    }
+
+    private void seedObjects(UUID roomId, List<UUID> userIds, LoadTestOptions options) {
+        long baseMillis = System.currentTimeMillis() - options.objectsPerRoom();
+        List<Integer> indexes = new ArrayList<>(BATCH_SIZE);
+        for (int start = 0; start < options.objectsPerRoom(); start += BATCH_SIZE) {
+            indexes.clear();
+            for (int i = start; i < Math.min(start + BATCH_SIZE, options.objectsPerRoom()); i++) {
+                indexes.add(i);
+            }
+            jdbcTemplate.batchUpdate(
+                    "INSERT INTO canvas_objects (object_id, room_id, creator_id, object_type, object_data, created_at, is_deleted, version) " +
+                            "VALUES (?, ?, ?, 'path', CAST(? AS jsonb), ?, false, 0)",
+                    indexes, BATCH_SIZE, (statement, index) -> {
+                        statement.setObject(1, UUID.randomUUID());
+                        statement.setObject(2, roomId);
+                        statement.setObject(3, userIds.get(index % userIds.size()));
+                        statement.setString(4, pathData(objectMapper, random, options.strokePoints()));
+                        statement.setTimestamp(5, new Timestamp(baseMillis + index)); // 생성 순서 유지 (undo 대상 결정)
+                    });
+        }
+    }
+
+    /**
+     * 프론트엔드 PathObjectData 형식의 자유 곡선 ({points: [{x, y}], color, strokeWidth})
+     */
+    static String pathData(ObjectMapper objectMapper, Random random, int points) {
+        ObjectNode data = objectMapper.createObjectNode();
+        ArrayNode array = data.putArray("points");
+        double x = random.nextDouble() * 1600;
+        double y = random.nextDouble() * 900;
+        for (int i = 0; i < points; i++) {
+            x += random.nextGaussian() * 4;
+            y += random.nextGaussian() * 4;
+            array.addObject().put("x", Math.round(x * 10) / 10.0).put("y", Math.round(y * 10) / 10.0);
+        }
+        data.put("color", "#4a9eff");
+        data.put("strokeWidth", 2);
+        return data.toString();
+    }
+}
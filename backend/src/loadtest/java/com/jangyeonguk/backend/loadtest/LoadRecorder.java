@@ -0,0 +1,123 @@
+package com.jangyeonguk.backend.loadtest;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 클라이언트 측 측정 기록 (작업별 지연 시간 백분위, 처리량, 오류 수, 응답 크기)
+ * 예열 구간의 요청은 기록하지 않음
+ */
+class LoadRecorder {
+
+    private static final double[] PERCENTILES = {0.5, 0.95, 0.99};
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<String, Counter> errors = new ConcurrentHashMap<>();
+    private final Duration expiry;
+    private final DistributionSummary pollBytes;
+    private volatile boolean measuring;
+
+    LoadRecorder(Duration duration) {
+        // 백분위는 측정 시간 전체를 하나의 구간으로 계산 (기본 2분 단위로 잘리지 않도록)
+        this.expiry = duration.plusMinutes(1);
+        this.pollBytes = DistributionSummary.builder("load.poll.response")
+                .baseUnit("bytes")
+                .publishPercentiles(PERCENTILES)
+                .distributionStatisticExpiry(expiry)
+                .distributionStatisticBufferLength(1)
+                .register(registry);
+    }
+
+    void startMeasuring() {
+        measuring = true;
+    }
+
+    void record(String operation, long startNanos, int status) {
+        if (!measuring) {
+            return;
+        }
+        timers.computeIfAbsent(operation, name -> Timer.builder("load.request")
+                        .tag("operation", name)
+                        .publishPercentiles(PERCENTILES)
+                        .distributionStatisticExpiry(expiry)
+                        .distributionStatisticBufferLength(1)
+                        .register(registry))
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        if (status < 200 || status >= 300) {
+            errors.computeIfAbsent(operation, name -> Counter.builder("load.errors").tag("operation", name).register(registry))
+                    .increment();
+        }
+    }
+
+    void recordPollBytes(long bytes) {
+        if (measuring) {
+            pollBytes.record(bytes);
+        }
+    }
+
+    /**
+     * 결과 출력
+     *
+     * @param elapsed 실제 측정 시간
+     * @param statements 측정 구간에 실행된 SQL 문 수 (Hibernate 통계)
+     */
+    void printReport(Duration elapsed, long statements) {
+        double seconds = elapsed.toMillis() / 1000.0;
+        long totalRequests = 0;
+
+        System.out.println();
+        System.out.printf("%-14s %9s %9s %9s %9s %9s %9s %7s%n",
+                "operation", "count", "ops/s", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)", "errors");
+        for (Map.Entry<String, Timer> entry : new TreeMap<>(timers).entrySet()) {
+            HistogramSnapshot snapshot = entry.getValue().takeSnapshot();
+            Counter errorCounter = errors.get(entry.getKey());
+            totalRequests += snapshot.count();
+            System.out.printf("%-14s %9d %9.1f %9.1f %9.1f %9.1f %9.1f %7d%n",
+                    entry.getKey(),
+                    snapshot.count(),
+                    snapshot.count() / seconds,
+                    percentile(snapshot, 0.5),
+                    percentile(snapshot, 0.95),
+                    percentile(snapshot, 0.99),
+                    snapshot.max(TimeUnit.MILLISECONDS),
+                    (errorCounter != null) ? (long) errorCounter.count() : 0L);
+        }
+
+        HistogramSnapshot bytes = pollBytes.takeSnapshot();
+        System.out.println();
+        System.out.printf("전체 요청: %d (%.1f req/s), 측정 시간 %.1fs%n", totalRequests, totalRequests / seconds, seconds);
+        System.out.printf("polling 응답 크기: 평균 %.0f bytes, p95 %.0f bytes%n", bytes.mean(), valueAt(bytes, 0.95));
+        System.out.printf("SQL 문: %d (%.1f/s, 요청당 %.2f)%n",
+                statements, statements / seconds, totalRequests > 0 ? (double) statements / totalRequests : 0.0);
+    }
+
+    private static double percentile(HistogramSnapshot snapshot, double percentile) {
+        for (ValueAtPercentile value : snapshot.percentileValues()) {
+            if (value.percentile() == percentile) {
+                return value.value(TimeUnit.MILLISECONDS);
+            }
+        }
+        return Double.NaN;
+    }
+
+    private static double valueAt(HistogramSnapshot snapshot, double percentile) {
+        for (ValueAtPercentile value : snapshot.percentileValues()) {
+            if (value.percentile() == percentile) {
+                return value.value();
+            }
+        }
+        return Double.NaN;
+    }
+}
@@ -0,0 +1,143 @@
+package com.jangyeonguk.backend.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jangyeonguk.backend.CanavsSyncApplication;
+import com.jangyeonguk.backend.config.JwtUtil;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 부하 테스트 실행기
+ * 애플리케이션을 같은 프로세스에서 임의 포트로 띄우고(로컬 PostgreSQL 사용), fixture를 넣은 뒤
+ * 방 수 × 방별 클라이언트 수만큼 가상 스레드 클라이언트로 실제 HTTP 요청을 보내 처리량, 지연 시간 백분위, SQL 문 수를 출력
+ *
+ * 실행: ./gradlew loadTest --args='--load.rooms=20 --load.clients-per-room=10 --load.objects-per-room=10000'
+ * --load.* 이외의 인자는 Spring Boot에 전달됨 (예: --spring.datasource.url=...)
+ */
+public final class LoadTestMain {
+
+    private LoadTestMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        String[] applicationArgs = applicationArgs(args);
+
+        try (ConfigurableApplicationContext context = SpringApplication.run(CanavsSyncApplication.class, applicationArgs)) {
+            ObjectMapper objectMapper = context.getBean(ObjectMapper.class);
+            FixtureGenerator fixtureGenerator = new FixtureGenerator(context.getBean(JdbcTemplate.class), objectMapper);
+            List<FixtureGenerator.SeededRoom> rooms = fixtureGenerator.seed(options);
+            if (options.seedOnly()) {
+                System.out.println("fixture 생성 완료: " + rooms.stream().map(room -> room.roomId().toString()).toList());
+                return;
+            }
+
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            run(options, rooms, "http://localhost:" + port, context.getBean(JwtUtil.class), objectMapper,
+                    context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics());
+        }
+    }
+
+    private static void run(LoadTestOptions options, List<FixtureGenerator.SeededRoom> rooms, String baseUrl,
+                            JwtUtil jwtUtil, ObjectMapper objectMapper, Statistics statistics) throws Exception {
+        LoadRecorder recorder = new LoadRecorder(options.duration());
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        String imageObjectData = imageObjectData(objectMapper);
+
+        List<SimulatedClient> clients = new ArrayList<>();
+        long seed = 0;
+        for (FixtureGenerator.SeededRoom room : rooms) {
+            for (UUID userId : room.userIds()) {
+                clients.add(new SimulatedClient(httpClient, objectMapper, recorder, options, baseUrl,
+                        room.roomId(), jwtUtil.generateToken(userId), imageObjectData, seed++));
+            }
+        }
+        System.out.printf("클라이언트 %d개 시작 (방 %d개 × %d명), 예열 %ds, 측정 %ds%n",
+                clients.size(), rooms.size(), options.clientsPerRoom(),
+                options.warmup().toSeconds(), options.duration().toSeconds());
+
+        long stopAtNanos = System.nanoTime() + options.warmup().plus(options.duration()).toNanos();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (SimulatedClient client : clients) {
+                executor.submit(() -> {
+                    client.poll(stopAtNanos);
+                    return null;
+                });
+                executor.submit(() -> {
+                    client.act(stopAtNanos);
+                    return null;
+                });
+            }
+
+            Thread.sleep(options.warmup().toMillis());
+            statistics.clear();
+            recorder.startMeasuring();
+            long measureStart = System.nanoTime();
+
+            Thread.sleep(options.duration().toMillis());
+            long statements = statistics.getPrepareStatementCount();
+            recorder.printReport(Duration.ofNanos(System.nanoTime() - measureStart), statements);
+        }
+    }
+
+    /**
+     * 이미지 추가 동작에 쓸 작은 PNG (프론트엔드 ImageObjectData 형식)
+     */
+    private static String imageObjectData(ObjectMapper objectMapper) throws IOException {
+        BufferedImage image = new BufferedImage(256, 256, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = image.createGraphics();
+        try {
+            graphics.setColor(Color.ORANGE);
+            graphics.fillOval(16, 16, 224, 224);
+        } finally {
+            graphics.dispose();
+        }
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", output);
+        return objectMapper.createObjectNode()
+                .put("imageData", Base64.getEncoder().encodeToString(output.toByteArray()))
+                .put("width", 256)
+                .put("height", 256)
+                .put("x", 100)
+                .put("y", 100)
+                .toString();
+    }
+
+    /**
+     * 부하 테스트 옵션을 제외한 인자에 부하 테스트용 기본값을 더함 (임의 포트, SQL 로그 끔)
+     */
+    private static String[] applicationArgs(String[] args) {
+        List<String> applicationArgs = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--spring.jpa.show-sql=false",
+                "--spring.jpa.properties.hibernate.generate_statistics=true"));
+        Arrays.stream(args)
+                .filter(arg -> !arg.startsWith(LoadTestOptions.PREFIX))
+                .forEach(applicationArgs::add);
+        return applicationArgs.toArray(String[]::new);
+    }
+}
@@ -0,0 +1,66 @@
+package com.jangyeonguk.backend.loadtest;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 옵션 (--이름=값 형식의 인자, 나머지 인자는 Spring Boot에 그대로 전달)
+ *
+ * @param rooms 방 수
+ * @param clientsPerRoom 방별 동시 접속 클라이언트 수
+ * @param objectsPerRoom 테스트 전 방마다 미리 넣어 둘 객체 수 (1k~100k)
+ * @param strokePoints 자유 곡선 하나의 점 개수
+ * @param duration 측정 시간
+ * @param warmup 측정 전 예열 시간 (결과에 포함하지 않음)
+ * @param pollInterval 목록 polling 주기 (프론트엔드와 같은 2.5초)
+ * @param thinkTime 클라이언트 동작 사이 평균 대기 시간 (지수 분포)
+ * @param dragSteps 드래그 한 번에 보내는 수정 요청 수
+ * @param seedOnly true면 fixture만 생성하고 종료
+ */
+record LoadTestOptions(
+        int rooms,
+        int clientsPerRoom,
+        int objectsPerRoom,
+        int strokePoints,
+        Duration duration,
+        Duration warmup,
+        Duration pollInterval,
+        Duration thinkTime,
+        int dragSteps,
+        boolean seedOnly) {
+
+    static final String PREFIX = "--load.";
+
+    static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith(PREFIX)) {
+                int separator = arg.indexOf('=');
+                String name = arg.substring(PREFIX.length(), separator > 0 ? separator : arg.length());
+                values.put(name, separator > 0 ? arg.substring(separator + 1) : "true");
+            }
+        }
+
+        LoadTestOptions options = new LoadTestOptions(
+                intValue(values, "rooms", 10),
+                intValue(values, "clients-per-room", 5),
+                intValue(values, "objects-per-room", 1000),
+                intValue(values, "stroke-points", 64),
+                Duration.ofSeconds(intValue(values, "duration-seconds", 60)),
+                Duration.ofSeconds(intValue(values, "warmup-seconds", 10)),
+                Duration.ofMillis(intValue(values, "poll-interval-ms", 2500)),
+                Duration.ofMillis(intValue(values, "think-time-ms", 1000)),
+                intValue(values, "drag-steps", 10),
+                Boolean.parseBoolean(values.getOrDefault("seed-only", "false")));
+        if (options.rooms < 1 || options.clientsPerRoom < 1 || options.strokePoints < 2) {
+            throw new IllegalArgumentException("rooms, clients-per-room는 1 이상, stroke-points는 2 이상이어야 합니다.");
+        }
+        return options;
+    }
+
+    private static int intValue(Map<String, String> values, String name, int defaultValue) {
+        String value = values.get(name);
+        return (value != null) ? Integer.parseInt(value) : defaultValue;
+    }
+}
@@ -0,0 +1,175 @@
+package com.jangyeonguk.backend.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * 방 참가자 한 명의 동작을 흉내 내는 클라이언트
+ * 프론트엔드(RoomPage)처럼 2.5초마다 목록을 polling하고, 그 사이 자유 곡선 그리기, 드래그(전체 수정 요청 반복),
+ * undo/redo, 이미지 추가를 가중치에 따라 수행
+ */
+class SimulatedClient {
+
+    // 동작 비율 (누적): 곡선 55%, 드래그 20%, undo 10%, redo 7%, 이미지 8%
+    private static final double STROKE = 0.55;
+    private static final double DRAG = 0.75;
+    private static final double UNDO = 0.85;
+    private static final double REDO = 0.92;
+    private static final int RECENT_OBJECTS = 20;
+    private static final long DRAG_STEP_MILLIS = 30; // 드래그 중 mousemove 수정 요청 간격
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final LoadRecorder recorder;
+    private final LoadTestOptions options;
+    private final String objectsUrl;
+    private final String authorization;
+    private final String imageObjectData;
+    private final Random random;
+
+    // 내가 만든 최근 객체 (드래그 대상)
+    private final Deque<ObjectNode> recentObjects = new ArrayDeque<>();
+
+    SimulatedClient(HttpClient httpClient, ObjectMapper objectMapper, LoadRecorder recorder, LoadTestOptions options,
+                    String baseUrl, UUID roomId, String token, String imageObjectData, long seed) {
+        this.httpClient = httpClient;
+        this.objectMapper = objectMapper;
+        this.recorder = recorder;
+        this.options = options;
+        this.objectsUrl = baseUrl + "/api/rooms/" + roomId + "/canvas-objects";
+        this.authorization = "Bearer " + token;
+        this.imageObjectData = imageObjectData;
+        this.random = new Random(seed);
+    }
+
+    /**
+     * polling 루프 (종료 시각까지)
+     */
+    void poll(long stopAtNanos) throws InterruptedException {
+        // 클라이언트마다 시작 시점을 흩어 요청이 한꺼번에 몰리지 않도록 함
+        Thread.sleep(random.nextLong(options.pollInterval().toMillis()));
+        while (System.nanoTime() < stopAtNanos) {
+            long start = System.nanoTime();
+            try {
+                HttpResponse<byte[]> response = send(HttpRequest.newBuilder(URI.create(objectsUrl)).GET(), HttpResponse.BodyHandlers.ofByteArray());
+                recorder.record("poll", start, response.statusCode());
+                recorder.recordPollBytes(response.body().length);
+            } catch (IOException e) {
+                recorder.record("poll", start, 0);
+            }
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+            Thread.sleep(Math.max(0, options.pollInterval().toMillis() - elapsedMillis));
+        }
+    }
+
+    /**
+     * 그리기 동작 루프 (종료 시각까지)
+     */
+    void act(long stopAtNanos) throws InterruptedException {
+        while (System.nanoTime() < stopAtNanos) {
+            // 지수 분포 대기 (평균 think-time)
+            long thinkMillis = (long) (-Math.log(1 - random.nextDouble()) * options.thinkTime().toMillis());
+            Thread.sleep(thinkMillis);
+            if (System.nanoTime() >= stopAtNanos) {
+                return;
+            }
+
+            double action = random.nextDouble();
+            try {
+                if (action < STROKE || (action < DRAG && recentObjects.isEmpty())) {
+                    stroke();
+                } else if (action < DRAG) {
+                    drag();
+                } else if (action < UNDO) {
+                    exchange("undo", HttpRequest.newBuilder(URI.create(objectsUrl + "/undo")).DELETE());
+                } else if (action < REDO) {
+                    exchange("redo", HttpRequest.newBuilder(URI.create(objectsUrl + "/redo")).POST(HttpRequest.BodyPublishers.noBody()));
+                } else {
+                    create("image", "image", imageObjectData);
+                }
+            } catch (IOException e) {
+                // 연결 오류는 기록만 하고 계속 진행 (서버 포화 시 흔함)
+            }
+        }
+    }
+
+    private void stroke() throws IOException, InterruptedException {
+        String pathData = FixtureGenerator.pathData(objectMapper, random, options.strokePoints());
+        JsonNode created = create("stroke", "path", pathData);
+        if (created != null) {
+            ObjectNode object = objectMapper.createObjectNode();
+            object.put("objectId", created.path("objectId").asText());
+            object.set("data", objectMapper.readTree(pathData));
+            recentObjects.addFirst(object);
+            if (recentObjects.size() > RECENT_OBJECTS) {
+                recentObjects.removeLast();
+            }
+        }
+    }
+
+    /**
+     * 드래그: 프론트엔드처럼 이동할 때마다 이동된 전체 objectData를 PUT으로 전송
+     */
+    private void drag() throws IOException, InterruptedException {
+        ObjectNode object = recentObjects.peekFirst();
+        if (object == null) {
+            return;
+        }
+        String objectUrl = objectsUrl + "/" + object.path("objectId").asText();
+        ObjectNode data = (ObjectNode) object.get("data");
+        double dx = random.nextGaussian() * 3;
+        double dy = random.nextGaussian() * 3;
+
+        for (int step = 0; step < options.dragSteps(); step++) {
+            for (JsonNode point : data.withArray("points")) {
+                ObjectNode movable = (ObjectNode) point;
+                movable.put("x", movable.path("x").asDouble() + dx);
+                movable.put("y", movable.path("y").asDouble() + dy);
+            }
+            ObjectNode body = objectMapper.createObjectNode().put("objectData", data.toString());
+            int status = exchange("drag-update", HttpRequest.newBuilder(URI.create(objectUrl))
+                    .header("Content-Type", "application/json")
+                    .PUT(HttpRequest.BodyPublishers.ofString(body.toString())));
+            if (status == 400 || status == 404) {
+                recentObjects.remove(object); // undo 등으로 삭제된 객체
+                return;
+            }
+            Thread.sleep(DRAG_STEP_MILLIS);
+        }
+    }
+
+    private JsonNode create(String operation, String objectType, String objectData) throws IOException, InterruptedException {
+        ObjectNode body = objectMapper.createObjectNode()
+                .put("objectType", objectType)
+                .put("objectData", objectData);
+        long start = System.nanoTime();
+        HttpResponse<byte[]> response = send(HttpRequest.newBuilder(URI.create(objectsUrl))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body.toString())), HttpResponse.BodyHandlers.ofByteArray());
+        recorder.record(operation, start, response.statusCode());
+        return (response.statusCode() / 100 == 2) ? objectMapper.readTree(response.body()) : null;
+    }
+
+    private int exchange(String operation, HttpRequest.Builder request) throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        HttpResponse<Void> response = send(request, HttpResponse.BodyHandlers.discarding());
+        recorder.record(operation, start, response.statusCode());
+        return response.statusCode();
+    }
+
+    private <T> HttpResponse<T> send(HttpRequest.Builder request, HttpResponse.BodyHandler<T> bodyHandler)
+            throws IOException, InterruptedException {
+        return httpClient.send(request.header("Authorization", authorization).build(), bodyHandler);
+    }
+}
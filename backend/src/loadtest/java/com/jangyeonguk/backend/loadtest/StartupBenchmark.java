@@ -0,0 +1,158 @@
+package com.jangyeonguk.backend.loadtest;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 시작 시간 벤치마크 (빠른 시작 빌드의 효과 측정)
+ * 풀어 둔 bootJar(build/startup)를 모드별로 별도 JVM에서 실행하고, 프로세스 시작부터
+ * 공개 포트의 /readyz가 처음 200을 응답할 때까지의 시간(time-to-first-request)을 잰다
+ * (actuator는 management.server.port에서만 제공되므로, 실행 중인 다른 인스턴스와 겹치지 않도록 관리 포트도 빈 포트로 지정)
+ * 모드는 기본(JIT만), AOT(spring.aot.enabled), AOT + AppCDS이며, 순서에 따른 편차를 줄이도록 번갈아 실행
+ *
+ * 실행: ./gradlew -Paot startupBenchmark --args='--startup.iterations=10'
+ * --startup.* 이외의 인자는 애플리케이션에 전달됨 (예: --spring.datasource.url=...)
+ */
+public final class StartupBenchmark {
+
+    private static final String PREFIX = "--startup.";
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+
+    private StartupBenchmark() {
+    }
+
+    private record Mode(String name, List<String> jvmArgs) {
+    }
+
+    public static void main(String[] args) throws Exception {
+        String java = System.getProperty("startup.java");
+        Path directory = Path.of(System.getProperty("startup.dir"));
+        String jar = System.getProperty("startup.jar");
+        String archive = System.getProperty("startup.archive", "application.jsa");
+
+        int iterations = 5;
+        List<String> applicationArgs = new ArrayList<>();
+        for (String arg : args) {
+            if (arg.startsWith(PREFIX + "iterations=")) {
+                iterations = Integer.parseInt(arg.substring(arg.indexOf('=') + 1));
+            } else {
+                applicationArgs.add(arg);
+            }
+        }
+        if (!Files.exists(directory.resolve(archive))) {
+            throw new IllegalStateException("AppCDS 아카이브가 없습니다: " + directory.resolve(archive)
+                    + " (./gradlew -Paot cdsArchive)");
+        }
+
+        List<Mode> modes = List.of(
+                new Mode("baseline", List.of()),
+                new Mode("aot", List.of("-Dspring.aot.enabled=true")),
+                new Mode("aot+cds", List.of("-Dspring.aot.enabled=true", "-XX:SharedArchiveFile=" + archive)));
+
+        Path logs = Files.createDirectories(directory.resolve("logs"));
+        HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+        Map<String, List<Long>> results = new LinkedHashMap<>();
+        for (Mode mode : modes) {
+            results.put(mode.name(), new ArrayList<>());
+        }
+
+        for (int i = 1; i <= iterations; i++) {
+            for (Mode mode : modes) {
+                long millis = measure(java, directory, jar, mode, applicationArgs,
+                        logs.resolve(mode.name() + "-" + i + ".log").toFile(), httpClient);
+                results.get(mode.name()).add(millis);
+                System.out.printf("[%d/%d] %-8s %6d ms%n", i, iterations, mode.name(), millis);
+            }
+        }
+
+        report(results);
+    }
+
+    /**
+     * 한 번 실행해서 첫 요청 성공까지의 시간 측정 (측정 후 프로세스 종료)
+     */
+    private static long measure(String java, Path directory, String jar, Mode mode, List<String> applicationArgs,
+                                File log, HttpClient httpClient) throws Exception {
+        int port = freePort();
+        int managementPort = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(java);
+        command.addAll(mode.jvmArgs());
+        command.add("-jar");
+        command.add(jar);
+        command.add("--server.port=" + port);
+        command.add("--management.server.port=" + managementPort);
+        command.add("--spring.profiles.active=prod");
+        command.addAll(applicationArgs);
+
+        HttpRequest readiness = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/readyz"))
+                .timeout(Duration.ofSeconds(1))
+                .build();
+
+        long startNanos = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .directory(directory.toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(log)
+                .start();
+        try {
+            long deadline = startNanos + STARTUP_TIMEOUT.toNanos();
+            while (System.nanoTime() < deadline) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException(mode.name() + " 실행이 종료되었습니다 (로그: " + log + ")");
+                }
+                try {
+                    if (httpClient.send(readiness, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+                    }
+                } catch (IOException e) {
+                    // 아직 포트가 열리지 않음
+                }
+                Thread.sleep(10);
+            }
+            throw new IllegalStateException(mode.name() + " 시작 시간이 초과되었습니다 (로그: " + log + ")");
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    private static void report(Map<String, List<Long>> results) {
+        long baselineMedian = median(results.values().iterator().next());
+        System.out.println();
+        System.out.println("time-to-first-request (ms)");
+        System.out.printf("%-8s %8s %8s %8s %8s%n", "mode", "min", "median", "max", "vs base");
+        for (Map.Entry<String, List<Long>> entry : results.entrySet()) {
+            List<Long> values = entry.getValue().stream().sorted().toList();
+            long median = median(values);
+            System.out.printf("%-8s %8d %8d %8d %7.0f%%%n", entry.getKey(), values.get(0), median,
+                    values.get(values.size() - 1), 100.0 * (median - baselineMedian) / baselineMedian);
+        }
+    }
+
+    private static long median(List<Long> values) {
+        List<Long> sorted = values.stream().sorted().toList();
+        return sorted.get(sorted.size() / 2);
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
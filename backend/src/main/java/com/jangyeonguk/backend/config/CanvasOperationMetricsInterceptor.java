@@ -0,0 +1,82 @@
+package com.jangyeonguk.backend.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 캔버스 API 작업별 지표 (처리 시간, 요청 본문 크기)
+ * 태그는 작업(컨트롤러 메서드 이름)과 결과만 사용하고 방 ID는 넣지 않음 (방 수만큼 시계열이 늘어나지 않도록)
+ * long-poll/SSE처럼 비동기로 처리되는 요청은 응답이 끝날 때까지의 시간을 기록
+ */
+@Component
+public class CanvasOperationMetricsInterceptor implements HandlerInterceptor {
+
+    private static final String START_ATTRIBUTE = CanvasOperationMetricsInterceptor.class.getName() + ".start";
+
+    private final MeterRegistry meterRegistry;
+
+    public CanvasOperationMetricsInterceptor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // 비동기 요청은 응답 재전송(ASYNC dispatch) 때 다시 호출되므로 처음 한 번만 기록
+        if (handler instanceof HandlerMethod handlerMethod && request.getAttribute(START_ATTRIBUTE) == null) {
+            request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+            long contentLength = request.getContentLengthLong();
+            if (contentLength > 0) {
+                DistributionSummary.builder("canvas.operations.request.size")
+                        .description("캔버스 API 요청 본문 크기")
+                        .baseUnit("bytes")
+                        .tag("operation", operation(handlerMethod))
+                        .publishPercentileHistogram()
+                        .register(meterRegistry)
+                        .record(contentLength);
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (!(handler instanceof HandlerMethod handlerMethod) || !(request.getAttribute(START_ATTRIBUTE) instanceof Long start)) {
+            return;
+        }
+        Timer.builder("canvas.operations")
+                .description("캔버스 API 작업 처리 시간")
+                .tag("operation", operation(handlerMethod))
+                .tag("outcome", outcome(response.getStatus(), ex))
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    private static String operation(HandlerMethod handlerMethod) {
+        return handlerMethod.getMethod().getName();
+    }
+
+    /**
+     * 헬퍼 메서드: 응답 상태 코드 분류 (예외 처리기에서 처리되지 않은 예외는 SERVER_ERROR)
+     */
+    private static String outcome(int status, Exception ex) {
+        if (ex != null && status < 400) {
+            return "SERVER_ERROR";
+        }
+        return switch (status / 100) {
+            case 2 -> "SUCCESS";
+            case 3 -> "REDIRECTION";
+            case 4 -> "CLIENT_ERROR";
+            case 5 -> "SERVER_ERROR";
+            default -> "UNKNOWN";
+        };
+    }
+}
@@ -0,0 +1,40 @@
+package com.jangyeonguk.backend.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * DataSource를 datasource-proxy로 감싸 모든 SQL 실행을 SqlStatementListener로 집계
+ * (요청별 SQL 수/DB 시간, db.statements 지표, 느린 SQL 로그)
+ * 커넥션 풀(Hikari) 지표는 unwrap으로 원래 DataSource를 찾으므로 그대로 동작
+ */
+@Configuration
+public class DataSourceProxyConfig {
+
+    @Bean
+    static BeanPostProcessor dataSourceProxyPostProcessor(
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${db.statements.slow-threshold-ms:200}") long slowThresholdMs) {
+        SqlStatementListener listener = new SqlStatementListener(meterRegistry, slowThresholdMs);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name(beanName)
+                            .listener(listener)
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+}
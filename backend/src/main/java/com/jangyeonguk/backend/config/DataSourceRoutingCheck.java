@@ -0,0 +1,33 @@
+package com.jangyeonguk.backend.config;
+
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 복제본 설정(db.replicas.urls)이 있는데 읽기/쓰기 분리(DataSourceRoutingConfig)가 빠진 채 시작하지 않도록 확인
+ * AOT 빌드(-Paot)는 DataSourceRoutingConfig의 조건을 빌드 시점 설정으로 고정하므로,
+ * 복제본 없이 빌드한 jar를 DB_REPLICAS_URLS와 함께 실행하면 설정이 조용히 무시되는 대신 시작에 실패함
+ */
+@Component
+public class DataSourceRoutingCheck implements InitializingBean {
+
+    private final String replicaUrls;
+    private final ObjectProvider<ReadYourWritesFilter> readYourWritesFilter;
+
+    public DataSourceRoutingCheck(
+            @Value("${db.replicas.urls:}") String replicaUrls,
+            ObjectProvider<ReadYourWritesFilter> readYourWritesFilter) {
+        this.replicaUrls = replicaUrls;
+        this.readYourWritesFilter = readYourWritesFilter;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        if (!replicaUrls.isBlank() && readYourWritesFilter.getIfAvailable() == null) {
+            throw new IllegalStateException("db.replicas.urls가 설정되었지만 읽기/쓰기 분리가 적용되지 않았습니다. "
+                    + "AOT 빌드는 빌드 시점 설정으로 조건부 빈을 고정하므로 DB_REPLICAS_URLS를 넘겨 다시 빌드해주세요.");
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.jangyeonguk.backend.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.transaction.TransactionManagerCustomizers;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.JpaTransactionManager;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기/쓰기 DataSource 분리 (db.replicas.urls가 있을 때만 사용)
+ * 원본 커넥션 풀은 spring.datasource.*로, 복제본 풀은 원본 설정을 복사해 URL/계정/크기만 바꿔서 만들고
+ * 읽기 전용 트랜잭션(@Transactional(readOnly = true))은 ReadWriteRoutingDataSource가 복제본으로 보냄
+ * 커넥션 풀은 빈으로 등록하지 않으므로(최상위 DataSource만 SQL 집계 프록시로 감싸도록) 종료 시 여기서 닫음
+ * 복제본을 사용하는 트랜잭션은 2차 캐시에 쓰지 않도록 트랜잭션 매니저의 JpaDialect를 교체 (ReplicaReadJpaDialect)
+ */
+@Configuration
+@ConditionalOnExpression("!'${db.replicas.urls:}'.isBlank()")
+public class DataSourceRoutingConfig implements DisposableBean {
+
+    private final List<HikariDataSource> pools = new ArrayList<>();
+    private ReadWriteRoutingDataSource routingDataSource;
+
+    @Bean
+    public DataSource dataSource(
+            DataSourceProperties properties,
+            Environment environment,
+            @Value("${db.replicas.urls}") List<String> replicaUrls,
+            @Value("${db.replicas.username:${spring.datasource.username:}}") String replicaUsername,
+            @Value("${db.replicas.password:${spring.datasource.password:}}") String replicaPassword,
+            @Value("${db.replicas.maximum-pool-size:10}") int replicaMaximumPoolSize) {
+        HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        primary.setPoolName("primary");
+        pools.add(primary);
+
+        List<HikariDataSource> replicas = new ArrayList<>();
+        for (String url : replicaUrls) {
+            if (url.isBlank()) {
+                continue;
+            }
+            HikariDataSource replica = new HikariDataSource(); // 첫 커넥션 요청 때 풀을 시작
+            primary.copyStateTo(replica);
+            replica.setJdbcUrl(url.trim());
+            replica.setUsername(replicaUsername);
+            replica.setPassword(replicaPassword);
+            replica.setMaximumPoolSize(replicaMaximumPoolSize);
+            replica.setReadOnly(true);
+            replica.setPoolName("replica-" + replicas.size());
+            replicas.add(replica);
+            pools.add(replica);
+        }
+
+        // 트랜잭션의 읽기 전용 여부가 정해진 뒤(첫 SQL 실행 시) 커넥션을 가져오도록 지연
+        routingDataSource = new ReadWriteRoutingDataSource(primary, replicas);
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    /**
+     * Spring Boot 기본 트랜잭션 매니저와 같되, 복제본을 사용하는 트랜잭션은 2차 캐시에 쓰지 않음
+     */
+    @Bean
+    public JpaTransactionManager transactionManager(
+            EntityManagerFactory entityManagerFactory,
+            ObjectProvider<TransactionManagerCustomizers> transactionManagerCustomizers) {
+        JpaTransactionManager transactionManager = new JpaTransactionManager(entityManagerFactory);
+        transactionManager.setJpaDialect(new ReplicaReadJpaDialect(routingDataSource));
+        transactionManagerCustomizers.ifAvailable(customizers -> customizers.customize(transactionManager));
+        return transactionManager;
+    }
+
+    /**
+     * 복제본을 포함한 모든 커넥션 풀 지표 (hikaricp_*, pool 태그로 구분)
+     */
+    @Bean
+    public MeterBinder dataSourcePoolMetrics(DataSource dataSource) {
+        return registry -> {
+            for (HikariDataSource pool : pools) {
+                if (pool.getMetricRegistry() == null && pool.getMetricsTrackerFactory() == null) {
+                    try {
+                        pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+                    } catch (IllegalStateException e) {
+                        // 이미 시작된 풀은 설정을 바꿀 수 없음 (지표 없이 사용)
+                    }
+                }
+            }
+        };
+    }
+
+    @Bean
+    public ReadYourWritesFilter readYourWritesFilter(@Value("${db.read-your-writes.window-ms:5000}") long windowMs) {
+        return new ReadYourWritesFilter(windowMs);
+    }
+
+    @Override
+    public void destroy() {
+        pools.forEach(HikariDataSource::close);
+    }
+}
@@ -0,0 +1,25 @@
+package com.jangyeonguk.backend.config;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 요청별 JWT 인증 JFR 이벤트 (Bearer 토큰이 있는 요청만)
+ */
+@Name("com.jangyeonguk.auth.JwtAuthentication")
+@Label("JWT Authentication")
+@Category({"Canvas Sync", "Auth"})
+@Description("요청의 Bearer 토큰 검증")
+@StackTrace(false)
+class JwtAuthenticationEvent extends Event {
+
+    @Label("Authenticated")
+    boolean authenticated;
+
+    @Label("User ID")
+    String userId;
+}
@@ -37,11 +37,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // Authorization 헤더에서 토큰 추출
         String token = extractTokenFromRequest(request);
         
-        // 토큰이 있고, 유효하며, 블랙리스트에 없는 경우에만 인증 처리
-        if (token != null && jwtUtil.validateToken(token)) {
-            // 토큰에서 사용자 ID 추출
-            UUID userId = jwtUtil.getUserIdFromToken(token);
-            
+        // 토큰이 있고, 유효하며, 블랙리스트에 없는 경우에만 인증 처리 (검증은 요청당 한 번)
+        UUID userId = (token != null) ? authenticate(token) : null;
+        if (userId != null) {
             // Authentication 객체 생성
             Authentication authentication = createAuthentication(userId, request);
             
@@ -53,6 +51,22 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * 토큰 검증 (JFR 기록 중이면 검증 시간과 결과를 이벤트로 남김)
+     */
+    private UUID authenticate(String token) {
+        JwtAuthenticationEvent event = new JwtAuthenticationEvent();
+        event.begin();
+        UUID userId = jwtUtil.authenticate(token);
+        event.end();
+        if (event.shouldCommit()) {
+            event.authenticated = userId != null;
+            event.userId = (userId != null) ? userId.toString() : null;
+            event.commit();
+        }
+        return userId;
+    }
+
     /**
      * HTTP 요청에서 JWT 토큰 추출
      * 
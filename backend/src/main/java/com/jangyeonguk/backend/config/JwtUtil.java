@@ -1,35 +1,92 @@
 package com.jangyeonguk.backend.config;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Date;
-import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 @Component
+@RequiredArgsConstructor
 public class JwtUtil {
 
+    private final TokenRevocationStore tokenRevocationStore;
+    private final MeterRegistry meterRegistry;
+
     @Value("${jwt.secret:your-secret-key-must-be-at-least-256-bits-long-for-hmac-sha-256-algorithm}")
     private String secret;
 
     @Value("${jwt.expiration:86400000}") // 기본값: 24시간 (밀리초)
     private Long expiration;
 
-    // 토큰 블랙리스트 (토큰 문자열을 키로, 만료 시간을 값으로 저장)
-    private final Set<String> tokenBlacklist = ConcurrentHashMap.newKeySet();
+    @Value("${jwt.verified-cache.max-size:10000}") // 검증 결과 캐시 최대 항목 수
+    private long verifiedCacheMaxSize;
+
+    // 서명 키와 파서는 설정값이 바뀌지 않으므로 한 번만 생성 (요청마다 HMAC 키/파서를 만들지 않음)
+    private SecretKey signingKey;
+    private JwtParser jwtParser;
+
+    // 최근 검증된 토큰 캐시 (토큰의 SHA-256 다이제스트 -> 사용자 ID, 토큰의 exp 시점에 만료)
+    private Cache<ByteBuffer, VerifiedToken> verifiedTokens;
+
+    // 토큰 검증 시간 (cached: 캐시 적중, verified: 서명 검증 성공, rejected: 무효/만료/폐기)
+    private Timer cachedTimer;
+    private Timer verifiedTimer;
+    private Timer rejectedTimer;
+
+    @PostConstruct
+    void init() {
+        this.cachedTimer = validationTimer("cached");
+        this.verifiedTimer = validationTimer("verified");
+        this.rejectedTimer = validationTimer("rejected");
+        this.signingKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.jwtParser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheMaxSize)
+                .expireAfter(new Expiry<ByteBuffer, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(ByteBuffer key, VerifiedToken value, long currentTime) {
+                        long remainingMillis = value.expiresAtMillis() - System.currentTimeMillis();
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(ByteBuffer key, VerifiedToken value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(ByteBuffer key, VerifiedToken value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
 
     /**
-     * JWT 시크릿 키 생성
+     * JWT 시크릿 키 조회
      */
     private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        return signingKey;
     }
 
     /**
@@ -43,6 +100,7 @@ public class JwtUtil {
         Date expiryDate = new Date(now.getTime() + expiration);
 
         return Jwts.builder()
+                .id(UUID.randomUUID().toString()) // jti: 로그아웃 시 폐기 키로 사용
                 .subject(userId.toString())
                 .issuedAt(now)
                 .expiration(expiryDate)
@@ -57,92 +115,100 @@ public class JwtUtil {
      * @return 사용자 ID (UUID)
      */
     public UUID getUserIdFromToken(String token) {
+        VerifiedToken cached = verifiedTokens.getIfPresent(digest(token));
+        if (cached != null) {
+            return cached.userId();
+        }
         Claims claims = getClaimsFromToken(token);
         return UUID.fromString(claims.getSubject());
     }
 
     /**
-     * JWT 토큰에서 Claims 추출
+     * JWT 토큰을 한 번만 검증하고 사용자 ID 반환 (요청마다 호출되는 인증 필터용)
+     * 최근 검증된 토큰은 캐시에서 바로 반환하여 HMAC 검증과 JSON 파싱을 생략
      * 
      * @param token JWT 토큰
-     * @return Claims
+     * @return 유효한 토큰이면 사용자 ID, 아니면 null
      */
-    private Claims getClaimsFromToken(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-    }
+    public UUID authenticate(String token) {
+        if (token == null) {
+            return null;
+        }
+
+        long startNanos = System.nanoTime();
+        ByteBuffer key = digest(token);
+        VerifiedToken cached = verifiedTokens.getIfPresent(key);
+        if (cached != null) {
+            boolean valid = cached.expiresAtMillis() > System.currentTimeMillis()
+                    && !tokenRevocationStore.isRevoked(cached.revocationKey(), cached.expiresAtMillis());
+            record(valid ? cachedTimer : rejectedTimer, startNanos);
+            return valid ? cached.userId() : null;
+        }
 
-    /**
-     * JWT 토큰 유효성 검증
-     * 
-     * @param token JWT 토큰
-     * @return 유효한 토큰인지 여부
-     */
-    public boolean validateToken(String token) {
         try {
-            // 블랙리스트에 있는 토큰은 무효
-            if (isBlacklisted(token)) {
-                return false;
+            Claims claims = getClaimsFromToken(token);
+            UUID userId = UUID.fromString(claims.getSubject());
+            if (claims.getExpiration() != null) {
+                VerifiedToken verified = new VerifiedToken(
+                        userId, revocationKey(claims, key), claims.getExpiration().getTime());
+                if (tokenRevocationStore.isRevoked(verified.revocationKey(), verified.expiresAtMillis())) {
+                    record(rejectedTimer, startNanos);
+                    return null;
+                }
+                verifiedTokens.put(key, verified);
             }
-            
-            getClaimsFromToken(token);
-            return true;
+            record(verifiedTimer, startNanos);
+            return userId;
         } catch (Exception e) {
-            return false;
+            record(rejectedTimer, startNanos);
+            return null;
         }
     }
 
     /**
-     * 토큰을 블랙리스트에 추가 (로그아웃 시 호출)
+     * JWT 토큰에서 Claims 추출
      * 
-     * @param token 무효화할 JWT 토큰
+     * @param token JWT 토큰
+     * @return Claims
      */
-    public void addToBlacklist(String token) {
-        if (token != null && validateTokenStructure(token)) {
-            tokenBlacklist.add(token);
-        }
+    private Claims getClaimsFromToken(String token) {
+        return jwtParser.parseSignedClaims(token).getPayload();
     }
 
     /**
-     * 토큰이 블랙리스트에 있는지 확인
+     * JWT 토큰 유효성 검증
      * 
-     * @param token 확인할 JWT 토큰
-     * @return 블랙리스트에 있으면 true
+     * @param token JWT 토큰
+     * @return 유효한 토큰인지 여부
      */
-    public boolean isBlacklisted(String token) {
-        return tokenBlacklist.contains(token);
+    public boolean validateToken(String token) {
+        // 폐기된 토큰은 무효 (authenticate에서 확인)
+        return authenticate(token) != null;
     }
 
     /**
-     * 토큰 구조만 검증 (만료 여부는 무시)
+     * 토큰 폐기 (로그아웃 시 호출)
+     * 토큰 원문 대신 jti(없으면 다이제스트)와 만료 시간만 저장
      * 
-     * @param token JWT 토큰
-     * @return 유효한 구조인지 여부
+     * @param token 무효화할 JWT 토큰
+     * @return 폐기 기록 여부 (유효하지 않거나 이미 만료된 토큰이면 false, 기록에 실패하면 예외)
      */
-    private boolean validateTokenStructure(String token) {
+    public boolean addToBlacklist(String token) {
+        if (token == null) {
+            return false;
+        }
+        ByteBuffer key;
+        Claims claims;
         try {
-            getClaimsFromToken(token);
-            return true;
+            key = digest(token);
+            claims = getClaimsFromToken(token);
         } catch (Exception e) {
             return false;
         }
-    }
-
-    /**
-     * 만료된 토큰을 블랙리스트에서 제거 (메모리 최적화)
-     * 주기적으로 호출하여 메모리를 정리할 수 있음
-     */
-    public void removeExpiredTokens() {
-        tokenBlacklist.removeIf(token -> {
-            try {
-                return isTokenExpired(token);
-            } catch (Exception e) {
-                return true; // 파싱 실패 시 제거
-            }
-        });
+        verifiedTokens.invalidate(key);
+        // 저장 실패를 로그아웃 성공으로 응답하지 않도록 예외는 그대로 전달
+        return claims.getExpiration() != null
+                && tokenRevocationStore.revoke(revocationKey(claims, key), claims.getExpiration().getTime());
     }
 
     /**
@@ -160,5 +226,46 @@ public class JwtUtil {
             return true;
         }
     }
+
+    /**
+     * 토큰의 SHA-256 다이제스트 (캐시 키로 사용, 토큰 원문을 보관하지 않음)
+     */
+    private ByteBuffer digest(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            return ByteBuffer.wrap(messageDigest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 폐기 키: jti가 있으면 jti, 없으면(jti 도입 전 발급된 토큰) 다이제스트 앞 16바이트
+     */
+    private UUID revocationKey(Claims claims, ByteBuffer digest) {
+        if (claims.getId() != null) {
+            try {
+                return UUID.fromString(claims.getId());
+            } catch (IllegalArgumentException e) {
+                // UUID 형식이 아닌 jti는 다이제스트로 대체
+            }
+        }
+        return new UUID(digest.getLong(0), digest.getLong(8));
+    }
+
+    private Timer validationTimer(String result) {
+        return Timer.builder("auth.jwt.validation")
+                .description("요청 인증 시 JWT 검증 시간")
+                .tag("result", result)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private static void record(Timer timer, long startNanos) {
+        timer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private record VerifiedToken(UUID userId, UUID revocationKey, long expiresAtMillis) {
+    }
 }
 
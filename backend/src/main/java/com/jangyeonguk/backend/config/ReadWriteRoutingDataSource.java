@@ -0,0 +1,84 @@
+package com.jangyeonguk.backend.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 전용 트랜잭션은 복제본(replica)으로, 나머지는 원본(primary)으로 보내는 DataSource
+ * 복제본이 여러 개면 커넥션을 가져올 때마다 번갈아 사용
+ * 트랜잭션의 읽기 전용 여부는 커넥션을 실제로 가져올 때 확인하므로 LazyConnectionDataSourceProxy로 감싸서 사용해야 함
+ * pinToPrimary()로 묶인 스레드(자신의 변경 직후 요청)는 읽기 전용 트랜잭션도 원본으로 보냄
+ * 복제본으로 가는 트랜잭션은 ReplicaReadJpaDialect가 2차 캐시에 쓰지 않도록 함 (복제 지연된 값이 캐시되지 않도록)
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final String PRIMARY = "primary";
+    private static final ThreadLocal<Boolean> PINNED = new ThreadLocal<>();
+
+    private final List<String> replicaKeys = new ArrayList<>();
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    public ReadWriteRoutingDataSource(DataSource primary, List<? extends DataSource> replicas) {
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (int i = 0; i < replicas.size(); i++) {
+            String key = "replica-" + i;
+            targets.put(key, replicas.get(i));
+            replicaKeys.add(key);
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    /**
+     * 현재 스레드의 읽기 전용 트랜잭션도 원본으로 보냄 (close하면 이전 상태로 복원)
+     *
+     * @param pinned 원본 고정 여부
+     */
+    public static Scope pinToPrimary(boolean pinned) {
+        Boolean previous = PINNED.get();
+        PINNED.set(pinned);
+        return () -> {
+            if (previous != null) {
+                PINNED.set(previous);
+            } else {
+                PINNED.remove();
+            }
+        };
+    }
+
+    /**
+     * 현재 스레드에서 시작하는 트랜잭션이 복제본을 사용하는지 확인
+     *
+     * @param readOnly 트랜잭션의 읽기 전용 여부
+     */
+    public boolean routesToReplica(boolean readOnly) {
+        return readOnly && !replicaKeys.isEmpty() && !Boolean.TRUE.equals(PINNED.get());
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        boolean readOnly = TransactionSynchronizationManager.isActualTransactionActive()
+                && TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+        if (!routesToReplica(readOnly)) {
+            return PRIMARY;
+        }
+        return replicaKeys.get(Math.floorMod(nextReplica.getAndIncrement(), replicaKeys.size()));
+    }
+
+    /**
+     * 원본 고정 범위 (try-with-resources용)
+     */
+    public interface Scope extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,70 @@
+package com.jangyeonguk.backend.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.lang.NonNull;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * 자신이 쓴 데이터 읽기(read-your-writes) 보장
+ * 변경 요청(GET/HEAD/OPTIONS 외)은 항상 원본을 사용하고, 변경에 성공한 클라이언트는
+ * 복제 지연보다 긴 window 동안 읽기 요청도 원본으로 고정함
+ * 클라이언트는 인증된 요청이면 사용자로만 구분하고(같은 IP(NAT, 프록시)의 다른 사용자까지 원본으로 보내지 않도록),
+ * 로그인 전 변경(회원가입 등)처럼 사용자를 알 수 없는 요청만 IP로 구분
+ * 인증 정보를 사용하므로 보안 필터 뒤에서 실행
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    private static final Set<String> SAFE_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+    private static final int MAX_TRACKED_CLIENTS = 100_000;
+
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReadYourWritesFilter(long windowMs) {
+        this.recentWriters = Caffeine.newBuilder()
+                .maximumSize(MAX_TRACKED_CLIENTS)
+                .expireAfterWrite(Duration.ofMillis(windowMs))
+                .build();
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+        boolean write = !SAFE_METHODS.contains(request.getMethod());
+        String clientKey = clientKey(request);
+        boolean pinned = write || recentWriters.getIfPresent(clientKey) != null;
+
+        try (ReadWriteRoutingDataSource.Scope ignored = ReadWriteRoutingDataSource.pinToPrimary(pinned)) {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (write && response.getStatus() < 400) {
+                recentWriters.put(clientKey, Boolean.TRUE);
+            }
+        }
+    }
+
+    /**
+     * 헬퍼 메서드: 클라이언트 키 (인증된 요청은 사용자 ID(principal), 아니면 IP)
+     */
+    private static String clientKey(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken) {
+            return "ip:" + request.getRemoteAddr();
+        }
+        return "user:" + authentication.getName();
+    }
+}
@@ -0,0 +1,52 @@
+package com.jangyeonguk.backend.config;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionException;
+
+import java.sql.SQLException;
+
+/**
+ * 복제본으로 가는 읽기 전용 트랜잭션에서는 2차 캐시(엔티티, 쿼리 결과)에 쓰지 않는 JpaDialect
+ * 복제본은 원본보다 늦으므로, 복제본에서 읽은 행을 캐시에 넣으면 원본에서 이미 바뀌어 캐시에서 지워진 이전 값이
+ * 다시 캐시되어 원본을 사용하는 요청(변경, 변경 직후 조회)에도 캐시가 만료될 때까지 보임
+ * 이런 트랜잭션은 CacheMode.GET으로 캐시 조회만 하고, 트랜잭션이 끝나면 세션의 이전 모드로 되돌림 (open-in-view 세션 재사용 대비)
+ */
+public class ReplicaReadJpaDialect extends HibernateJpaDialect {
+
+    private final ReadWriteRoutingDataSource routingDataSource;
+
+    public ReplicaReadJpaDialect(ReadWriteRoutingDataSource routingDataSource) {
+        this.routingDataSource = routingDataSource;
+    }
+
+    @Override
+    public Object beginTransaction(EntityManager entityManager, TransactionDefinition definition)
+            throws PersistenceException, SQLException, TransactionException {
+        Object transactionData = super.beginTransaction(entityManager, definition);
+        if (!routingDataSource.routesToReplica(definition.isReadOnly())) {
+            return transactionData;
+        }
+        Session session = entityManager.unwrap(Session.class);
+        CacheMode previousCacheMode = session.getCacheMode();
+        session.setCacheMode(CacheMode.GET);
+        return new ReplicaReadTransactionData(transactionData, session, previousCacheMode);
+    }
+
+    @Override
+    public void cleanupTransaction(Object transactionData) {
+        if (transactionData instanceof ReplicaReadTransactionData replicaRead) {
+            replicaRead.session().setCacheMode(replicaRead.previousCacheMode());
+            super.cleanupTransaction(replicaRead.delegate());
+            return;
+        }
+        super.cleanupTransaction(transactionData);
+    }
+
+    private record ReplicaReadTransactionData(Object delegate, Session session, CacheMode previousCacheMode) {
+    }
+}
@@ -1,5 +1,6 @@
 package com.jangyeonguk.backend.config;
 
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -26,6 +27,12 @@ public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
 
+    @Value("${server.port:8080}")
+    private int serverPort;
+
+    @Value("${management.server.port:-1}")
+    private int managementPort;
+
     @Value("#{'${app.cors.allowed-origins:http://localhost:5173,http://www.localhost:5173}'.split(',')}")
     private List<String> allowedOrigins;
 
@@ -38,8 +45,9 @@ public class SecurityConfig {
     public CorsConfigurationSource corsConfigurationSource() {
         CorsConfiguration configuration = new CorsConfiguration();
         configuration.setAllowedOrigins(allowedOrigins.stream().map(String::trim).collect(Collectors.toList()));
-        configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "OPTIONS"));
+        configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS"));
         configuration.setAllowedHeaders(List.of("*"));
+        configuration.setExposedHeaders(List.of("ETag")); // PATCH 응답의 객체 버전
         configuration.setAllowCredentials(true);
         configuration.setMaxAge(3600L);
         
@@ -56,11 +64,26 @@ public class SecurityConfig {
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
                 .authorizeHttpRequests(auth -> auth
+                        // long-poll(DeferredResult) 응답의 async 디스패치는 최초 요청에서 이미 인증됨
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR).permitAll()
                         .requestMatchers("/api/users/signup", "/api/users/login").permitAll()
                         .requestMatchers("/swagger-ui/**", "/v3/api-docs/**", "/swagger-ui.html").permitAll()
+                        // 공개 포트의 헬스체크 (health 그룹의 추가 경로)
+                        .requestMatchers("/livez", "/readyz").permitAll()
+                        // 헬스체크와 Prometheus 수집기는 외부에 공개하지 않는 관리 포트에서만 JWT 없이 조회 (지표에는 방/사용자 ID가 없음)
+                        .requestMatchers(request -> isManagementPort(request.getLocalPort())
+                                && (request.getRequestURI().equals("/actuator/prometheus")
+                                || request.getRequestURI().startsWith("/actuator/health"))).permitAll()
                         .anyRequest().authenticated()
                 );
         return http.build();
     }
+
+    /**
+     * 관리 포트로 들어온 요청인지 확인 (관리 포트를 공개 포트와 같게 설정하면 인증 없이 허용하지 않음)
+     */
+    private boolean isManagementPort(int localPort) {
+        return managementPort > 0 && managementPort != serverPort && localPort == managementPort;
+    }
 }
 
@@ -0,0 +1,78 @@
+package com.jangyeonguk.backend.config;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 요청 단위 SQL 실행 횟수/누적 DB 시간
+ * 현재 스레드에 묶인 카운터에 DataSource 프록시(SqlStatementListener)가 실행 결과를 더함
+ * 방 writer처럼 다른 스레드에서 요청 대신 SQL을 실행할 때는 open()으로 요청의 카운터를 넘겨받아 사용
+ */
+public final class SqlStatementCounter {
+
+    private static final ThreadLocal<SqlStatementCounter> CURRENT = new ThreadLocal<>();
+
+    private final AtomicInteger statements = new AtomicInteger();
+    private final AtomicLong elapsedMillis = new AtomicLong();
+
+    /**
+     * 현재 스레드에 묶인 카운터 (요청 처리 중이 아니면 null)
+     */
+    public static SqlStatementCounter current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 현재 스레드에 카운터를 묶음 (close하면 이전 카운터로 복원)
+     *
+     * @param counter 묶을 카운터 (null이면 집계하지 않음)
+     */
+    public static Scope open(SqlStatementCounter counter) {
+        SqlStatementCounter previous = CURRENT.get();
+        CURRENT.set(counter);
+        return () -> {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        };
+    }
+
+    void record(long elapsedMillis) {
+        statements.incrementAndGet();
+        this.elapsedMillis.addAndGet(elapsedMillis);
+    }
+
+    /**
+     * 다른 카운터의 집계를 더함 (다시 실행될 수 있는 작업을 따로 집계했다가 결과가 정해진 실행만 반영할 때 사용)
+     *
+     * @param other 더할 카운터
+     */
+    public void add(SqlStatementCounter other) {
+        statements.addAndGet(other.getStatements());
+        elapsedMillis.addAndGet(other.getElapsedMillis());
+    }
+
+    /**
+     * 실행한 SQL 문 수 (JDBC 배치는 한 번으로 셈)
+     */
+    public int getStatements() {
+        return statements.get();
+    }
+
+    /**
+     * SQL 실행에 걸린 누적 시간 (ms)
+     */
+    public long getElapsedMillis() {
+        return elapsedMillis.get();
+    }
+
+    /**
+     * 카운터를 묶은 범위 (try-with-resources용)
+     */
+    public interface Scope extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
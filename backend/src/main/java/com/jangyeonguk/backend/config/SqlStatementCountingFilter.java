@@ -0,0 +1,94 @@
+package com.jangyeonguk.backend.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HTTP 요청별 SQL 실행 횟수/누적 DB 시간 집계
+ * 요청마다 SqlStatementCounter를 묶고, 끝나면 엔드포인트(URI 패턴)별 지표로 기록
+ * 인증 필터에서 실행되는 SQL도 포함하도록 보안 필터보다 먼저 실행
+ * long-poll/SSE 같은 비동기 요청은 첫 디스패치에서 실행된 SQL만 집계
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class SqlStatementCountingFilter extends OncePerRequestFilter {
+
+    public static final String STATEMENT_COUNT_HEADER = "X-SQL-Statement-Count";
+    public static final String STATEMENT_TIME_HEADER = "X-SQL-Time-Ms";
+
+    private final MeterRegistry meterRegistry;
+    private final boolean responseHeaderEnabled;
+
+    public SqlStatementCountingFilter(
+            MeterRegistry meterRegistry,
+            @Value("${db.statements.response-header.enabled:false}") boolean responseHeaderEnabled) {
+        this.meterRegistry = meterRegistry;
+        this.responseHeaderEnabled = responseHeaderEnabled;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+        SqlStatementCounter counter = new SqlStatementCounter();
+        try (SqlStatementCounter.Scope ignored = SqlStatementCounter.open(counter)) {
+            filterChain.doFilter(request, response);
+        } finally {
+            // 본문이 있는 응답은 SqlStatementHeaderAdvice가 본문을 쓰기 전에 헤더를 붙임 (본문이 없는 응답만 여기서 처리)
+            if (!response.isCommitted()) {
+                writeHeaders(response, counter);
+            }
+            record(request, counter);
+        }
+    }
+
+    /**
+     * 개발 모드(db.statements.response-header.enabled)일 때 SQL 수/시간을 응답 헤더로 노출
+     */
+    private void writeHeaders(HttpServletResponse response, SqlStatementCounter counter) {
+        if (responseHeaderEnabled) {
+            response.setHeader(STATEMENT_COUNT_HEADER, String.valueOf(counter.getStatements()));
+            response.setHeader(STATEMENT_TIME_HEADER, String.valueOf(counter.getElapsedMillis()));
+        }
+    }
+
+    /**
+     * 헬퍼 메서드: 엔드포인트별 SQL 수/시간 기록 (매핑되지 않은 요청은 URI 수만큼 시계열이 늘어나지 않도록 제외)
+     */
+    private void record(HttpServletRequest request, SqlStatementCounter counter) {
+        if (!(request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE) instanceof String uri)) {
+            return;
+        }
+        DistributionSummary.builder("db.request.statements")
+                .description("요청당 SQL 실행 횟수")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(counter.getStatements());
+        Timer.builder("db.request.time")
+                .description("요청당 누적 SQL 실행 시간")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(counter.getElapsedMillis(), TimeUnit.MILLISECONDS);
+    }
+}
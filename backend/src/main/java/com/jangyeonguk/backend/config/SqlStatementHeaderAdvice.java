@@ -0,0 +1,46 @@
+package com.jangyeonguk.backend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.lang.NonNull;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * 개발 모드(db.statements.response-header.enabled)에서 응답 본문을 쓰기 직전에 SQL 수/시간 헤더를 붙임
+ * 본문을 쓰면 응답이 커밋되어 SqlStatementCountingFilter가 끝날 때는 헤더를 추가할 수 없기 때문
+ */
+@ControllerAdvice
+public class SqlStatementHeaderAdvice implements ResponseBodyAdvice<Object> {
+
+    private final boolean enabled;
+
+    public SqlStatementHeaderAdvice(@Value("${db.statements.response-header.enabled:false}") boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @Override
+    public boolean supports(@NonNull MethodParameter returnType,
+                            @NonNull Class<? extends HttpMessageConverter<?>> converterType) {
+        return enabled;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body,
+                                  @NonNull MethodParameter returnType,
+                                  @NonNull MediaType selectedContentType,
+                                  @NonNull Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  @NonNull ServerHttpRequest request,
+                                  @NonNull ServerHttpResponse response) {
+        SqlStatementCounter counter = SqlStatementCounter.current();
+        if (counter != null) {
+            response.getHeaders().set(SqlStatementCountingFilter.STATEMENT_COUNT_HEADER, String.valueOf(counter.getStatements()));
+            response.getHeaders().set(SqlStatementCountingFilter.STATEMENT_TIME_HEADER, String.valueOf(counter.getElapsedMillis()));
+        }
+        return body;
+    }
+}
@@ -0,0 +1,93 @@
+package com.jangyeonguk.backend.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.QueryType;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryUtils;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DataSource 프록시의 SQL 실행 리스너
+ * 실행 결과를 현재 요청의 카운터(SqlStatementCounter)와 지표(db.statements)에 더하고,
+ * 임계치보다 오래 걸린 SQL은 바인딩된 파라미터와 함께 WARN으로 기록
+ */
+@Slf4j
+class SqlStatementListener implements QueryExecutionListener {
+
+    private static final int MAX_PARAMETER_LENGTH = 100; // 이미지 데이터 같은 긴 값은 잘라서 기록
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final long slowThresholdMs;
+
+    SqlStatementListener(ObjectProvider<MeterRegistry> meterRegistry, long slowThresholdMs) {
+        this.meterRegistry = meterRegistry;
+        this.slowThresholdMs = slowThresholdMs;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        long elapsedMillis = execInfo.getElapsedTime();
+
+        SqlStatementCounter counter = SqlStatementCounter.current();
+        if (counter != null) {
+            counter.record(elapsedMillis);
+        }
+
+        // DataSource가 MeterRegistry보다 먼저 만들어지므로 지표는 등록된 뒤부터 기록
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry != null) {
+            Timer.builder("db.statements")
+                    .description("SQL 실행 시간")
+                    .tag("type", queryType(queryInfoList).name())
+                    .tag("outcome", execInfo.isSuccess() ? "SUCCESS" : "ERROR")
+                    .register(registry)
+                    .record(elapsedMillis, TimeUnit.MILLISECONDS);
+        }
+
+        if (elapsedMillis >= slowThresholdMs) {
+            log.warn("느린 SQL ({}ms, 배치: {}): {}", elapsedMillis, execInfo.isBatch(), describe(queryInfoList));
+        }
+    }
+
+    private static QueryType queryType(List<QueryInfo> queryInfoList) {
+        return queryInfoList.isEmpty() ? QueryType.OTHER : QueryUtils.getQueryType(queryInfoList.get(0).getQuery());
+    }
+
+    /**
+     * 헬퍼 메서드: SQL과 바인딩된 파라미터를 한 줄로 변환
+     */
+    private static String describe(List<QueryInfo> queryInfoList) {
+        StringJoiner entries = new StringJoiner(" | ");
+        for (QueryInfo queryInfo : queryInfoList) {
+            StringBuilder entry = new StringBuilder(queryInfo.getQuery());
+            for (List<ParameterSetOperation> parameters : queryInfo.getParametersList()) {
+                StringJoiner values = new StringJoiner(", ", " [", "]");
+                for (ParameterSetOperation parameter : parameters) {
+                    Object[] args = parameter.getArgs();
+                    values.add(args[0] + "=" + (args.length > 1 ? abbreviate(args[1]) : "null"));
+                }
+                entry.append(values);
+            }
+            entries.add(entry);
+        }
+        return entries.toString();
+    }
+
+    private static String abbreviate(Object value) {
+        String text = String.valueOf(value);
+        return text.length() <= MAX_PARAMETER_LENGTH ? text : text.substring(0, MAX_PARAMETER_LENGTH) + "...";
+    }
+}
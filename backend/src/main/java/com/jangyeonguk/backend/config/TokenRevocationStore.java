@@ -0,0 +1,221 @@
+package com.jangyeonguk.backend.config;
+
+import com.jangyeonguk.backend.entity.RevokedToken;
+import com.jangyeonguk.backend.repository.RevokedTokenRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 폐기(로그아웃)된 JWT 저장소
+ * 토큰 원문 대신 jti(또는 다이제스트)를 키로, 토큰 만료 시간 단위 버킷에 나눠 보관
+ * 조회는 토큰의 exp로 버킷을 바로 찾으므로 O(1)이며 객체를 생성하지 않고,
+ * 만료된 버킷은 통째로 버려지므로 정리 비용이 버킷당 O(1)
+ * 폐기 기록은 DB(revoked_tokens)에도 저장되어 서버 재시작 후에도 로그아웃된 토큰이 되살아나지 않고,
+ * 다른 인스턴스에서 폐기된 토큰은 주기적으로 DB에서 새 기록만 읽어서 반영 (최대 sync-interval만큼 늦게 반영)
+ * 메모리가 가득 차면 DB에만 기록하고, 그 토큰들이 만료될 때까지 메모리에 없는 토큰은 DB로 확인
+ */
+@Slf4j
+@Component
+public class TokenRevocationStore {
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final long bucketMillis;
+    private final int maxEntries;
+
+    // 링 버퍼: 슬롯 = (exp / bucketMillis) % 길이, 최대 토큰 수명만큼의 버킷을 담을 수 있는 크기
+    private final AtomicReferenceArray<Bucket> buckets;
+    // 링 범위를 벗어난 만료 시간(설정 변경 등)을 위한 예비 저장소 (토큰 키 -> 만료 시간)
+    private final Map<UUID, Long> overflow = new ConcurrentHashMap<>();
+    private final AtomicInteger size = new AtomicInteger();
+    // 메모리에 담지 못하고 DB에만 기록한 토큰 중 가장 늦은 만료 시간 (이 시각 전까지는 메모리에 없으면 DB 확인)
+    private final AtomicLong spilledUntil = new AtomicLong();
+    // 다른 인스턴스의 폐기 기록을 어디까지 읽었는지 (revoked_at 기준, load() 전에는 null)
+    private volatile OffsetDateTime syncedUntil;
+
+    // 커밋이 늦은 트랜잭션의 기록을 놓치지 않도록 이미 읽은 구간도 이만큼 겹쳐서 다시 읽음 (중복 반영은 무시됨)
+    private static final Duration SYNC_OVERLAP = Duration.ofSeconds(60);
+
+    public TokenRevocationStore(
+            RevokedTokenRepository revokedTokenRepository,
+            @Value("${jwt.expiration:86400000}") long tokenLifetimeMillis,
+            @Value("${jwt.revocation.bucket-ms:60000}") long bucketMillis,
+            @Value("${jwt.revocation.max-entries:200000}") int maxEntries) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.bucketMillis = bucketMillis;
+        this.maxEntries = maxEntries;
+        this.buckets = new AtomicReferenceArray<>((int) (tokenLifetimeMillis / bucketMillis) + 2);
+    }
+
+    /**
+     * 서버 시작 시 아직 만료되지 않은 폐기 기록을 DB에서 복원 (StartupRecovery가 요청을 받기 전에 호출)
+     */
+    public void load() {
+        OffsetDateTime now = OffsetDateTime.now();
+        List<RevokedToken> revokedTokens = revokedTokenRepository.findByExpiresAtAfter(now);
+        syncedUntil = remember(revokedTokens, now);
+        log.info("폐기된 토큰 {}개를 복원했습니다.", revokedTokens.size());
+    }
+
+    /**
+     * 다른 인스턴스에서 폐기된 토큰 반영 (마지막으로 읽은 이후에 기록된 행만 조회)
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.sync-interval-ms:5000}")
+    public void syncFromDatabase() {
+        OffsetDateTime since = syncedUntil;
+        if (since == null) {
+            return; // 아직 load() 전
+        }
+        List<RevokedToken> revokedTokens = revokedTokenRepository.findByRevokedAtAfterAndExpiresAtAfter(
+                since.minus(SYNC_OVERLAP), OffsetDateTime.now());
+        syncedUntil = remember(revokedTokens, since);
+    }
+
+    /**
+     * 토큰 폐기
+     *
+     * @param tokenKey 토큰 키 (jti 또는 다이제스트)
+     * @param expiresAtMillis 토큰 만료 시간 (epoch 밀리초)
+     * @return 폐기 기록 여부 (이미 만료된 토큰이면 false, DB 저장에 실패하면 예외)
+     */
+    public boolean revoke(UUID tokenKey, long expiresAtMillis) {
+        if (expiresAtMillis <= System.currentTimeMillis()) {
+            return false; // 이미 만료된 토큰은 기록할 필요 없음
+        }
+
+        revokedTokenRepository.save(RevokedToken.builder()
+                .tokenKey(tokenKey)
+                .expiresAt(OffsetDateTime.ofInstant(Instant.ofEpochMilli(expiresAtMillis), ZoneOffset.UTC))
+                .build());
+        remember(tokenKey, expiresAtMillis);
+        return true;
+    }
+
+    /**
+     * 토큰 폐기 여부 확인 (요청마다 호출되므로 객체를 생성하지 않음)
+     *
+     * @param tokenKey 토큰 키 (jti 또는 다이제스트)
+     * @param expiresAtMillis 토큰 만료 시간 (epoch 밀리초)
+     * @return 폐기된 토큰이면 true
+     */
+    public boolean isRevoked(UUID tokenKey, long expiresAtMillis) {
+        if (isRevokedInMemory(tokenKey, expiresAtMillis)) {
+            return true;
+        }
+        // 메모리에 담지 못한 폐기 기록이 남아 있는 동안만 DB 확인
+        return spilledUntil.get() > System.currentTimeMillis() && revokedTokenRepository.existsById(tokenKey);
+    }
+
+    private boolean isRevokedInMemory(UUID tokenKey, long expiresAtMillis) {
+        long epoch = expiresAtMillis / bucketMillis;
+        Bucket bucket = buckets.get(slotOf(epoch));
+        if (bucket != null && bucket.epoch == epoch && bucket.keys.contains(tokenKey)) {
+            return true;
+        }
+        return !overflow.isEmpty() && overflow.containsKey(tokenKey);
+    }
+
+    /**
+     * 만료된 버킷 정리
+     * 버킷 안의 토큰은 모두 버킷 끝 시각 이전에 만료되므로 버킷 단위로 통째로 버림
+     */
+    @Scheduled(fixedRateString = "${jwt.revocation.sweep-interval-ms:60000}")
+    public void sweepExpired() {
+        long now = System.currentTimeMillis();
+        long currentEpoch = now / bucketMillis;
+
+        for (int slot = 0; slot < buckets.length(); slot++) {
+            Bucket bucket = buckets.get(slot);
+            if (bucket != null && bucket.epoch < currentEpoch && buckets.compareAndSet(slot, bucket, null)) {
+                size.addAndGet(-bucket.keys.size());
+            }
+        }
+        overflow.entrySet().removeIf(entry -> {
+            boolean expired = entry.getValue() <= now;
+            if (expired) {
+                size.decrementAndGet();
+            }
+            return expired;
+        });
+
+        revokedTokenRepository.deleteExpired(OffsetDateTime.now());
+    }
+
+    /**
+     * DB에서 읽은 폐기 기록 반영
+     *
+     * @return 반영한 기록 중 가장 늦은 폐기 일시 (없으면 since)
+     */
+    private OffsetDateTime remember(List<RevokedToken> revokedTokens, OffsetDateTime since) {
+        OffsetDateTime latest = since;
+        for (RevokedToken revokedToken : revokedTokens) {
+            remember(revokedToken.getTokenKey(), revokedToken.getExpiresAt().toInstant().toEpochMilli());
+            if (revokedToken.getRevokedAt() != null && revokedToken.getRevokedAt().isAfter(latest)) {
+                latest = revokedToken.getRevokedAt();
+            }
+        }
+        return latest;
+    }
+
+    /**
+     * 메모리에 폐기 기록 추가 (가득 차면 DB에만 기록된 것으로 보고 만료 시까지 DB 확인)
+     */
+    private void remember(UUID tokenKey, long expiresAtMillis) {
+        if (isRevokedInMemory(tokenKey, expiresAtMillis)) {
+            return; // 이미 반영됨 (동기화 구간이 겹쳐서 다시 읽은 기록)
+        }
+        if (size.get() >= maxEntries) {
+            long previous = spilledUntil.getAndAccumulate(expiresAtMillis, Math::max);
+            if (previous <= System.currentTimeMillis()) {
+                log.warn("폐기 토큰 저장소가 가득 찼습니다. (최대 {}개) 메모리에 없는 토큰은 DB에서 폐기 여부를 확인합니다.", maxEntries);
+            }
+            return;
+        }
+        addToMemory(tokenKey, expiresAtMillis);
+    }
+
+    private void addToMemory(UUID tokenKey, long expiresAtMillis) {
+        long epoch = expiresAtMillis / bucketMillis;
+        long currentEpoch = System.currentTimeMillis() / bucketMillis;
+
+        // 비어 있거나 이미 만료된 슬롯만 새 버킷으로 교체
+        Bucket bucket = buckets.updateAndGet(slotOf(epoch), current ->
+                (current == null || (current.epoch != epoch && current.epoch < currentEpoch))
+                        ? new Bucket(epoch)
+                        : current);
+
+        boolean added = (bucket.epoch == epoch)
+                ? bucket.keys.add(tokenKey)
+                : overflow.putIfAbsent(tokenKey, expiresAtMillis) == null;
+        if (added) {
+            size.incrementAndGet();
+        }
+    }
+
+    private int slotOf(long epoch) {
+        return (int) Math.floorMod(epoch, (long) buckets.length());
+    }
+
+    private static final class Bucket {
+        private final long epoch; // exp / bucketMillis
+        private final Set<UUID> keys = ConcurrentHashMap.newKeySet();
+
+        private Bucket(long epoch) {
+            this.epoch = epoch;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.jangyeonguk.backend.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    private final CanvasOperationMetricsInterceptor canvasOperationMetricsInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(canvasOperationMetricsInterceptor)
+                .addPathPatterns("/api/rooms/*/canvas-objects", "/api/rooms/*/canvas-objects/**");
+    }
+}
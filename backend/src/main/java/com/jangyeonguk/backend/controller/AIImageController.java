@@ -5,11 +5,16 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jangyeonguk.backend.dto.AIImageConversionRequest;
 import com.jangyeonguk.backend.dto.AIImageConversionResponse;
 import com.jangyeonguk.backend.service.AIImageService;
+import com.jangyeonguk.backend.service.ImageVariantService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.UUID;
 
@@ -23,38 +28,95 @@ public class AIImageController {
     
     /**
      * 선택된 객체들을 AI 이미지로 변환 요청
+     * 변환은 백그라운드 작업으로 실행되므로 202와 함께 변환 ID를 즉시 반환
      * 
      * @param roomId 방 ID
      * @param selectedObjectIds 선택된 객체 ID 목록 (JSON 문자열)
      * @param prompt 프롬프트
-     * @param image 선택 영역 이미지 파일
-     * @return 변환 응답 (변환 ID, 상태, 메시지)
+     * @param variants 생성할 후보 이미지 수 (2 이상이면 후보 중 하나를 선택해야 캔버스에 추가됨)
+     * @param image 선택 영역 이미지 파일 (생략하면 서버에서 선택된 객체를 그려서 사용)
+     * @return 변환 응답 (변환 ID, 상태 QUEUED, 메시지)
      */
     @PostMapping(consumes = "multipart/form-data")
     public ResponseEntity<AIImageConversionResponse> convertToImage(
             @PathVariable UUID roomId,
             @RequestParam("selectedObjectIds") String selectedObjectIdsJson,
             @RequestParam("prompt") String prompt,
-            @RequestParam("image") MultipartFile image) {
+            @RequestParam(value = "variants", required = false) Integer variants,
+            @RequestParam(value = "image", required = false) MultipartFile image) {
         
+        List<UUID> selectedObjectIds;
         try {
             // JSON 문자열을 List<UUID>로 변환
-            List<UUID> selectedObjectIds = objectMapper.readValue(
+            selectedObjectIds = objectMapper.readValue(
                 selectedObjectIdsJson, 
                 new TypeReference<List<UUID>>() {}
             );
-            
-            AIImageConversionRequest request = AIImageConversionRequest.builder()
-                    .selectedObjectIds(selectedObjectIds)
-                    .prompt(prompt)
-                    .image(image)
-                    .build();
-            
-        AIImageConversionResponse response = aiImageService.convertToImage(roomId, request);
-        return ResponseEntity.ok(response);
         } catch (Exception e) {
             throw new IllegalArgumentException("요청 파라미터를 파싱할 수 없습니다: " + e.getMessage());
         }
+        
+        AIImageConversionRequest request = AIImageConversionRequest.builder()
+                .selectedObjectIds(selectedObjectIds)
+                .prompt(prompt)
+                .variants(variants)
+                .image(image)
+                .build();
+        
+        AIImageConversionResponse response = aiImageService.convertToImage(roomId, request);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+    
+    /**
+     * AI 이미지 변환 작업 상태 조회
+     * 
+     * @param roomId 방 ID
+     * @param conversionId 변환 작업 ID
+     * @return 변환 응답 (상태, 메시지, 완료 시 생성된 객체 ID)
+     */
+    @GetMapping("/{conversionId}")
+    public ResponseEntity<AIImageConversionResponse> getConversion(
+            @PathVariable UUID roomId,
+            @PathVariable UUID conversionId) {
+        AIImageConversionResponse response = aiImageService.getConversion(roomId, conversionId);
+        return ResponseEntity.ok(response);
+    }
+    
+    /**
+     * AI 이미지 변환 후보 이미지 조회
+     * 
+     * @param roomId 방 ID
+     * @param conversionId 변환 작업 ID
+     * @param candidateId 후보 ID
+     * @return 후보 이미지 바이트
+     */
+    @GetMapping("/{conversionId}/candidates/{candidateId}/image")
+    public ResponseEntity<byte[]> getCandidateImage(
+            @PathVariable UUID roomId,
+            @PathVariable UUID conversionId,
+            @PathVariable UUID candidateId) {
+        ImageVariantService.ImageContent image = aiImageService.getCandidateImage(roomId, conversionId, candidateId);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(image.mediaType()))
+                .cacheControl(CacheControl.maxAge(Duration.ofHours(1)).cachePrivate())
+                .body(image.data());
+    }
+    
+    /**
+     * AI 이미지 변환 후보 선택 (선택한 후보를 캔버스에 추가하고 나머지 후보 생성은 취소)
+     * 
+     * @param roomId 방 ID
+     * @param conversionId 변환 작업 ID
+     * @param candidateId 선택한 후보 ID
+     * @return 변환 응답 (상태 COMPLETED, 생성된 객체 ID)
+     */
+    @PostMapping("/{conversionId}/candidates/{candidateId}/select")
+    public ResponseEntity<AIImageConversionResponse> selectCandidate(
+            @PathVariable UUID roomId,
+            @PathVariable UUID conversionId,
+            @PathVariable UUID candidateId) {
+        AIImageConversionResponse response = aiImageService.selectCandidate(roomId, conversionId, candidateId);
+        return ResponseEntity.ok(response);
     }
 }
 
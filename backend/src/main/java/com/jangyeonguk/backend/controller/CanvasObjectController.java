@@ -1,14 +1,25 @@
 package com.jangyeonguk.backend.controller;
 
+import com.jangyeonguk.backend.dto.CanvasChangeResponse;
 import com.jangyeonguk.backend.dto.CanvasObjectCreateRequest;
 import com.jangyeonguk.backend.dto.CanvasObjectResponse;
+import com.jangyeonguk.backend.dto.CanvasObjectTransformRequest;
 import com.jangyeonguk.backend.dto.CanvasObjectUpdateRequest;
 import com.jangyeonguk.backend.service.CanvasObjectService;
+import com.jangyeonguk.backend.service.ImageVariantService;
+import com.fasterxml.jackson.databind.JsonNode;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.UUID;
 
@@ -18,6 +29,16 @@ import java.util.UUID;
 public class CanvasObjectController {
     
     private final CanvasObjectService canvasObjectService;
+    private final ImageVariantService imageVariantService;
+    
+    @Value("${canvas.long-poll.default-timeout-ms:25000}")
+    private long defaultLongPollTimeoutMs;
+    
+    @Value("${canvas.long-poll.max-timeout-ms:30000}")
+    private long maxLongPollTimeoutMs;
+    
+    @Value("${canvas.stream.timeout-ms:1800000}")
+    private long streamTimeoutMs;
     
     /**
      * F-02 (1): 캔버스 객체 생성
@@ -46,6 +67,39 @@ public class CanvasObjectController {
         return ResponseEntity.ok(objects);
     }
     
+    /**
+     * 캔버스 변경 대기 (long-poll)
+     * since 이후 방에 변경이 생기거나 타임아웃될 때까지 응답을 보류
+     * since 없이 호출하면 현재 버전을 즉시 반환하므로, 클라이언트는 버전 조회 → 목록 조회 → 대기 순서로 사용
+     * 
+     * @param roomId 방 ID
+     * @param since 클라이언트가 마지막으로 본 버전
+     * @param timeoutMs 최대 대기 시간 (밀리초, 서버 최대값으로 제한)
+     * @return 변경 여부와 방의 현재 버전
+     */
+    @GetMapping("/changes")
+    public DeferredResult<CanvasChangeResponse> waitForChanges(
+            @PathVariable UUID roomId,
+            @RequestParam(required = false) Long since,
+            @RequestParam(required = false) Long timeoutMs) {
+        long timeout = (timeoutMs == null || timeoutMs <= 0)
+                ? defaultLongPollTimeoutMs
+                : Math.min(timeoutMs, maxLongPollTimeoutMs);
+        return canvasObjectService.waitForChanges(roomId, since, timeout);
+    }
+    
+    /**
+     * 캔버스 변경 이벤트 스트림 (SSE)
+     * 구독자별로 크기가 제한된 송신 큐를 사용하며, 큐가 넘치면 RESYNC 이벤트로 스냅샷 재조회를 요청
+     * 
+     * @param roomId 방 ID
+     * @return SSE 스트림 (RESYNC / UPSERT / DELETE 이벤트)
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(@PathVariable UUID roomId) {
+        return canvasObjectService.subscribeChanges(roomId, streamTimeoutMs);
+    }
+    
     /**
      * F-02 (3): Undo - 가장 최근에 생성된 캔버스 객체 삭제
      * 
@@ -85,6 +139,28 @@ public class CanvasObjectController {
         return ResponseEntity.ok(response);
     }
     
+    /**
+     * 이미지 객체의 이미지 조회 (화면 배율에 맞는 축소본)
+     * maxSize 이상인 축소본 중 가장 작은 것을 반환하고, 없으면 원본을 반환
+     * 원본이 바뀌면 응답도 바뀌므로 클라이언트는 객체 버전을 쿼리에 붙여(v={version}) 캐시를 구분
+     * 
+     * @param roomId 방 ID
+     * @param objectId 이미지 객체 ID
+     * @param maxSize 화면에 그릴 긴 변의 픽셀 수 (생략 시 원본)
+     * @return 이미지 바이트
+     */
+    @GetMapping("/{objectId}/image")
+    public ResponseEntity<byte[]> getCanvasObjectImage(
+            @PathVariable UUID roomId,
+            @PathVariable UUID objectId,
+            @RequestParam(required = false) Integer maxSize) {
+        ImageVariantService.ImageContent image = imageVariantService.getImage(roomId, objectId, maxSize);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(image.mediaType()))
+                .cacheControl(CacheControl.maxAge(Duration.ofHours(1)).cachePrivate())
+                .body(image.data());
+    }
+    
     /**
      * 캔버스 객체 업데이트 (objectData 수정)
      * 
@@ -101,5 +177,80 @@ public class CanvasObjectController {
         CanvasObjectResponse response = canvasObjectService.updateCanvasObject(roomId, objectId, request);
         return ResponseEntity.ok(response);
     }
+    
+    /**
+     * 캔버스 객체 부분 수정 (RFC 7396 JSON Merge Patch)
+     * 바뀐 키만 전송하면 되므로 큰 path 객체도 수정 요청이 수 바이트로 줄어듦
+     * If-Match 헤더에 버전을 주면 버전이 다를 때 409를 반환하고,
+     * Prefer: return=minimal 이면 본문 없이 ETag(새 버전)만 반환
+     * 
+     * @param roomId 방 ID
+     * @param objectId 객체 ID
+     * @param ifMatch 클라이언트가 알고 있는 버전 (선택사항)
+     * @param prefer 응답 형식 선호 (선택사항)
+     * @param patch 병합 패치
+     * @return 수정된 캔버스 객체 정보
+     */
+    @PatchMapping(value = "/{objectId}", consumes = {"application/merge-patch+json", MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<CanvasObjectResponse> patchCanvasObject(
+            @PathVariable UUID roomId,
+            @PathVariable UUID objectId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestHeader(value = "Prefer", required = false) String prefer,
+            @RequestBody JsonNode patch) {
+        CanvasObjectResponse response = canvasObjectService.patchCanvasObject(roomId, objectId, patch, parseVersion(ifMatch));
+        return versionedResponse(response, prefer);
+    }
+    
+    /**
+     * 캔버스 객체 변환 (translate / recolor)
+     * 
+     * @param roomId 방 ID
+     * @param objectId 객체 ID
+     * @param ifMatch 클라이언트가 알고 있는 버전 (선택사항)
+     * @param prefer 응답 형식 선호 (선택사항)
+     * @param request 이동량(dx, dy), 색상, 선 두께
+     * @return 수정된 캔버스 객체 정보
+     */
+    @PatchMapping("/{objectId}/transform")
+    public ResponseEntity<CanvasObjectResponse> transformCanvasObject(
+            @PathVariable UUID roomId,
+            @PathVariable UUID objectId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestHeader(value = "Prefer", required = false) String prefer,
+            @RequestBody CanvasObjectTransformRequest request) {
+        CanvasObjectResponse response = canvasObjectService.transformCanvasObject(roomId, objectId, request, parseVersion(ifMatch));
+        return versionedResponse(response, prefer);
+    }
+    
+    /**
+     * 헬퍼 메서드: If-Match 헤더("3", W/"3", 3)에서 버전 추출
+     */
+    private Long parseVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String value = ifMatch.trim();
+        if (value.startsWith("W/")) {
+            value = value.substring(2);
+        }
+        value = value.replace("\"", "");
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("If-Match 헤더의 버전 형식이 올바르지 않습니다: " + ifMatch);
+        }
+    }
+    
+    /**
+     * 헬퍼 메서드: 새 버전을 ETag로 담은 응답 생성
+     */
+    private ResponseEntity<CanvasObjectResponse> versionedResponse(CanvasObjectResponse response, String prefer) {
+        String etag = "\"" + response.getVersion() + "\"";
+        if (prefer != null && prefer.contains("return=minimal")) {
+            return ResponseEntity.noContent().eTag(etag).build();
+        }
+        return ResponseEntity.ok().eTag(etag).body(response);
+    }
 }
 
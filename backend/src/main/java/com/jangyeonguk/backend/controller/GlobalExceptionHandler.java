@@ -1,14 +1,22 @@
 package com.jangyeonguk.backend.controller;
 
+import com.jangyeonguk.backend.exception.AIConversionJobNotFoundException;
+import com.jangyeonguk.backend.exception.AIConversionNotSelectableException;
+import com.jangyeonguk.backend.exception.AuthenticationBusyException;
+import com.jangyeonguk.backend.exception.CanvasObjectNotFoundException;
+import com.jangyeonguk.backend.exception.CanvasObjectVersionConflictException;
 import com.jangyeonguk.backend.exception.InvalidCredentialsException;
 import com.jangyeonguk.backend.exception.InvitationAlreadyAcceptedException;
 import com.jangyeonguk.backend.exception.InvitationExpiredException;
 import com.jangyeonguk.backend.exception.InvitationNotFoundException;
+import com.jangyeonguk.backend.exception.RoomBusyException;
 import com.jangyeonguk.backend.exception.RoomNotFoundException;
+import com.jangyeonguk.backend.exception.TooManyLoginAttemptsException;
 import com.jangyeonguk.backend.exception.UnauthorizedRoomAccessException;
 import com.jangyeonguk.backend.exception.UserAlreadyExistsException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
@@ -81,5 +89,69 @@ public class GlobalExceptionHandler {
         error.put("message", e.getMessage());
         return ResponseEntity.status(HttpStatus.FORBIDDEN).body(error);
     }
+    
+    @ExceptionHandler(RoomBusyException.class)
+    public ResponseEntity<Map<String, String>> handleRoomBusyException(RoomBusyException e) {
+        Map<String, String> error = new HashMap<>();
+        error.put("error", "Room busy");
+        error.put("message", e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(error);
+    }
+    
+    @ExceptionHandler(CanvasObjectNotFoundException.class)
+    public ResponseEntity<Map<String, String>> handleCanvasObjectNotFoundException(CanvasObjectNotFoundException e) {
+        Map<String, String> error = new HashMap<>();
+        error.put("error", "Canvas object not found");
+        error.put("message", e.getMessage());
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+    }
+    
+    @ExceptionHandler(AIConversionJobNotFoundException.class)
+    public ResponseEntity<Map<String, String>> handleAIConversionJobNotFoundException(AIConversionJobNotFoundException e) {
+        Map<String, String> error = new HashMap<>();
+        error.put("error", "Conversion not found");
+        error.put("message", e.getMessage());
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+    }
+    
+    @ExceptionHandler(AIConversionNotSelectableException.class)
+    public ResponseEntity<Map<String, String>> handleAIConversionNotSelectableException(AIConversionNotSelectableException e) {
+        Map<String, String> error = new HashMap<>();
+        error.put("error", "Conversion not selectable");
+        error.put("message", e.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+    }
+    
+    @ExceptionHandler(CanvasObjectVersionConflictException.class)
+    public ResponseEntity<Map<String, String>> handleCanvasObjectVersionConflictException(CanvasObjectVersionConflictException e) {
+        Map<String, String> error = new HashMap<>();
+        error.put("error", "Version conflict");
+        error.put("message", e.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+    }
+    
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<Map<String, String>> handleOptimisticLockingFailureException(ObjectOptimisticLockingFailureException e) {
+        Map<String, String> error = new HashMap<>();
+        error.put("error", "Version conflict");
+        error.put("message", "다른 사용자가 먼저 객체를 수정했습니다. 다시 시도해주세요.");
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+    }
+    
+    @ExceptionHandler(AuthenticationBusyException.class)
+    public ResponseEntity<Map<String, String>> handleAuthenticationBusyException(AuthenticationBusyException e) {
+        Map<String, String> error = new HashMap<>();
+        error.put("error", "Authentication busy");
+        error.put("message", e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(error);
+    }
+    
+    @ExceptionHandler(TooManyLoginAttemptsException.class)
+    public ResponseEntity<Map<String, String>> handleTooManyLoginAttemptsException(TooManyLoginAttemptsException e) {
+        Map<String, String> error = new HashMap<>();
+        error.put("error", "Too many attempts");
+        error.put("message", e.getMessage());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(error);
+    }
 }
 
@@ -0,0 +1,76 @@
+package com.jangyeonguk.backend.controller;
+
+import com.jangyeonguk.backend.dto.PresenceFrameResponse;
+import com.jangyeonguk.backend.dto.PresenceUpdateRequest;
+import com.jangyeonguk.backend.service.PresenceService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/rooms/{roomId}/presence")
+@RequiredArgsConstructor
+public class PresenceController {
+    
+    private final PresenceService presenceService;
+    
+    /**
+     * 방 접속 (presence join)
+     * 
+     * @param roomId 방 ID
+     * @return 현재 presence 프레임
+     */
+    @PostMapping
+    public ResponseEntity<PresenceFrameResponse> join(@PathVariable UUID roomId) {
+        PresenceFrameResponse response = presenceService.join(roomId);
+        return ResponseEntity.ok(response);
+    }
+    
+    /**
+     * heartbeat 및 커서/선택 상태 갱신
+     * 접속 상태가 만료된 경우 410을 반환하므로 클라이언트는 다시 join 해야 함
+     * 
+     * @param roomId 방 ID
+     * @param request 커서 좌표와 선택 객체 (선택사항)
+     */
+    @PutMapping
+    public ResponseEntity<Void> heartbeat(
+            @PathVariable UUID roomId,
+            @RequestBody(required = false) PresenceUpdateRequest request) {
+        boolean alive = presenceService.heartbeat(roomId, request);
+        return alive ? ResponseEntity.noContent().build() : ResponseEntity.status(HttpStatus.GONE).build();
+    }
+    
+    /**
+     * 방 퇴장 (presence leave)
+     * 
+     * @param roomId 방 ID
+     */
+    @DeleteMapping
+    public ResponseEntity<Void> leave(@PathVariable UUID roomId) {
+        presenceService.leave(roomId);
+        return ResponseEntity.noContent().build();
+    }
+    
+    /**
+     * 최신 presence 프레임 조회
+     * since가 최신 프레임 번호와 같으면 본문 없이 204를 반환
+     * 
+     * @param roomId 방 ID
+     * @param since 클라이언트가 마지막으로 받은 프레임 번호
+     * @return 최신 presence 프레임
+     */
+    @GetMapping
+    public ResponseEntity<PresenceFrameResponse> getFrame(
+            @PathVariable UUID roomId,
+            @RequestParam(required = false) Long since) {
+        PresenceFrameResponse frame = presenceService.getFrame(roomId);
+        if (since != null && since.equals(frame.getSequence())) {
+            return ResponseEntity.noContent().build();
+        }
+        return ResponseEntity.ok(frame);
+    }
+}
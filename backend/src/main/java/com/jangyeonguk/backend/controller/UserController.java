@@ -23,11 +23,13 @@ public class UserController {
      * F-00 (1): 회원가입
      * 
      * @param request 회원가입 요청 (email, password, displayName)
+     * @param httpRequest HTTP 요청 (시도 횟수 제한용 클라이언트 IP)
      * @return 생성된 사용자 정보
      */
     @PostMapping("/signup")
-    public ResponseEntity<UserSignupResponse> signup(@RequestBody UserSignupRequest request) {
-        UserSignupResponse response = userService.signup(request);
+    public ResponseEntity<UserSignupResponse> signup(@RequestBody UserSignupRequest request,
+                                                     HttpServletRequest httpRequest) {
+        UserSignupResponse response = userService.signup(request, httpRequest.getRemoteAddr());
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
@@ -35,11 +37,13 @@ public class UserController {
      * F-00 (2): 로그인
      * 
      * @param request 로그인 요청 (email, password)
+     * @param httpRequest HTTP 요청 (시도 횟수 제한용 클라이언트 IP)
      * @return 사용자 정보
      */
     @PostMapping("/login")
-    public ResponseEntity<UserLoginResponse> login(@RequestBody UserLoginRequest request) {
-        UserLoginResponse response = userService.login(request);
+    public ResponseEntity<UserLoginResponse> login(@RequestBody UserLoginRequest request,
+                                                   HttpServletRequest httpRequest) {
+        UserLoginResponse response = userService.login(request, httpRequest.getRemoteAddr());
         return ResponseEntity.ok(response);
     }
 
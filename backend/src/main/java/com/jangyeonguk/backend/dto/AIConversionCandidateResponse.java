@@ -0,0 +1,18 @@
+package com.jangyeonguk.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AIConversionCandidateResponse {
+    private UUID candidateId; // 후보 이미지 ID (이미지는 후보 이미지 조회 API로 받음)
+    private Integer width; // 가로 픽셀
+    private Integer height; // 세로 픽셀
+}
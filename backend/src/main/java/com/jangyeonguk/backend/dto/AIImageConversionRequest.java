@@ -16,6 +16,7 @@ import java.util.UUID;
 public class AIImageConversionRequest {
     private List<UUID> selectedObjectIds; // 선택된 객체 ID 목록
     private String prompt; // 사용자가 입력한 프롬프트
-    private MultipartFile image; // 선택 영역 이미지 파일
+    private Integer variants; // 생성할 후보 이미지 수 (null이면 1, 2 이상이면 후보 중 하나를 선택)
+    private MultipartFile image; // 선택 영역 이미지 파일 (null이면 서버에서 선택된 객체를 래스터라이즈)
 }
 
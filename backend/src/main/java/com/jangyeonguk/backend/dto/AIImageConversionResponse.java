@@ -5,6 +5,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.List;
 import java.util.UUID;
 
 @Data
@@ -13,7 +14,9 @@ import java.util.UUID;
 @AllArgsConstructor
 public class AIImageConversionResponse {
     private UUID conversionId; // 변환 작업 ID
-    private String status; // 변환 상태 (PENDING, PROCESSING, COMPLETED, FAILED)
+    private String status; // 변환 상태 (QUEUED, RUNNING, AWAITING_SELECTION, COMPLETED, FAILED)
     private String message; // 상태 메시지
+    private UUID resultObjectId; // 완료 시 생성된 이미지 캔버스 객체 ID
+    private List<AIConversionCandidateResponse> candidates; // 후보 여러 개를 요청한 경우 선택 가능한 후보 목록
 }
 
@@ -0,0 +1,18 @@
+package com.jangyeonguk.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CanvasChangeResponse {
+    private UUID roomId;
+    private Long version; // 방의 현재 변경 버전 (다음 long-poll 요청의 since 값으로 사용)
+    private Boolean changed; // since 이후 변경이 있었는지 여부 (false면 타임아웃)
+}
@@ -0,0 +1,26 @@
+package com.jangyeonguk.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Getter
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class CanvasObjectEventResponse {
+    private EventType type;
+    private UUID roomId;
+    private UUID objectId; // RESYNC 이벤트에서는 null
+    private Long version; // 이벤트 발생 시점의 방 변경 버전
+    private CanvasObjectResponse object; // 변경 후 객체 상태 (DELETE/RESYNC에서는 null)
+    
+    public enum EventType {
+        UPSERT,   // 객체 생성/수정/복구 (클라이언트는 objectId 기준으로 덮어씀)
+        DELETE,   // 객체 삭제
+        RESYNC    // 이벤트 유실 - 클라이언트는 목록 조회로 스냅샷을 다시 받아야 함
+    }
+}
@@ -19,5 +19,6 @@ public class CanvasObjectResponse {
     private String objectType;
     private String objectData; // JSON 문자열
     private OffsetDateTime createdAt;
+    private Long version; // 낙관적 잠금 버전 (PATCH 시 If-Match 헤더로 전달)
 }
 
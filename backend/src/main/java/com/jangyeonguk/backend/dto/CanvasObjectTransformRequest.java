@@ -0,0 +1,17 @@
+package com.jangyeonguk.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CanvasObjectTransformRequest {
+    private Double dx; // X축 이동량 (translate)
+    private Double dy; // Y축 이동량 (translate)
+    private String color; // 변경할 색상 (recolor)
+    private Double strokeWidth; // 변경할 선 두께
+}
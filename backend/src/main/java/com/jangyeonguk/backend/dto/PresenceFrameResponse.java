@@ -0,0 +1,20 @@
+package com.jangyeonguk.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PresenceFrameResponse {
+    private UUID roomId;
+    private Long sequence; // 프레임 번호 (다음 조회 시 since 값으로 사용)
+    private Integer onlineCount; // 현재 접속 중인 참가자 수
+    private List<PresenceParticipantResponse> participants; // 접속 중인 참가자들의 커서/선택 상태
+}
@@ -0,0 +1,21 @@
+package com.jangyeonguk.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PresenceParticipantResponse {
+    private UUID userId;
+    private String displayName;
+    private Double cursorX;
+    private Double cursorY;
+    private List<UUID> selectedObjectIds;
+}
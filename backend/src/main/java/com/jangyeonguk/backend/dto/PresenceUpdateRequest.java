@@ -0,0 +1,19 @@
+package com.jangyeonguk.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PresenceUpdateRequest {
+    private Double cursorX; // 커서 X 좌표 (캔버스 좌표계)
+    private Double cursorY; // 커서 Y 좌표 (캔버스 좌표계)
+    private List<UUID> selectedObjectIds; // 현재 선택 중인 객체 ID 목록
+}
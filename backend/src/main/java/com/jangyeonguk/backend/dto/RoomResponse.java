@@ -6,6 +6,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.time.OffsetDateTime;
+import java.util.List;
 import java.util.UUID;
 
 @Getter
@@ -20,5 +21,7 @@ public class RoomResponse {
     private OffsetDateTime createdAt;
     private OffsetDateTime lastUpdatedAt;
     private Integer participantCount; // 방 참여자 수
+    private Integer onlineCount; // 현재 접속 중인 참가자 수 (presence 기준)
+    private List<PresenceParticipantResponse> onlineParticipants; // 현재 접속 중인 참가자 목록 (방 상세 조회 시 방 참여자에게만 포함)
 }
 
@@ -0,0 +1,41 @@
+package com.jangyeonguk.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "ai_conversion_candidates")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AIConversionCandidate {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    @Column(name = "candidate_id")
+    private UUID candidateId; // 후보 이미지 아이디
+    
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "conversion_id", nullable = false, foreignKey = @ForeignKey(name = "fk_ai_candidate_job"))
+    private AIConversionJob conversion; // 후보를 생성한 변환 작업
+    
+    @Column(name = "width", nullable = false)
+    private Integer width; // 가로 픽셀
+    
+    @Column(name = "height", nullable = false)
+    private Integer height; // 세로 픽셀
+    
+    @Column(name = "image_data", nullable = false)
+    private byte[] imageData; // 생성된 이미지 (PostgreSQL bytea, 선택되면 캔버스 객체로 옮기고 삭제)
+    
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private OffsetDateTime createdAt; // 생성일시 (후보 표시 순서)
+}
+
@@ -0,0 +1,73 @@
+package com.jangyeonguk.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "ai_conversion_jobs", indexes = @Index(name = "idx_ai_conversion_jobs_status", columnList = "status"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AIConversionJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    @Column(name = "conversion_id")
+    private UUID conversionId; // 변환 작업 아이디 (요청 즉시 클라이언트에 반환)
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "room_id", nullable = false, foreignKey = @ForeignKey(name = "fk_ai_job_room"))
+    private Room room; // 변환 결과가 추가될 방
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "requester_id", nullable = false, foreignKey = @ForeignKey(name = "fk_ai_job_requester"))
+    private User requester; // 변환 요청자 (결과 이미지 객체의 생성자)
+
+    @Column(name = "prompt", nullable = false, columnDefinition = "TEXT")
+    private String prompt; // 프롬프트
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    @Builder.Default
+    private JobStatus status = JobStatus.QUEUED; // 작업 상태
+
+    @Column(name = "variant_count", nullable = false, columnDefinition = "integer default 1") // 기존 행은 1로 채워짐
+    @Builder.Default
+    private Integer variantCount = 1; // 생성할 후보 이미지 수 (2 이상이면 후보 중 하나를 선택해야 객체가 생성됨)
+    
+    @Column(name = "message", columnDefinition = "TEXT")
+    private String message; // 상태 메시지 (실패 사유 등)
+
+    @Column(name = "result_object_id")
+    private UUID resultObjectId; // 완료 시 생성된 이미지 캔버스 객체 아이디
+
+    @Column(name = "owner_instance", length = 100)
+    private String ownerInstance; // 작업을 실행하는 서버 인스턴스 ID
+
+    @Column(name = "lease_expires_at")
+    private OffsetDateTime leaseExpiresAt; // 소유 인스턴스가 주기적으로 연장, 지나면 중단된 작업으로 보고 실패 처리
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private OffsetDateTime createdAt; // 요청일시
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private OffsetDateTime updatedAt; // 마지막 상태 변경일시
+
+    public enum JobStatus {
+        QUEUED,     // 대기 중
+        RUNNING,    // AI 서비스 호출 중
+        AWAITING_SELECTION, // 후보 이미지 생성 완료, 사용자 선택 대기
+        COMPLETED,  // 완료 (이미지 객체 생성됨)
+        FAILED      // 실패
+    }
+}
+
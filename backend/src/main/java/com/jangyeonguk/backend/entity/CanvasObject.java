@@ -46,5 +46,9 @@ public class CanvasObject {
     @Column(name = "is_deleted", nullable = false)
     @Builder.Default // 빌더로 명시하지 않을 경우, 기본값을 false로 설정
     private Boolean isDeleted = false;
+    
+    @Version // 낙관적 잠금, 수정될 때마다 Hibernate가 1씩 증가 (신규 객체는 null로 두어야 INSERT 대상으로 판단됨)
+    @Column(name = "version", nullable = false, columnDefinition = "bigint default 0") // 기존 행은 0으로 채워짐
+    private Long version;
 }
 
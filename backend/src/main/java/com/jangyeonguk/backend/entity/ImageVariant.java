@@ -0,0 +1,48 @@
+package com.jangyeonguk.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "image_variants",
+       uniqueConstraints = @UniqueConstraint(name = "uk_image_variant_object_size", columnNames = {"object_id", "max_dimension"}))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ImageVariant {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    @Column(name = "variant_id")
+    private UUID variantId; // 축소본 아이디
+    
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "object_id", nullable = false, foreignKey = @ForeignKey(name = "fk_image_variant_object"))
+    private CanvasObject canvasObject; // 원본 이미지 캔버스 객체
+    
+    @Column(name = "max_dimension", nullable = false)
+    private Integer maxDimension; // 긴 변 기준 크기 (예: 256, 1024)
+    
+    @Column(name = "width", nullable = false)
+    private Integer width; // 축소본 가로 픽셀
+    
+    @Column(name = "height", nullable = false)
+    private Integer height; // 축소본 세로 픽셀
+    
+    @Column(name = "media_type", nullable = false, length = 50)
+    private String mediaType; // MIME 타입 (image/png)
+    
+    @Column(name = "data", nullable = false)
+    private byte[] data; // 축소본 이미지 (PostgreSQL bytea)
+    
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private OffsetDateTime createdAt; // 생성일시
+}
+
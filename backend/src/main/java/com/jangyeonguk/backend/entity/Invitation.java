@@ -8,7 +8,7 @@ import java.time.OffsetDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "invitations")
+@Table(name = "invitations", indexes = @Index(name = "idx_invitations_status_expires_at", columnList = "status, expires_at"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -0,0 +1,34 @@
+package com.jangyeonguk.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.SourceType;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "revoked_tokens", indexes = {
+        @Index(name = "idx_revoked_tokens_expires_at", columnList = "expires_at"),
+        @Index(name = "idx_revoked_tokens_revoked_at", columnList = "revoked_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RevokedToken {
+    
+    @Id
+    @Column(name = "token_key")
+    private UUID tokenKey; // 토큰의 jti (없으면 토큰 SHA-256 다이제스트의 앞 16바이트), 토큰 원문은 저장하지 않음
+    
+    @Column(name = "expires_at", nullable = false)
+    private OffsetDateTime expiresAt; // 토큰 만료 시간 (이후에는 폐기 기록이 필요 없음)
+    
+    @CreationTimestamp(source = SourceType.DB) // 인스턴스 간 동기화 기준이므로 DB 시각 사용
+    @Column(name = "revoked_at", nullable = false, updatable = false)
+    private OffsetDateTime revokedAt; // 폐기(로그아웃) 일시
+}
+
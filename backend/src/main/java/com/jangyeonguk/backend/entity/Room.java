@@ -2,6 +2,8 @@ package com.jangyeonguk.backend.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -10,6 +12,8 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "rooms")
+@Cacheable // 2차 캐시: 캔버스 변경마다 조회되는 방 행을 메모리에서 반환 (hibernate-jcache.conf의 rooms 영역)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "rooms")
 @Getter
 @Setter
 @NoArgsConstructor
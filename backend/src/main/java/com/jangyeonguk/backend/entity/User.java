@@ -2,6 +2,8 @@ package com.jangyeonguk.backend.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 
 import java.time.OffsetDateTime;
@@ -9,6 +11,8 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "users")
+@Cacheable // 2차 캐시: 거의 바뀌지 않는 사용자 행을 요청마다 조회하지 않음 (hibernate-jcache.conf의 users 영역)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "users")
 @Getter
 @Setter
 @NoArgsConstructor
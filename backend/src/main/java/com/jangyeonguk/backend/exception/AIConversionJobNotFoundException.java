@@ -0,0 +1,8 @@
+package com.jangyeonguk.backend.exception;
+
+public class AIConversionJobNotFoundException extends RuntimeException {
+    public AIConversionJobNotFoundException(String message) {
+        super(message);
+    }
+}
+
@@ -0,0 +1,8 @@
+package com.jangyeonguk.backend.exception;
+
+public class AIConversionNotSelectableException extends RuntimeException {
+    public AIConversionNotSelectableException(String message) {
+        super(message);
+    }
+}
+
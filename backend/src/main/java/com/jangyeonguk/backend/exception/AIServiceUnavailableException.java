@@ -0,0 +1,8 @@
+package com.jangyeonguk.backend.exception;
+
+public class AIServiceUnavailableException extends RuntimeException {
+    public AIServiceUnavailableException(String message) {
+        super(message);
+    }
+}
+
@@ -0,0 +1,7 @@
+package com.jangyeonguk.backend.exception;
+
+public class CanvasObjectVersionConflictException extends RuntimeException {
+    public CanvasObjectVersionConflictException(String message) {
+        super(message);
+    }
+}
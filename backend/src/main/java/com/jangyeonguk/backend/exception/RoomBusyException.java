@@ -0,0 +1,7 @@
+package com.jangyeonguk.backend.exception;
+
+public class RoomBusyException extends RuntimeException {
+    public RoomBusyException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,52 @@
+package com.jangyeonguk.backend.repository;
+
+import com.jangyeonguk.backend.dto.AIConversionCandidateResponse;
+import com.jangyeonguk.backend.entity.AIConversionCandidate;
+import com.jangyeonguk.backend.entity.AIConversionJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface AIConversionCandidateRepository extends JpaRepository<AIConversionCandidate, UUID> {
+    /**
+     * 변환 작업의 후보 목록 조회 (이미지 바이트는 읽지 않음)
+     */
+    @Query("SELECT new com.jangyeonguk.backend.dto.AIConversionCandidateResponse(c.candidateId, c.width, c.height) " +
+           "FROM AIConversionCandidate c WHERE c.conversion.conversionId = :conversionId ORDER BY c.createdAt")
+    List<AIConversionCandidateResponse> findSummariesByConversionId(@Param("conversionId") UUID conversionId);
+    
+    /**
+     * 변환 작업의 저장된 후보 수 (방금 저장된 후보를 세야 하므로 복제본이 아닌 원본에서 조회)
+     */
+    @Transactional
+    long countByConversion_ConversionId(UUID conversionId);
+    
+    /**
+     * 변환 작업 ID와 후보 ID로 후보 조회
+     */
+    Optional<AIConversionCandidate> findByCandidateIdAndConversion_ConversionId(UUID candidateId, UUID conversionId);
+    
+    /**
+     * 변환 작업의 후보 전체 삭제 (호출하는 쪽의 트랜잭션에서 실행)
+     */
+    @Modifying
+    @Query("DELETE FROM AIConversionCandidate c WHERE c.conversion.conversionId = :conversionId")
+    int deleteByConversionId(@Param("conversionId") UUID conversionId);
+    
+    /**
+     * 특정 상태인 작업의 후보 일괄 삭제 (선택되지 않고 실패 처리된 작업 정리용)
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM AIConversionCandidate c WHERE c.conversion.conversionId IN " +
+           "(SELECT j.conversionId FROM AIConversionJob j WHERE j.status = :status)")
+    int deleteByJobStatus(@Param("status") AIConversionJob.JobStatus status);
+}
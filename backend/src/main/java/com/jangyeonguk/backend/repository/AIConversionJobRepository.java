@@ -0,0 +1,102 @@
+package com.jangyeonguk.backend.repository;
+
+import com.jangyeonguk.backend.entity.AIConversionJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface AIConversionJobRepository extends JpaRepository<AIConversionJob, UUID> {
+    /**
+     * 방 ID와 작업 ID로 변환 작업 조회
+     */
+    Optional<AIConversionJob> findByConversionIdAndRoom_RoomId(UUID conversionId, UUID roomId);
+
+    /**
+     * 작업 상태 변경 (엔티티를 읽지 않고 한 번의 UPDATE로 처리)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE AIConversionJob j SET j.status = :status, j.message = :message, j.updatedAt = CURRENT_TIMESTAMP " +
+           "WHERE j.conversionId = :conversionId")
+    int updateStatus(@Param("conversionId") UUID conversionId,
+                     @Param("status") AIConversionJob.JobStatus status,
+                     @Param("message") String message);
+
+    /**
+     * 현재 상태가 expected일 때만 상태 변경 (다른 스레드가 먼저 상태를 바꾼 경우 0 반환)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE AIConversionJob j SET j.status = :status, j.message = :message, j.updatedAt = CURRENT_TIMESTAMP " +
+           "WHERE j.conversionId = :conversionId AND j.status = :expected")
+    int transitionStatus(@Param("conversionId") UUID conversionId,
+                         @Param("expected") AIConversionJob.JobStatus expected,
+                         @Param("status") AIConversionJob.JobStatus status,
+                         @Param("message") String message);
+
+    /**
+     * 특정 상태로 cutoff 이전부터 머물러 있는 작업 ID 목록 (선택되지 않은 후보 정리용)
+     */
+    @Query("SELECT j.conversionId FROM AIConversionJob j WHERE j.status = :status AND j.updatedAt < :cutoff")
+    List<UUID> findIdsByStatusAndUpdatedAtBefore(@Param("status") AIConversionJob.JobStatus status,
+                                                 @Param("cutoff") OffsetDateTime cutoff);
+
+    /**
+     * 여러 작업을 현재 상태가 expected일 때만 일괄 상태 변경
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE AIConversionJob j SET j.status = :status, j.message = :message, j.updatedAt = CURRENT_TIMESTAMP " +
+           "WHERE j.conversionId IN :conversionIds AND j.status = :expected")
+    int transitionStatusIn(@Param("conversionIds") Collection<UUID> conversionIds,
+                           @Param("expected") AIConversionJob.JobStatus expected,
+                           @Param("status") AIConversionJob.JobStatus status,
+                           @Param("message") String message);
+
+    /**
+     * 특정 인스턴스가 소유한 작업을 일괄 실패 처리 (재시작한 인스턴스가 자신의 이전 작업을 정리)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE AIConversionJob j SET j.status = com.jangyeonguk.backend.entity.AIConversionJob.JobStatus.FAILED, " +
+           "j.message = :message, j.updatedAt = CURRENT_TIMESTAMP " +
+           "WHERE j.status IN :statuses AND j.ownerInstance = :ownerInstance")
+    int failOwnedBy(@Param("statuses") Collection<AIConversionJob.JobStatus> statuses,
+                    @Param("ownerInstance") String ownerInstance,
+                    @Param("message") String message);
+
+    /**
+     * lease가 만료된(소유 인스턴스가 연장하지 못한) 작업을 일괄 실패 처리
+     * lease가 없는 작업은 lease 도입 이전에 등록된 작업
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE AIConversionJob j SET j.status = com.jangyeonguk.backend.entity.AIConversionJob.JobStatus.FAILED, " +
+           "j.message = :message, j.updatedAt = CURRENT_TIMESTAMP " +
+           "WHERE j.status IN :statuses AND (j.leaseExpiresAt IS NULL OR j.leaseExpiresAt < :now)")
+    int failExpiredLeases(@Param("statuses") Collection<AIConversionJob.JobStatus> statuses,
+                          @Param("now") OffsetDateTime now,
+                          @Param("message") String message);
+
+    /**
+     * 실행 중인 작업의 lease 연장 (이미 끝난 작업은 제외)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE AIConversionJob j SET j.leaseExpiresAt = :leaseExpiresAt " +
+           "WHERE j.conversionId IN :conversionIds AND j.status IN :statuses")
+    int renewLeases(@Param("conversionIds") Collection<UUID> conversionIds,
+                    @Param("statuses") Collection<AIConversionJob.JobStatus> statuses,
+                    @Param("leaseExpiresAt") OffsetDateTime leaseExpiresAt);
+}
+
@@ -1,7 +1,13 @@
 package com.jangyeonguk.backend.repository;
 
 import com.jangyeonguk.backend.entity.CanvasObject;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -12,7 +18,9 @@ import java.util.UUID;
 public interface CanvasObjectRepository extends JpaRepository<CanvasObject, UUID> {
     /**
      * 방 ID로 캔버스 객체 목록 조회 (삭제되지 않은 것만)
+     * 원본에서 읽기/쓰기 트랜잭션으로 조회하므로 변경 감지용 스냅샷을 만들지 않도록 읽기 전용으로 로드
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
     List<CanvasObject> findByRoom_RoomIdAndIsDeletedFalseOrderByCreatedAtAsc(UUID roomId);
     
     /**
@@ -24,5 +32,29 @@ public interface CanvasObjectRepository extends JpaRepository<CanvasObject, UUID
      * 방 ID로 가장 최근에 삭제된 캔버스 객체 조회 (삭제된 것만)
      */
     Optional<CanvasObject> findFirstByRoom_RoomIdAndIsDeletedTrueOrderByCreatedAtDesc(UUID roomId);
+    
+    /**
+     * 방에 속한 삭제되지 않은 객체의 버전만 조회 (object_data를 읽지 않음)
+     */
+    @Query("SELECT o.version FROM CanvasObject o WHERE o.objectId = :objectId AND o.room.roomId = :roomId AND o.isDeleted = false")
+    Optional<Long> findActiveVersion(@Param("roomId") UUID roomId, @Param("objectId") UUID objectId);
+    
+    /**
+     * 1단계 JSON Merge Patch를 jsonb 연산자로 DB에서 직접 적용 (낙관적 잠금)
+     * setJson의 키는 덮어쓰고(||), removeKeys(text[] 리터럴)의 키는 제거(-)
+     * 
+     * @return 수정된 행 수 (버전이 다르면 0)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE canvas_objects " +
+            "SET object_data = (object_data || CAST(:setJson AS jsonb)) - CAST(:removeKeys AS text[]), " +
+            "version = version + 1 " +
+            "WHERE object_id = :objectId AND room_id = :roomId AND is_deleted = false AND version = :expectedVersion",
+            nativeQuery = true)
+    int mergeObjectData(@Param("roomId") UUID roomId,
+                        @Param("objectId") UUID objectId,
+                        @Param("setJson") String setJson,
+                        @Param("removeKeys") String removeKeys,
+                        @Param("expectedVersion") long expectedVersion);
 }
 
@@ -0,0 +1,27 @@
+package com.jangyeonguk.backend.repository;
+
+import com.jangyeonguk.backend.entity.ImageVariant;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface ImageVariantRepository extends JpaRepository<ImageVariant, UUID> {
+    /**
+     * 요청한 크기 이상인 축소본 중 가장 작은 것 조회
+     */
+    Optional<ImageVariant> findFirstByCanvasObject_ObjectIdAndMaxDimensionGreaterThanEqualOrderByMaxDimensionAsc(
+            UUID objectId, Integer maxDimension);
+    
+    /**
+     * 객체의 축소본 전체 삭제 (원본 이미지가 바뀐 경우, 호출하는 쪽의 트랜잭션에서 실행)
+     */
+    @Modifying
+    @Query("DELETE FROM ImageVariant v WHERE v.canvasObject.objectId = :objectId")
+    int deleteByObjectId(@Param("objectId") UUID objectId);
+}
@@ -1,9 +1,17 @@
 package com.jangyeonguk.backend.repository;
 
 import com.jangyeonguk.backend.entity.Invitation;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.OffsetDateTime;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -18,5 +26,34 @@ public interface InvitationRepository extends JpaRepository<Invitation, UUID> {
      * 방 ID로 초대 목록 조회
      */
     java.util.List<Invitation> findByRoom_RoomId(UUID roomId);
+    
+    /**
+     * 토큰으로 초대된 방 ID와 만료 시간만 조회 (방/초대자 엔티티를 읽지 않음)
+     */
+    @Query("SELECT i.room.roomId AS roomId, i.expiresAt AS expiresAt FROM Invitation i WHERE i.token = :token")
+    Optional<InvitationTarget> findTargetByToken(@Param("token") String token);
+    
+    /**
+     * 만료 시간이 지난 대기 중 초대를 최대 batchSize개 만료 처리
+     * 한 번에 잠그는 행 수를 제한하기 위해 남은 초대가 없을 때까지 반복 호출
+     * 
+     * @return 만료 처리된 행 수
+     */
+    @Transactional
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "invitations"))
+    @Query(value = "UPDATE invitations SET status = 'EXPIRED' WHERE invitation_id IN (" +
+            "SELECT invitation_id FROM invitations WHERE status = 'PENDING' AND expires_at < :now " +
+            "LIMIT :batchSize FOR UPDATE SKIP LOCKED)",
+            nativeQuery = true)
+    int expireBatch(@Param("now") OffsetDateTime now, @Param("batchSize") int batchSize);
+    
+    /**
+     * 초대 대상 (방 ID, 만료 시간)
+     */
+    interface InvitationTarget {
+        UUID getRoomId();
+        
+        OffsetDateTime getExpiresAt();
+    }
 }
-
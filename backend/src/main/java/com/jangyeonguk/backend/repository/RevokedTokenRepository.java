@@ -0,0 +1,35 @@
+package com.jangyeonguk.backend.repository;
+
+import com.jangyeonguk.backend.entity.RevokedToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, UUID> {
+    /**
+     * 아직 만료되지 않은 폐기 토큰 목록 조회 (서버 시작 시 메모리 복원용)
+     */
+    List<RevokedToken> findByExpiresAtAfter(OffsetDateTime now);
+    
+    /**
+     * 특정 시점 이후에 기록된, 아직 만료되지 않은 폐기 토큰 목록 조회 (다른 인스턴스의 폐기 기록 동기화용)
+     */
+    List<RevokedToken> findByRevokedAtAfterAndExpiresAtAfter(OffsetDateTime since, OffsetDateTime now);
+    
+    /**
+     * 만료된 폐기 토큰 일괄 삭제
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM RevokedToken r WHERE r.expiresAt < :now")
+    int deleteExpired(@Param("now") OffsetDateTime now);
+}
+
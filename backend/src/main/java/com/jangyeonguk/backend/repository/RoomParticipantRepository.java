@@ -2,8 +2,12 @@ package com.jangyeonguk.backend.repository;
 
 import com.jangyeonguk.backend.entity.RoomParticipant;
 import com.jangyeonguk.backend.entity.RoomParticipantId;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -25,11 +29,26 @@ public interface RoomParticipantRepository extends JpaRepository<RoomParticipant
      */
     boolean existsById_UserIdAndId_RoomId(UUID userId, UUID roomId);
     
+    /**
+     * 참가자 추가 (이미 참가 중이면 아무것도 하지 않음)
+     * 조회 후 저장하지 않고 INSERT 한 번으로 처리하므로, 같은 사용자가 동시에 수락해도 중복 키 오류가 나지 않음
+     * 
+     * @return 추가된 행 수 (이미 참가 중이면 0)
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "room_participants"))
+    @Query(value = "INSERT INTO room_participants (user_id, room_id, joined_at) VALUES (:userId, :roomId, CURRENT_TIMESTAMP) " +
+            "ON CONFLICT (user_id, room_id) DO NOTHING",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("userId") UUID userId, @Param("roomId") UUID roomId);
+    
     /**
      * 사용자 ID로 참여한 방 목록 조회
      * 방의 최근 업데이트 순서로 정렬
+     * 응답에 방장 이름이 들어가므로 방과 방장을 함께 조회 (방마다 방/방장을 따로 조회하지 않도록)
      */
-    @Query("SELECT rp FROM RoomParticipant rp WHERE rp.id.userId = :userId ORDER BY rp.room.lastUpdatedAt DESC")
+    @Query("SELECT rp FROM RoomParticipant rp JOIN FETCH rp.room r JOIN FETCH r.owner " +
+            "WHERE rp.id.userId = :userId ORDER BY r.lastUpdatedAt DESC")
     List<RoomParticipant> findById_UserIdOrderByRoom_LastUpdatedAtDesc(@Param("userId") UUID userId);
     
     /**
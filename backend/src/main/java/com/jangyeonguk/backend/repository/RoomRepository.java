@@ -1,8 +1,15 @@
 package com.jangyeonguk.backend.repository;
 
 import com.jangyeonguk.backend.entity.Room;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -10,7 +17,32 @@ import java.util.UUID;
 
 @Repository
 public interface RoomRepository extends JpaRepository<Room, UUID> {
-    Optional<Room> findByRoomId(UUID roomId);
+    /**
+     * 방 ID로 조회 (2차 캐시 사용)
+     * 방 ID가 곧 식별자이므로 쿼리 캐시 없이 식별자 조회로 2차 캐시 rooms 영역에서 바로 반환
+     * rooms 테이블에 대한 쿼리는 캐시하지 않음 (활동 시각 반영마다 rooms 쿼리 캐시가 모두 무효화되지 않도록)
+     */
+    default Optional<Room> findByRoomId(UUID roomId) {
+        return findById(roomId);
+    }
+
     List<Room> findAllByOrderByLastUpdatedAtDesc();
+    
+    /**
+     * 여러 방의 마지막 업데이트 일시를 한 번에 갱신 (RoomActivityTracker의 주기적 반영)
+     * 방 ID와 활동 시각은 같은 순서의 배열 리터럴로 전달하며, 이미 더 최근 시각인 방은 그대로 둠
+     * 영향받는 공간을 rooms로 지정하면 Hibernate가 2차 캐시 rooms 영역 전체와 rooms 쿼리 캐시를 무효화하므로,
+     * 엔티티와 연결되지 않은 별도 공간(room_activity)으로 지정하고 갱신한 방만 호출하는 쪽(RoomActivityTracker)에서 evict
+     * 
+     * @return 갱신된 행 수
+     */
+    @Transactional
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "room_activity"))
+    @Query(value = "UPDATE rooms r SET last_updated_at = a.activity_at " +
+            "FROM unnest(CAST(:roomIds AS uuid[]), CAST(:activityTimes AS timestamptz[])) AS a(room_id, activity_at) " +
+            "WHERE r.room_id = a.room_id AND r.last_updated_at < a.activity_at",
+            nativeQuery = true)
+    int updateLastUpdatedAt(@Param("roomIds") String roomIds, @Param("activityTimes") String activityTimes);
 }
 
@@ -1,7 +1,10 @@
 package com.jangyeonguk.backend.repository;
 
 import com.jangyeonguk.backend.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -9,6 +12,10 @@ import java.util.UUID;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, UUID> {
+    /**
+     * 사용자 ID로 조회 (쿼리 캐시 + 2차 캐시 사용)
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<User> findByUserId(UUID userId);
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
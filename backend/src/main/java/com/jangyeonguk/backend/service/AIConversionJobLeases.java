@@ -0,0 +1,103 @@
+package com.jangyeonguk.backend.service;
+
+import com.jangyeonguk.backend.entity.AIConversionJob;
+import com.jangyeonguk.backend.repository.AIConversionJobRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AI 변환 작업 소유권(lease) 관리
+ * 작업마다 실행하는 인스턴스 ID와 lease 만료 시각을 기록하고, 실행 중인(대기 포함) 작업의 lease를 주기적으로 연장
+ * lease가 만료된 작업은 소유 인스턴스가 죽은 것으로 보고 실패 처리 (입력 이미지가 메모리에만 있었으므로 다시 실행할 수 없음)
+ * 여러 인스턴스가 같은 DB를 쓰더라도 살아 있는 인스턴스의 작업은 실패 처리하지 않음
+ * lease 시각은 각 인스턴스의 시계로 기록하므로, 인스턴스 간 시계 차이는 lease-ms보다 충분히 작아야 함
+ */
+@Slf4j
+@Component
+public class AIConversionJobLeases {
+
+    private static final List<AIConversionJob.JobStatus> ACTIVE =
+            List.of(AIConversionJob.JobStatus.QUEUED, AIConversionJob.JobStatus.RUNNING);
+    private static final String INTERRUPTED_MESSAGE = "서버 재시작으로 변환이 중단되었습니다. 다시 요청해주세요.";
+
+    private final AIConversionJobRepository aiConversionJobRepository;
+    private final String instanceId;
+    private final long leaseMs;
+
+    // 이 인스턴스에서 대기/실행 중인 작업 (lease 연장 대상)
+    private final Set<UUID> activeJobs = ConcurrentHashMap.newKeySet();
+
+    public AIConversionJobLeases(
+            AIConversionJobRepository aiConversionJobRepository,
+            @Value("${ai.jobs.instance-id:}") String instanceId,
+            @Value("${ai.jobs.lease-ms:60000}") long leaseMs) {
+        this.aiConversionJobRepository = aiConversionJobRepository;
+        // 재시작해도 같은 ID(호스트 이름 등)를 쓰면 재시작 직후 자신의 이전 작업을 lease 만료를 기다리지 않고 정리
+        this.instanceId = instanceId.isBlank() ? UUID.randomUUID().toString() : instanceId;
+        this.leaseMs = leaseMs;
+    }
+
+    /**
+     * 이 인스턴스 ID (작업 등록 시 owner_instance로 기록)
+     */
+    public String getInstanceId() {
+        return instanceId;
+    }
+
+    /**
+     * 지금 연장하면 만료되는 시각
+     */
+    public OffsetDateTime nextExpiry() {
+        return OffsetDateTime.now().plusNanos(TimeUnit.MILLISECONDS.toNanos(leaseMs));
+    }
+
+    /**
+     * 작업 실행 시작 (작업을 큐에 넣기 전에 호출, 끝나면 반드시 released 호출)
+     */
+    public void acquired(UUID conversionId) {
+        activeJobs.add(conversionId);
+    }
+
+    /**
+     * 작업 실행 종료 (더 이상 lease를 연장하지 않음)
+     */
+    public void released(UUID conversionId) {
+        activeJobs.remove(conversionId);
+    }
+
+    /**
+     * 서버 시작 시 중단된 작업 정리 (StartupRecovery가 요청을 받기 전에 호출)
+     * 이 인스턴스가 재시작 전에 소유했던 작업과, lease가 만료된(소유 인스턴스가 죽은) 작업만 실패 처리
+     */
+    public void failInterruptedJobs() {
+        int owned = aiConversionJobRepository.failOwnedBy(ACTIVE, instanceId, INTERRUPTED_MESSAGE);
+        int expired = aiConversionJobRepository.failExpiredLeases(ACTIVE, OffsetDateTime.now(), INTERRUPTED_MESSAGE);
+        if (owned + expired > 0) {
+            log.info("중단된 AI 변환 작업 {}개를 실패 처리했습니다. (이 인스턴스 {}개, lease 만료 {}개)",
+                    owned + expired, owned, expired);
+        }
+    }
+
+    /**
+     * 이 인스턴스 작업의 lease 연장 및 다른 인스턴스가 남긴(lease 만료) 작업 정리
+     */
+    @Scheduled(fixedDelayString = "${ai.jobs.heartbeat-interval-ms:20000}")
+    public void heartbeat() {
+        if (!activeJobs.isEmpty()) {
+            aiConversionJobRepository.renewLeases(List.copyOf(activeJobs), ACTIVE, nextExpiry());
+        }
+        int expired = aiConversionJobRepository.failExpiredLeases(ACTIVE, OffsetDateTime.now(), INTERRUPTED_MESSAGE);
+        if (expired > 0) {
+            log.info("lease가 만료된 AI 변환 작업 {}개를 실패 처리했습니다.", expired);
+        }
+    }
+}
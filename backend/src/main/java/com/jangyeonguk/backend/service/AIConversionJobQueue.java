@@ -0,0 +1,119 @@
+package com.jangyeonguk.backend.service;
+
+import com.jangyeonguk.backend.exception.RoomBusyException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * AI 이미지 변환 작업 큐
+ * 전체 동시 실행 수를 제한하고, 방마다 별도 큐를 두어 방 단위로 번갈아(round-robin) 실행
+ * 한 방에서 변환을 몰아서 요청해도 다른 방의 작업이 뒤로 밀리지 않음
+ * 작업은 가상 스레드에서 실행되므로 AI 서비스 응답을 기다리는 동안 요청 스레드를 점유하지 않음
+ */
+@Component
+public class AIConversionJobQueue {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<UUID, Queue<Runnable>> roomQueues = new HashMap<>(); // lock 안에서만 접근
+    private final Queue<UUID> readyRooms = new ArrayDeque<>(); // 대기 작업이 있는 방 (실행 순서)
+    private final int maxConcurrency;
+    private final int maxQueuedPerRoom;
+    private int running;
+    private int queued;
+
+    public AIConversionJobQueue(
+            MeterRegistry meterRegistry,
+            @Value("${ai.jobs.max-concurrency:4}") int maxConcurrency,
+            @Value("${ai.jobs.max-queued-per-room:10}") int maxQueuedPerRoom) {
+        this.maxConcurrency = maxConcurrency;
+        this.maxQueuedPerRoom = maxQueuedPerRoom;
+
+        Gauge.builder("ai.jobs.running", this, queue -> queue.snapshot(true))
+                .description("실행 중인 AI 변환 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("ai.jobs.queued", this, queue -> queue.snapshot(false))
+                .description("대기 중인 AI 변환 작업 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 방의 변환 작업 등록
+     *
+     * @param roomId 방 ID
+     * @param job 실행할 작업
+     */
+    public void submit(UUID roomId, Runnable job) {
+        lock.lock();
+        try {
+            Queue<Runnable> roomQueue = roomQueues.get(roomId);
+            if (roomQueue != null && roomQueue.size() >= maxQueuedPerRoom) {
+                throw new RoomBusyException("방에 대기 중인 AI 변환 요청이 너무 많습니다. 잠시 후 다시 시도해주세요.");
+            }
+            if (roomQueue == null) {
+                roomQueue = new ArrayDeque<>();
+                roomQueues.put(roomId, roomQueue);
+                readyRooms.add(roomId);
+            }
+            roomQueue.add(job);
+            queued++;
+            dispatch();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 실행 슬롯이 남아 있는 동안 방을 번갈아가며 작업 시작 (lock 안에서 호출)
+     */
+    private void dispatch() {
+        while (running < maxConcurrency && !readyRooms.isEmpty()) {
+            UUID roomId = readyRooms.poll();
+            Queue<Runnable> roomQueue = roomQueues.get(roomId);
+            Runnable job = roomQueue.poll();
+            if (roomQueue.isEmpty()) {
+                roomQueues.remove(roomId);
+            } else {
+                readyRooms.add(roomId); // 남은 작업은 다른 방 뒤로
+            }
+            queued--;
+            running++;
+
+            Thread.ofVirtual()
+                    .name("ai-job-" + roomId)
+                    .start(() -> run(job));
+        }
+    }
+
+    private void run(Runnable job) {
+        try {
+            job.run();
+        } finally {
+            lock.lock();
+            try {
+                running--;
+                dispatch();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private int snapshot(boolean runningCount) {
+        lock.lock();
+        try {
+            return runningCount ? running : queued;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
+
@@ -1,38 +1,63 @@
 package com.jangyeonguk.backend.service;
 
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jangyeonguk.backend.dto.AIConversionCandidateResponse;
 import com.jangyeonguk.backend.dto.AIImageConversionRequest;
 import com.jangyeonguk.backend.dto.AIImageConversionResponse;
+import com.jangyeonguk.backend.dto.CanvasObjectEventResponse;
+import com.jangyeonguk.backend.dto.CanvasObjectResponse;
+import com.jangyeonguk.backend.entity.AIConversionCandidate;
+import com.jangyeonguk.backend.entity.AIConversionJob;
 import com.jangyeonguk.backend.entity.CanvasObject;
 import com.jangyeonguk.backend.entity.Room;
 import com.jangyeonguk.backend.entity.User;
+import com.jangyeonguk.backend.exception.AIConversionJobNotFoundException;
+import com.jangyeonguk.backend.exception.AIConversionNotSelectableException;
+import com.jangyeonguk.backend.exception.RoomBusyException;
 import com.jangyeonguk.backend.exception.RoomNotFoundException;
+import com.jangyeonguk.backend.exception.UnauthorizedRoomAccessException;
+import com.jangyeonguk.backend.repository.AIConversionCandidateRepository;
+import com.jangyeonguk.backend.repository.AIConversionJobRepository;
 import com.jangyeonguk.backend.repository.CanvasObjectRepository;
 import com.jangyeonguk.backend.repository.RoomRepository;
 import com.jangyeonguk.backend.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.*;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.util.LinkedMultiValueMap;
-import org.springframework.util.MultiValueMap;
-import org.springframework.web.client.RestTemplate;
-import org.springframework.web.multipart.MultipartFile;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
 import java.util.Base64;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
-import javax.imageio.ImageIO;
-import java.awt.image.BufferedImage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
 
+/**
+ * AI 이미지 변환 서비스
+ * 변환 요청은 작업(ai_conversion_jobs)으로 등록한 뒤 즉시 응답하고, AI 서비스 호출은 AIConversionJobQueue에서 백그라운드로 실행
+ * AI 서비스를 기다리는 동안에는 트랜잭션(DB 커넥션)을 열지 않으며, 결과 이미지 객체 저장만 방의 writer 트랜잭션에서 처리
+ * 완료된 이미지는 캔버스 변경 알림(long-poll/SSE)으로 전달되고, 작업 상태는 상태 조회 API로 확인
+ * 후보를 여러 개 요청하면 AI 서비스를 동시에 호출하여 후보로 저장하고, 사용자가 하나를 선택하면 그 후보만 객체로 생성
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -41,21 +66,45 @@ public class AIImageService {
     private final RoomRepository roomRepository;
     private final CanvasObjectRepository canvasObjectRepository;
     private final UserRepository userRepository;
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final AIConversionJobRepository aiConversionJobRepository;
+    private final AIConversionCandidateRepository aiConversionCandidateRepository;
+    private final AIConversionJobQueue aiConversionJobQueue;
+    private final RoomMutationExecutor roomMutationExecutor;
+    private final RoomMembershipCache roomMembershipCache;
+    private final CanvasChangeNotifier canvasChangeNotifier;
+    private final AIResultCache aiResultCache;
+    private final AIServiceClient aiServiceClient;
+    private final ImageVariantService imageVariantService;
+    private final CanvasRasterizer canvasRasterizer;
+    private final AIConversionJobLeases aiConversionJobLeases;
     private final ObjectMapper objectMapper = new ObjectMapper();
     
-    @Value("${ai.service.url:http://localhost:8000}")
-    private String aiServiceUrl;
+    // 후보 생성 중인 작업의 실행기 (후보가 선택되면 남은 AI 서비스 호출을 취소)
+    private final Map<UUID, ExecutorService> runningGenerations = new ConcurrentHashMap<>();
+    
+    @Value("${ai.variants.max:4}")
+    private int maxVariants;
+    
+    @Value("${ai.variants.deadline-ms:150000}")
+    private long variantsDeadlineMs;
+    
+    @Value("${ai.variants.candidate-ttl-ms:3600000}")
+    private long candidateTtlMs;
     
     /**
      * 선택된 객체들을 AI 이미지로 변환 요청
+     * 작업을 등록하고 즉시 반환하며, 변환은 백그라운드에서 진행
      * 
      * @param roomId 방 ID
-     * @param request 변환 요청 (선택된 객체 ID 목록, 프롬프트, 이미지)
-     * @return 변환 응답 (변환 ID, 상태, 메시지)
+     * @param request 변환 요청 (선택된 객체 ID 목록, 프롬프트, 후보 수, 이미지(생략 시 서버에서 선택된 객체를 그림))
+     * @return 변환 응답 (변환 ID, 상태 QUEUED, 메시지)
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public AIImageConversionResponse convertToImage(UUID roomId, AIImageConversionRequest request) {
+        // 현재 인증된 사용자 (작업 스레드에는 SecurityContext가 없으므로 미리 추출)
+        UUID currentUserId = getCurrentUserId();
+        roomMembershipCache.requireMember(currentUserId, roomId);
+        
         // 방 존재 여부 확인
         Room room = roomRepository.findByRoomId(roomId)
                 .orElseThrow(() -> new RoomNotFoundException("방을 찾을 수 없습니다: " + roomId));
@@ -70,13 +119,17 @@ public class AIImageService {
             throw new IllegalArgumentException("프롬프트를 입력해주세요.");
         }
         
-        // 이미지 파일 검증
-        if (request.getImage() == null || request.getImage().isEmpty()) {
-            throw new IllegalArgumentException("이미지 파일이 없습니다.");
+        // 후보 수 검증
+        int variants = (request.getVariants() != null) ? request.getVariants() : 1;
+        if (variants < 1 || variants > maxVariants) {
+            throw new IllegalArgumentException("후보 수는 1~" + maxVariants + " 사이여야 합니다.");
         }
         
         // 선택된 객체들이 해당 방에 속하는지 확인
         List<CanvasObject> selectedObjects = canvasObjectRepository.findAllById(request.getSelectedObjectIds());
+        if (selectedObjects.size() != new HashSet<>(request.getSelectedObjectIds()).size()) {
+            throw new IllegalArgumentException("선택된 객체 중 존재하지 않는 객체가 있습니다.");
+        }
         
         for (CanvasObject obj : selectedObjects) {
             if (!obj.getRoom().getRoomId().equals(roomId)) {
@@ -87,102 +140,423 @@ public class AIImageService {
             }
         }
         
-        // 변환 작업 ID 생성
-        UUID conversionId = UUID.randomUUID();
+        // 입력 이미지: 업로드된 이미지가 없으면 서버에서 선택된 객체를 직접 그림 (작업 스레드에서 실행)
+        Supplier<byte[]> inputImage;
+        String imageFilename;
+        if (request.getImage() == null || request.getImage().isEmpty()) {
+            if (selectedObjects.stream().noneMatch(canvasRasterizer::isRenderable)) {
+                throw new IllegalArgumentException("이미지로 변환할 수 있는 객체(line, path, image)가 없습니다.");
+            }
+            inputImage = () -> canvasRasterizer.render(selectedObjects);
+            imageFilename = "selection.png";
+        } else {
+            // 업로드 파일은 요청이 끝나면 삭제되므로 작업 실행 전에 읽어둠
+            // 스트림으로 넘기지 않고 메모리에 두는 이유: 작업은 요청이 끝난 뒤 실행되고, 같은 바이트로 결과 캐시 키(SHA-256)를 만든 뒤
+            // 후보 수만큼 AI 서비스에 다시 보내야 함 (크기는 multipart 업로드 한도(spring.servlet.multipart.max-file-size, 기본 1MB) 이내)
+            byte[] imageBytes;
+            try {
+                imageBytes = request.getImage().getBytes();
+            } catch (IOException e) {
+                throw new IllegalArgumentException("이미지 파일을 읽을 수 없습니다.");
+            }
+            inputImage = () -> imageBytes;
+            imageFilename = request.getImage().getOriginalFilename();
+        }
+        String prompt = request.getPrompt();
+        
+        User requester = userRepository.findByUserId(currentUserId)
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + currentUserId));
+        
+        // 변환 작업 등록
+        AIConversionJob job = aiConversionJobRepository.save(AIConversionJob.builder()
+                .room(room)
+                .requester(requester)
+                .prompt(prompt)
+                .variantCount(variants)
+                .ownerInstance(aiConversionJobLeases.getInstanceId())
+                .leaseExpiresAt(aiConversionJobLeases.nextExpiry())
+                .build());
+        UUID conversionId = job.getConversionId();
+        
+        // 대기하는 동안에도 lease를 연장하고, 작업이 끝나면(실패 포함) 연장 중단
+        Runnable conversion = (variants > 1)
+                ? () -> runCandidates(conversionId, roomId, inputImage, imageFilename, prompt, variants)
+                : () -> runConversion(conversionId, roomId, currentUserId, inputImage, imageFilename, prompt);
+        aiConversionJobLeases.acquired(conversionId);
+        try {
+            aiConversionJobQueue.submit(roomId, () -> {
+                try {
+                    conversion.run();
+                } finally {
+                    aiConversionJobLeases.released(conversionId);
+                }
+            });
+        } catch (RoomBusyException e) {
+            aiConversionJobLeases.released(conversionId);
+            aiConversionJobRepository.updateStatus(conversionId, AIConversionJob.JobStatus.FAILED, e.getMessage());
+            throw e;
+        }
+        
+        return AIImageConversionResponse.builder()
+                .conversionId(conversionId)
+                .status(AIConversionJob.JobStatus.QUEUED.name())
+                .message((variants > 1)
+                        ? "변환 요청이 접수되었습니다. 후보 이미지가 생성되면 하나를 선택해주세요."
+                        : "변환 요청이 접수되었습니다. 완료되면 캔버스에 이미지가 추가됩니다.")
+                .build();
+    }
+    
+    /**
+     * 변환 작업 상태 조회
+     * 
+     * @param roomId 방 ID
+     * @param conversionId 변환 작업 ID
+     * @return 변환 응답 (상태, 메시지, 완료 시 생성된 객체 ID, 선택 대기 중인 후보 목록)
+     */
+    public AIImageConversionResponse getConversion(UUID roomId, UUID conversionId) {
+        roomMembershipCache.requireMember(getCurrentUserId(), roomId);
+        
+        AIConversionJob job = aiConversionJobRepository.findByConversionIdAndRoom_RoomId(conversionId, roomId)
+                .orElseThrow(() -> new AIConversionJobNotFoundException("변환 작업을 찾을 수 없습니다: " + conversionId));
+        
+        // 생성 중에도 먼저 완성된 후보부터 보여줌
+        List<AIConversionCandidateResponse> candidates = null;
+        if (job.getVariantCount() > 1 && (job.getStatus() == AIConversionJob.JobStatus.RUNNING
+                || job.getStatus() == AIConversionJob.JobStatus.AWAITING_SELECTION)) {
+            candidates = aiConversionCandidateRepository.findSummariesByConversionId(conversionId);
+        }
+        
+        return AIImageConversionResponse.builder()
+                .conversionId(job.getConversionId())
+                .status(job.getStatus().name())
+                .message(job.getMessage())
+                .resultObjectId(job.getResultObjectId())
+                .candidates(candidates)
+                .build();
+    }
+    
+    /**
+     * 후보 이미지 조회
+     * 
+     * @param roomId 방 ID
+     * @param conversionId 변환 작업 ID
+     * @param candidateId 후보 ID
+     * @return 후보 이미지
+     */
+    public ImageVariantService.ImageContent getCandidateImage(UUID roomId, UUID conversionId, UUID candidateId) {
+        roomMembershipCache.requireMember(getCurrentUserId(), roomId);
+        
+        aiConversionJobRepository.findByConversionIdAndRoom_RoomId(conversionId, roomId)
+                .orElseThrow(() -> new AIConversionJobNotFoundException("변환 작업을 찾을 수 없습니다: " + conversionId));
+        AIConversionCandidate candidate = aiConversionCandidateRepository
+                .findByCandidateIdAndConversion_ConversionId(candidateId, conversionId)
+                .orElseThrow(() -> new AIConversionJobNotFoundException("변환 후보를 찾을 수 없습니다: " + candidateId));
+        
+        ImageDimensions.Info info = ImageDimensions.probe(candidate.getImageData());
+        return new ImageVariantService.ImageContent(
+                (info != null) ? info.mediaType() : "application/octet-stream", candidate.getImageData());
+    }
+    
+    /**
+     * 후보 선택: 선택한 후보를 캔버스 객체로 생성하고, 나머지 후보는 삭제하며 아직 진행 중인 AI 서비스 호출은 취소
+     * 
+     * @param roomId 방 ID
+     * @param conversionId 변환 작업 ID
+     * @param candidateId 선택한 후보 ID
+     * @return 변환 응답 (상태 COMPLETED, 생성된 객체 ID)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public AIImageConversionResponse selectCandidate(UUID roomId, UUID conversionId, UUID candidateId) {
+        UUID currentUserId = getCurrentUserId();
+        roomMembershipCache.requireMember(currentUserId, roomId);
+        
+        AIConversionJob job = aiConversionJobRepository.findByConversionIdAndRoom_RoomId(conversionId, roomId)
+                .orElseThrow(() -> new AIConversionJobNotFoundException("변환 작업을 찾을 수 없습니다: " + conversionId));
+        if (!job.getRequester().getUserId().equals(currentUserId)) {
+            throw new UnauthorizedRoomAccessException("변환을 요청한 사용자만 후보를 선택할 수 있습니다.");
+        }
+        
+        // 후보 저장과 같은 방 writer에서 실행되므로, 선택 이후에는 새 후보가 저장되지 않음
+        CanvasObjectResponse response = roomMutationExecutor.execute(roomId,
+                () -> commitCandidate(conversionId, roomId, currentUserId, candidateId));
+        cancelGenerations(conversionId);
+        
+        return AIImageConversionResponse.builder()
+                .conversionId(conversionId)
+                .status(AIConversionJob.JobStatus.COMPLETED.name())
+                .message("이미지 변환이 완료되었습니다.")
+                .resultObjectId(response.getObjectId())
+                .build();
+    }
+    
+    /**
+     * 선택되지 않은 채 오래된 후보 정리
+     * 선택 대기 시간이 지난 작업은 실패 처리하고, 실패한 작업(서버 재시작으로 중단된 작업 포함)의 후보를 일괄 삭제
+     */
+    @Scheduled(fixedDelayString = "${ai.variants.sweep-interval-ms:300000}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // 읽기 전용 트랜잭션 밖에서 쿼리별 트랜잭션으로 갱신
+    void expireUnselectedCandidates() {
+        List<UUID> stale = aiConversionJobRepository.findIdsByStatusAndUpdatedAtBefore(
+                AIConversionJob.JobStatus.AWAITING_SELECTION,
+                OffsetDateTime.now().minusNanos(TimeUnit.MILLISECONDS.toNanos(candidateTtlMs)));
+        if (!stale.isEmpty()) {
+            aiConversionJobRepository.transitionStatusIn(stale,
+                    AIConversionJob.JobStatus.AWAITING_SELECTION, AIConversionJob.JobStatus.FAILED,
+                    "후보 선택 시간이 지났습니다. 다시 요청해주세요.");
+        }
+        int deleted = aiConversionCandidateRepository.deleteByJobStatus(AIConversionJob.JobStatus.FAILED);
+        if (deleted > 0) {
+            log.info("선택되지 않은 AI 변환 후보 {}개를 삭제했습니다.", deleted);
+        }
+    }
+    
+    /**
+     * 변환 작업 실행 (AIConversionJobQueue의 작업 스레드)
+     * AI 서비스 호출과 응답 처리는 트랜잭션 밖에서 하고, 이미지 객체 저장만 트랜잭션으로 처리
+     */
+    private void runConversion(UUID conversionId, UUID roomId, UUID requesterId,
+                               Supplier<byte[]> inputImage, String imageFilename, String prompt) {
+        if (!startRunning(conversionId)) {
+            return;
+        }
         
         try {
-            // AI 서비스 호출
-            String aiResponse = callAIService(request.getImage(), request.getPrompt());
+            byte[] imageBytes = inputImage.get();
             
-            // AI 응답에서 Base64 이미지 추출
-            JsonNode responseJson = objectMapper.readTree(aiResponse);
-            String base64Image = responseJson.path("image_data").asText();
+            // 같은 입력 이미지 + 프롬프트의 결과가 캐시에 있으면 AI 서비스를 호출하지 않음
+            byte[] resultBytes = aiResultCache.getOrGenerate(
+                    aiResultCache.key(imageBytes, prompt),
+                    () -> callAIService(conversionId, roomId, imageBytes, imageFilename, prompt));
+            String objectData = imageObjectData(resultBytes);
             
-            if (base64Image == null || base64Image.isEmpty()) {
-                throw new RuntimeException("AI 서비스에서 이미지 데이터를 받지 못했습니다.");
+            // 변환된 이미지를 방의 writer 트랜잭션에서 CanvasObject로 저장
+            roomMutationExecutor.execute(roomId, () -> saveImageObject(conversionId, roomId, requesterId, objectData, resultBytes));
+        } catch (Exception e) {
+            // writer 대기 시간 초과(RoomBusyException) 후에도 저장이 끝나 COMPLETED가 될 수 있으므로 실행 중일 때만 실패 처리
+            log.warn("AI 이미지 변환 실패 (conversionId={}): {}", conversionId, e.getMessage());
+            aiConversionJobRepository.transitionStatus(conversionId,
+                    AIConversionJob.JobStatus.RUNNING, AIConversionJob.JobStatus.FAILED,
+                    "이미지 변환에 실패했습니다: " + e.getMessage());
+        }
+    }
+    
+    /**
+     * 헬퍼 메서드: 대기 중인 작업을 실행 상태로 변경 (대기하는 동안 실패 처리된 작업이면 실행하지 않음)
+     */
+    private boolean startRunning(UUID conversionId) {
+        if (aiConversionJobRepository.transitionStatus(conversionId,
+                AIConversionJob.JobStatus.QUEUED, AIConversionJob.JobStatus.RUNNING, null) == 0) {
+            log.warn("대기 중에 종료된 AI 변환 작업은 실행하지 않습니다 (conversionId={})", conversionId);
+            return false;
+        }
+        return true;
+    }
+    
+    /**
+     * 헬퍼 메서드: AI 서비스 호출 (JFR 기록 중이면 변환 작업, 방, 입출력 크기, 호출 시간을 이벤트로 남김)
+     */
+    private byte[] callAIService(UUID conversionId, UUID roomId, byte[] imageBytes, String imageFilename, String prompt) {
+        AIServiceCallEvent event = new AIServiceCallEvent();
+        event.begin();
+        byte[] resultBytes = null;
+        try {
+            resultBytes = aiServiceClient.generateImage(imageBytes, imageFilename, prompt);
+            return resultBytes;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.conversionId = conversionId.toString();
+                event.roomId = roomId.toString();
+                event.inputBytes = imageBytes.length;
+                event.outputBytes = (resultBytes != null) ? resultBytes.length : 0;
+                event.succeeded = resultBytes != null;
+                event.commit();
             }
-            
-            // Base64 이미지를 디코딩하여 크기 계산
-            int width = 0;
-            int height = 0;
+        }
+    }
+    
+    /**
+     * 후보 생성 작업 실행 (AIConversionJobQueue의 작업 스레드)
+     * 후보 수만큼 AI 서비스를 가상 스레드에서 동시에 호출하므로 전체 대기 시간은 호출 한 번 정도
+     * (AI 서비스 동시 호출 수는 ai.jobs.max-concurrency와 별도로 AIServiceClient에서 전체 호출에 대해 제한)
+     * 호출은 이 메서드 안에서 시작하고 끝나며(구조적 동시성), 마감 시간이 지나거나 후보가 선택되면 남은 호출을 취소
+     * 결과 캐시는 사용하지 않음 (같은 입력으로 서로 다른 후보를 받기 위함)
+     */
+    private void runCandidates(UUID conversionId, UUID roomId, Supplier<byte[]> inputImage,
+                               String imageFilename, String prompt, int variants) {
+        if (!startRunning(conversionId)) {
+            return;
+        }
+        long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(variantsDeadlineMs);
+        String lastError = null;
+        
+        try (ExecutorService generations = Executors.newVirtualThreadPerTaskExecutor()) {
+            runningGenerations.put(conversionId, generations);
             try {
-                byte[] imageBytes = Base64.getDecoder().decode(base64Image);
-                BufferedImage bufferedImage = ImageIO.read(new ByteArrayInputStream(imageBytes));
-                if (bufferedImage != null) {
-                    width = bufferedImage.getWidth();
-                    height = bufferedImage.getHeight();
+                byte[] imageBytes = inputImage.get();
+                
+                List<Future<Boolean>> futures = new ArrayList<>();
+                for (int i = 0; i < variants; i++) {
+                    futures.add(generations.submit(() -> {
+                        byte[] resultBytes = callAIService(conversionId, roomId, imageBytes, imageFilename, prompt);
+                        return roomMutationExecutor.execute(roomId, () -> saveCandidate(conversionId, resultBytes));
+                    }));
                 }
-            } catch (Exception e) {
-                // 이미지 크기 계산 실패 시 기본값 유지
-                // 로그는 남기지 않음 (선택 사항)
+                
+                // 마감 시간이 지난 뒤에도 나머지 호출의 실패 원인을 확인하도록 끝까지 순회 (남은 대기 시간은 0)
+                for (Future<Boolean> future : futures) {
+                    try {
+                        future.get(Math.max(0L, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+                    } catch (ExecutionException e) {
+                        lastError = e.getCause().getMessage();
+                    } catch (TimeoutException e) {
+                        lastError = "후보 생성 시간이 초과되었습니다.";
+                    }
+                }
+            } finally {
+                generations.shutdownNow(); // 마감 시간이 지났거나 중단되면 남은 호출 취소 (close에서 종료를 기다림)
             }
-            
-            Map<String, Object> imageData = new HashMap<>();
-            imageData.put("imageData", base64Image);
-            imageData.put("width", width);
-            imageData.put("height", height);
-            
-            // 현재 인증된 사용자 조회
-            UUID currentUserId = getCurrentUserId();
-            User creator = userRepository.findByUserId(currentUserId)
-                    .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + currentUserId));
-            
-            // 변환된 이미지를 CanvasObject로 저장
-            CanvasObject imageObject = CanvasObject.builder()
-                    .room(room)
-                    .creator(creator)
-                    .objectType("image")
-                    .objectData(objectMapper.writeValueAsString(imageData))
-                    .isDeleted(false)
-                    .build();
-            
-            canvasObjectRepository.save(imageObject);
-        
-        return AIImageConversionResponse.builder()
-                .conversionId(conversionId)
-                    .status("COMPLETED")
-                    .message("이미지 변환이 완료되었습니다.")
-                    .build();
-                    
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            lastError = "후보 생성이 중단되었습니다.";
         } catch (Exception e) {
-            return AIImageConversionResponse.builder()
-                    .conversionId(conversionId)
-                    .status("FAILED")
-                    .message("이미지 변환에 실패했습니다: " + e.getMessage())
-                .build();
+            lastError = e.getMessage(); // 입력 이미지 생성 실패 등
+        } finally {
+            runningGenerations.remove(conversionId);
+        }
+        
+        // 저장된 후보 수는 호출 결과가 아니라 테이블에서 셈
+        // (마감 시간 직전에 끝났거나 writer 대기 중 취소되었지만 저장은 된 후보도 포함해야 후보가 남은 작업을 실패 처리하지 않음)
+        // 그 사이 후보가 선택되었으면(COMPLETED) 상태를 바꾸지 않음
+        long saved = aiConversionCandidateRepository.countByConversion_ConversionId(conversionId);
+        if (saved > 0) {
+            aiConversionJobRepository.transitionStatus(conversionId,
+                    AIConversionJob.JobStatus.RUNNING, AIConversionJob.JobStatus.AWAITING_SELECTION,
+                    "후보 이미지 " + saved + "개가 생성되었습니다. 하나를 선택해주세요.");
+        } else {
+            log.warn("AI 이미지 후보 생성 실패 (conversionId={}): {}", conversionId, lastError);
+            aiConversionJobRepository.transitionStatus(conversionId,
+                    AIConversionJob.JobStatus.RUNNING, AIConversionJob.JobStatus.FAILED,
+                    "이미지 변환에 실패했습니다: " + lastError);
         }
     }
     
     /**
-     * AI 서비스를 호출하여 이미지 변환
+     * 생성된 후보 저장 (writer 트랜잭션 안에서 실행, 이미 선택이 끝난 작업이면 저장하지 않음)
      */
-    private String callAIService(MultipartFile imageFile, String prompt) throws IOException {
-        // multipart/form-data 요청 생성
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.MULTIPART_FORM_DATA);
+    private boolean saveCandidate(UUID conversionId, byte[] imageBytes) {
+        AIConversionJob job = aiConversionJobRepository.findById(conversionId)
+                .orElseThrow(() -> new AIConversionJobNotFoundException("변환 작업을 찾을 수 없습니다: " + conversionId));
+        if (job.getStatus() != AIConversionJob.JobStatus.RUNNING) {
+            return false;
+        }
         
-        MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
-        body.add("prompt", prompt);
-        body.add("image", imageFile.getResource());
+        ImageDimensions.Info info = ImageDimensions.probe(imageBytes);
+        aiConversionCandidateRepository.save(AIConversionCandidate.builder()
+                .conversion(job)
+                .width((info != null) ? info.width() : 0)
+                .height((info != null) ? info.height() : 0)
+                .imageData(imageBytes)
+                .build());
+        return true;
+    }
+    
+    /**
+     * 선택한 후보를 CanvasObject로 저장하고 나머지 후보 삭제 (writer 트랜잭션 안에서 실행)
+     */
+    private CanvasObjectResponse commitCandidate(UUID conversionId, UUID roomId, UUID requesterId, UUID candidateId) {
+        AIConversionJob job = aiConversionJobRepository.findById(conversionId)
+                .orElseThrow(() -> new AIConversionJobNotFoundException("변환 작업을 찾을 수 없습니다: " + conversionId));
+        if (job.getStatus() != AIConversionJob.JobStatus.RUNNING
+                && job.getStatus() != AIConversionJob.JobStatus.AWAITING_SELECTION) {
+            throw new AIConversionNotSelectableException("후보를 선택할 수 없는 변환입니다 (상태: " + job.getStatus() + ").");
+        }
+        AIConversionCandidate candidate = aiConversionCandidateRepository
+                .findByCandidateIdAndConversion_ConversionId(candidateId, conversionId)
+                .orElseThrow(() -> new AIConversionJobNotFoundException("변환 후보를 찾을 수 없습니다: " + candidateId));
         
-        HttpEntity<MultiValueMap<String, Object>> requestEntity = new HttpEntity<>(body, headers);
+        byte[] imageBytes = candidate.getImageData();
+        String objectData;
+        try {
+            objectData = imageObjectData(imageBytes);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("이미지 객체 데이터를 만들 수 없습니다: " + e.getOriginalMessage());
+        }
+        CanvasObjectResponse response = saveImageObject(conversionId, roomId, requesterId, objectData, imageBytes);
+        aiConversionCandidateRepository.deleteByConversionId(conversionId);
+        return response;
+    }
+    
+    /**
+     * 진행 중인 후보 생성 호출 취소 (가상 스레드를 interrupt하면 HttpClient가 요청을 중단)
+     */
+    private void cancelGenerations(UUID conversionId) {
+        ExecutorService generations = runningGenerations.get(conversionId);
+        if (generations != null) {
+            generations.shutdownNow();
+        }
+    }
+    
+    /**
+     * 헬퍼 메서드: 이미지 객체 데이터 JSON (Base64 이미지, 크기는 헤더만 읽고 픽셀은 디코딩하지 않음)
+     */
+    private String imageObjectData(byte[] imageBytes) throws JsonProcessingException {
+        ImageDimensions.Info info = ImageDimensions.probe(imageBytes);
         
-        // AI 서비스 URL
-        String url = aiServiceUrl + "/api/generate/image-to-image";
+        Map<String, Object> imageData = new HashMap<>();
+        imageData.put("imageData", Base64.getEncoder().encodeToString(imageBytes));
+        imageData.put("width", (info != null) ? info.width() : 0);
+        imageData.put("height", (info != null) ? info.height() : 0);
+        return objectMapper.writeValueAsString(imageData);
+    }
+    
+    /**
+     * 변환된 이미지를 CanvasObject로 저장하고 작업을 완료 처리 (writer 트랜잭션 안에서 실행)
+     * 그 사이 실패 처리된(lease 만료 등) 작업은 완료로 되돌리지 않고 객체도 만들지 않음
+     * 축소본은 커밋 후 백그라운드에서 생성
+     */
+    private CanvasObjectResponse saveImageObject(UUID conversionId, UUID roomId, UUID requesterId,
+                                                 String objectData, byte[] imageBytes) {
+        AIConversionJob job = aiConversionJobRepository.findById(conversionId)
+                .orElseThrow(() -> new AIConversionJobNotFoundException("변환 작업을 찾을 수 없습니다: " + conversionId));
+        if (job.getStatus() != AIConversionJob.JobStatus.RUNNING
+                && job.getStatus() != AIConversionJob.JobStatus.AWAITING_SELECTION) {
+            throw new AIConversionNotSelectableException("이미 종료된 변환입니다 (상태: " + job.getStatus() + ").");
+        }
         
-        // AI 서비스 호출
-        ResponseEntity<String> response = restTemplate.exchange(
-                url,
-                HttpMethod.POST,
-                requestEntity,
-                String.class
-        );
+        Room room = roomRepository.findByRoomId(roomId)
+                .orElseThrow(() -> new RoomNotFoundException("방을 찾을 수 없습니다: " + roomId));
+        User creator = userRepository.findByUserId(requesterId)
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + requesterId));
         
-        if (!response.getStatusCode().is2xxSuccessful()) {
-            throw new RuntimeException("AI 서비스 호출 실패: " + response.getStatusCode());
-        }
+        CanvasObject imageObject = CanvasObject.builder()
+                .room(room)
+                .creator(creator)
+                .objectType("image")
+                .objectData(objectData)
+                .isDeleted(false)
+                .build();
+        CanvasObject savedObject = canvasObjectRepository.saveAndFlush(imageObject); // flush로 버전/생성일시 반영
+        
+        // 작업 완료 처리 (같은 트랜잭션에서 커밋)
+        job.setStatus(AIConversionJob.JobStatus.COMPLETED);
+        job.setMessage("이미지 변환이 완료되었습니다.");
+        job.setResultObjectId(savedObject.getObjectId());
+        
+        imageVariantService.scheduleVariants(savedObject.getObjectId(), imageBytes);
+        
+        CanvasObjectResponse response = CanvasObjectResponse.builder()
+                .objectId(savedObject.getObjectId())
+                .roomId(roomId)
+                .creatorId(creator.getUserId())
+                .objectType(savedObject.getObjectType())
+                .objectData(savedObject.getObjectData())
+                .createdAt(savedObject.getCreatedAt())
+                .version(savedObject.getVersion())
+                .build();
+        canvasChangeNotifier.notifyRoomChanged(roomId, CanvasObjectEventResponse.EventType.UPSERT, response);
         
-        return response.getBody();
+        return response;
     }
     
     /**
@@ -0,0 +1,317 @@
+package com.jangyeonguk.backend.service;
+
+import com.jangyeonguk.backend.exception.AIServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * AI 이미지 변환 결과 캐시
+ * 입력 이미지 바이트와 정규화된 프롬프트의 SHA-256을 키로, 생성된 이미지를 로컬 디스크에 저장
+ * 전체 크기가 한도를 넘으면 가장 오래 사용하지 않은 파일부터 삭제 (LRU)
+ * 같은 키의 변환이 진행 중이면 새로 호출하지 않고 진행 중인 결과를 함께 기다림 (최대 wait-timeout-ms, 취소 가능)
+ * 디스크는 재배포 시 비워질 수 있으므로 캐시로만 사용하며, 원본은 항상 canvas_objects에 저장됨
+ */
+@Slf4j
+@Component
+public class AIResultCache {
+
+    private static final String FILE_SUFFIX = ".img";
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private final Path directory;
+    private final long maxBytes;
+    private final long waitTimeoutMs;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    // 키 -> 파일 크기, 접근 순서로 정렬 (맨 앞이 가장 오래 사용하지 않은 항목), lock 안에서만 접근
+    private final LinkedHashMap<String, Long> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalBytes; // lock 안에서만 접근
+
+    // 진행 중인 변환 (같은 키의 동시 요청은 하나의 AI 서비스 호출을 공유)
+    private final Map<String, CompletableFuture<byte[]>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter sharedCounter;
+
+    public AIResultCache(
+            MeterRegistry meterRegistry,
+            @Value("${ai.result-cache.dir:${java.io.tmpdir}/canvas-sync-ai-cache}") String directory,
+            @Value("${ai.result-cache.max-bytes:536870912}") long maxBytes,
+            @Value("${ai.result-cache.wait-timeout-ms:150000}") long waitTimeoutMs) {
+        this.directory = Path.of(directory);
+        this.maxBytes = maxBytes;
+        this.waitTimeoutMs = waitTimeoutMs;
+
+        this.hitCounter = requestCounter(meterRegistry, "hit");
+        this.missCounter = requestCounter(meterRegistry, "miss");
+        this.sharedCounter = requestCounter(meterRegistry, "shared");
+        Gauge.builder("ai.result-cache.size", this, cache -> cache.sizeInBytes())
+                .description("AI 변환 결과 캐시의 디스크 사용량")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 서버 시작 시 디스크에 남아 있는 캐시 파일을 수정 시각 순으로 색인
+     */
+    @PostConstruct
+    void load() throws IOException {
+        Files.createDirectories(directory);
+
+        // 저장 도중 종료되어 남은 임시 파일 정리
+        try (Stream<Path> stream = Files.list(directory)) {
+            stream.filter(path -> path.getFileName().toString().endsWith(TEMP_SUFFIX))
+                    .forEach(this::deleteQuietly);
+        }
+
+        List<Path> files;
+        try (Stream<Path> stream = Files.list(directory)) {
+            files = stream
+                    .filter(path -> path.getFileName().toString().endsWith(FILE_SUFFIX))
+                    .sorted(Comparator.comparingLong(this::lastModifiedMillis))
+                    .toList();
+        }
+
+        lock.lock();
+        try {
+            for (Path file : files) {
+                String fileName = file.getFileName().toString();
+                long size = Files.size(file);
+                entries.put(fileName.substring(0, fileName.length() - FILE_SUFFIX.length()), size);
+                totalBytes += size;
+            }
+            evictIfNeeded();
+        } finally {
+            lock.unlock();
+        }
+        log.info("AI 변환 결과 캐시 {}개 ({} bytes)를 불러왔습니다.", files.size(), totalBytes);
+    }
+
+    /**
+     * 캐시 키 생성: SHA-256(입력 이미지 || 0 || 정규화된 프롬프트)
+     * 프롬프트는 유니코드 정규화(NFC) 후 앞뒤 공백 제거, 연속 공백을 하나로 합침
+     *
+     * @param imageBytes 입력 이미지
+     * @param prompt 프롬프트
+     * @return 16진수 키
+     */
+    public String key(byte[] imageBytes, String prompt) {
+        String normalizedPrompt = Normalizer.normalize(prompt, Normalizer.Form.NFC)
+                .trim()
+                .replaceAll("\\s+", " ");
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(imageBytes);
+            digest.update((byte) 0);
+            digest.update(normalizedPrompt.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 캐시된 결과를 반환하고, 없으면 생성 후 저장
+     * 같은 키를 생성 중인 요청이 있으면 그 결과를 함께 사용
+     *
+     * @param key 캐시 키
+     * @param generator 결과 생성 (AI 서비스 호출)
+     * @return 생성된 이미지 바이트
+     */
+    public byte[] getOrGenerate(String key, Supplier<byte[]> generator) {
+        byte[] cached = get(key);
+        if (cached != null) {
+            hitCounter.increment();
+            return cached;
+        }
+
+        CompletableFuture<byte[]> created = new CompletableFuture<>();
+        CompletableFuture<byte[]> existing = inFlight.putIfAbsent(key, created);
+        if (existing != null) {
+            sharedCounter.increment();
+            return await(existing);
+        }
+
+        try {
+            // 조회와 등록 사이에 다른 요청이 생성을 마쳤을 수 있으므로 한 번 더 확인
+            byte[] stored = get(key);
+            if (stored != null) {
+                hitCounter.increment();
+                created.complete(stored);
+                return stored;
+            }
+
+            missCounter.increment();
+            byte[] result = generator.get();
+            put(key, result);
+            created.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            created.completeExceptionally(e); // 실패한 결과는 캐시하지 않음
+            throw e;
+        } finally {
+            inFlight.remove(key, created);
+        }
+    }
+
+    private byte[] get(String key) {
+        lock.lock();
+        try {
+            if (entries.get(key) == null) { // get으로 접근 순서 갱신
+                return null;
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        try {
+            return Files.readAllBytes(fileOf(key));
+        } catch (NoSuchFileException e) {
+            remove(key); // 외부에서 삭제된 파일
+            return null;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void put(String key, byte[] value) {
+        if (value.length > maxBytes) {
+            return;
+        }
+        Path temp = null;
+        try {
+            // 임시 파일에 쓴 뒤 이동하여 다른 스레드가 쓰다 만 파일을 읽지 않도록 함
+            temp = Files.createTempFile(directory, key, TEMP_SUFFIX);
+            Files.write(temp, value);
+            Files.move(temp, fileOf(key), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("AI 변환 결과를 캐시에 저장하지 못했습니다: {}", e.getMessage());
+            deleteQuietly(temp);
+            return;
+        }
+
+        lock.lock();
+        try {
+            Long previous = entries.put(key, (long) value.length);
+            totalBytes += value.length - (previous != null ? previous : 0L);
+            evictIfNeeded();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void remove(String key) {
+        lock.lock();
+        try {
+            Long size = entries.remove(key);
+            if (size != null) {
+                totalBytes -= size;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 한도를 넘으면 가장 오래 사용하지 않은 항목부터 삭제 (lock 안에서 호출)
+     */
+    private void evictIfNeeded() {
+        Iterator<Map.Entry<String, Long>> iterator = entries.entrySet().iterator();
+        while (totalBytes > maxBytes && iterator.hasNext()) {
+            Map.Entry<String, Long> eldest = iterator.next();
+            iterator.remove();
+            totalBytes -= eldest.getValue();
+            deleteQuietly(fileOf(eldest.getKey()));
+        }
+    }
+
+    private void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("AI 변환 결과 캐시 파일을 삭제하지 못했습니다: {}", e.getMessage());
+        }
+    }
+
+    private long sizeInBytes() {
+        lock.lock();
+        try {
+            return totalBytes;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Path fileOf(String key) {
+        return directory.resolve(key + FILE_SUFFIX);
+    }
+
+    private long lastModifiedMillis(Path path) {
+        try {
+            return Files.getLastModifiedTime(path).toMillis();
+        } catch (IOException e) {
+            return 0L;
+        }
+    }
+
+    /**
+     * 진행 중인 변환 결과 대기 (제한 시간이 지나거나 대기 중인 스레드가 interrupt되면 기다리지 않음)
+     */
+    private byte[] await(CompletableFuture<byte[]> future) {
+        try {
+            return future.get(waitTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new AIServiceUnavailableException("AI 서비스 응답 시간이 초과되었습니다.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AIServiceUnavailableException("AI 서비스 호출이 취소되었습니다.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private static Counter requestCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("ai.result-cache.requests")
+                .tag("result", result)
+                .description("AI 변환 결과 캐시 조회 수 (hit: 디스크 적중, shared: 진행 중인 호출 공유, miss: AI 서비스 호출)")
+                .register(meterRegistry);
+    }
+}
+
@@ -0,0 +1,37 @@
+package com.jangyeonguk.backend.service;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * AI 서비스 호출 JFR 이벤트 (결과 캐시에 없어서 실제로 호출한 경우만)
+ */
+@Name("com.jangyeonguk.ai.ServiceCall")
+@Label("AI Service Call")
+@Category({"Canvas Sync", "AI"})
+@Description("AI 서비스 image-to-image 호출")
+@StackTrace(false)
+class AIServiceCallEvent extends Event {
+
+    @Label("Conversion ID")
+    String conversionId;
+
+    @Label("Room ID")
+    String roomId;
+
+    @Label("Input Size")
+    @DataAmount(DataAmount.BYTES)
+    long inputBytes;
+
+    @Label("Output Size")
+    @DataAmount(DataAmount.BYTES)
+    long outputBytes;
+
+    @Label("Succeeded")
+    boolean succeeded;
+}
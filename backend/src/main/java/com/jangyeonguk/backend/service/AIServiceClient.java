@@ -0,0 +1,323 @@
+package com.jangyeonguk.backend.service;
+
+import com.fasterxml.jackson.core.Base64Variants;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.jangyeonguk.backend.exception.AIServiceUnavailableException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * AI 서비스(Python) HTTP 클라이언트
+ * JDK HttpClient 하나를 공유하여 커넥션을 재사용하고, 연결/응답 시간 제한과 서킷 브레이커를 적용
+ * 업로드는 multipart 본문 전체를 복사하지 않고 이미지 바이트를 그대로 전송하며,
+ * 응답의 image_data(Base64)는 스트림에서 바로 디코딩하여 Base64 문자열을 메모리에 만들지 않음
+ * 동시 호출 수는 AI 서비스가 감당할 수 있는 수(max-concurrent-calls)로 제한하며, 단일 변환과 후보 생성 호출이 같은 한도를 공유
+ * 요청의 timeout은 응답 헤더까지만 적용되므로, 본문 수신까지 포함한 전체 호출 시간은 watchdog이 제한
+ * (마감 시간이 지나면 응답 대기를 취소하거나 본문 스트림을 닫아 읽기를 중단)
+ */
+@Component
+public class AIServiceClient {
+
+    private static final String IMAGE_TO_IMAGE_PATH = "/api/generate/image-to-image";
+    private static final int MAX_ERROR_BODY_BYTES = 1024;
+
+    private final HttpClient httpClient;
+    private final JsonFactory jsonFactory = new JsonFactory();
+    private final CircuitBreaker circuitBreaker;
+    private final URI imageToImageUri;
+    private final Duration readTimeout;
+    private final Semaphore callPermits;
+    private final ScheduledExecutorService watchdog = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "ai-service-watchdog");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Map<Outcome, Timer> callTimers;
+
+    public AIServiceClient(
+            MeterRegistry meterRegistry,
+            @Value("${ai.service.url:http://localhost:8000}") String aiServiceUrl,
+            @Value("${ai.service.connect-timeout-ms:3000}") long connectTimeoutMs,
+            @Value("${ai.service.read-timeout-ms:120000}") long readTimeoutMs,
+            @Value("${ai.service.max-concurrent-calls:4}") int maxConcurrentCalls,
+            @Value("${ai.service.circuit-breaker.failure-threshold:5}") int failureThreshold,
+            @Value("${ai.service.circuit-breaker.open-duration-ms:30000}") long openDurationMs) {
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1) // AI 서비스(uvicorn)는 HTTP/2 업그레이드를 지원하지 않음
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .build();
+        this.circuitBreaker = new CircuitBreaker(failureThreshold, openDurationMs);
+        this.imageToImageUri = URI.create(aiServiceUrl + IMAGE_TO_IMAGE_PATH);
+        this.readTimeout = Duration.ofMillis(readTimeoutMs);
+        this.callPermits = new Semaphore(maxConcurrentCalls, true);
+
+        Gauge.builder("ai.service.circuit.state", circuitBreaker, breaker -> breaker.state().ordinal())
+                .description("AI 서비스 서킷 브레이커 상태 (0: CLOSED, 1: OPEN, 2: HALF_OPEN)")
+                .register(meterRegistry);
+        Gauge.builder("ai.service.calls.waiting", callPermits, Semaphore::getQueueLength)
+                .description("동시 호출 한도로 AI 서비스 호출을 기다리는 수")
+                .register(meterRegistry);
+        this.callTimers = new EnumMap<>(Outcome.class);
+        for (Outcome outcome : Outcome.values()) {
+            callTimers.put(outcome, Timer.builder("ai.service.requests")
+                    .description("AI 서비스 호출 시간과 결과")
+                    .tag("outcome", outcome.name())
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        watchdog.shutdownNow();
+    }
+
+    /**
+     * 이미지 + 프롬프트로 이미지 생성 (image-to-image)
+     *
+     * @param imageBytes 입력 이미지
+     * @param imageFilename 입력 이미지 파일명
+     * @param prompt 프롬프트
+     * @return 생성된 이미지 바이트 (Base64 디코딩됨)
+     * 동시 호출 한도가 차 있으면 최대 read-timeout-ms 동안 빈 자리를 기다림
+     */
+    public byte[] generateImage(byte[] imageBytes, String imageFilename, String prompt) {
+        long startNanos = System.nanoTime();
+        try {
+            if (!callPermits.tryAcquire(readTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                record(Outcome.BUSY, startNanos);
+                throw new AIServiceUnavailableException("AI 서비스 요청이 밀려 있습니다. 잠시 후 다시 시도해주세요.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            record(Outcome.CANCELLED, startNanos);
+            throw new AIServiceUnavailableException("AI 서비스 호출이 취소되었습니다.");
+        }
+        try {
+            return call(imageBytes, imageFilename, prompt, System.nanoTime()); // 호출 시간에 대기 시간은 제외
+        } finally {
+            callPermits.release();
+        }
+    }
+
+    /**
+     * 실제 호출 (동시 호출 허가를 얻은 뒤 실행)
+     */
+    private byte[] call(byte[] imageBytes, String imageFilename, String prompt, long startNanos) {
+        if (!circuitBreaker.tryAcquire()) {
+            record(Outcome.REJECTED, startNanos);
+            throw new AIServiceUnavailableException("AI 서비스가 일시적으로 응답하지 않습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        String boundary = "canvas-sync-" + UUID.randomUUID();
+        HttpRequest request = HttpRequest.newBuilder(imageToImageUri)
+                .timeout(readTimeout)
+                .header("Content-Type", "multipart/form-data; boundary=" + boundary)
+                .POST(multipartBody(boundary, imageBytes, imageFilename, prompt))
+                .build();
+
+        CompletableFuture<HttpResponse<InputStream>> call =
+                httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofInputStream());
+        AtomicBoolean deadlineExceeded = new AtomicBoolean();
+        ScheduledFuture<?> deadline = watchdog.schedule(() -> {
+            deadlineExceeded.set(true);
+            call.cancel(true); // 응답 헤더를 기다리는 중이면 요청 중단
+            call.thenAccept(response -> closeQuietly(response.body())); // 본문을 읽는 중이면 스트림을 닫아 중단
+        }, readTimeout.toMillis(), TimeUnit.MILLISECONDS);
+
+        Outcome outcome = Outcome.ERROR;
+        try {
+            HttpResponse<InputStream> response = awaitResponse(call);
+            try (InputStream body = response.body()) {
+                if (response.statusCode() / 100 != 2) {
+                    if (response.statusCode() / 100 == 4) {
+                        circuitBreaker.recordIgnored(); // 요청 오류는 서비스 상태와 무관하므로 서킷에 반영하지 않음
+                    }
+                    String error = new String(body.readNBytes(MAX_ERROR_BODY_BYTES), StandardCharsets.UTF_8);
+                    throw new AIServiceCallException("AI 서비스 호출 실패: " + response.statusCode() + " " + error,
+                            response.statusCode() / 100 == 5);
+                }
+                byte[] image = readImageData(body);
+                circuitBreaker.recordSuccess();
+                outcome = Outcome.SUCCESS;
+                return image;
+            }
+        } catch (HttpTimeoutException e) {
+            circuitBreaker.recordFailure();
+            outcome = Outcome.TIMEOUT;
+            throw new AIServiceUnavailableException("AI 서비스 응답 시간이 초과되었습니다.");
+        } catch (IOException e) {
+            if (deadlineExceeded.get()) { // watchdog이 본문 스트림을 닫음
+                circuitBreaker.recordFailure();
+                outcome = Outcome.TIMEOUT;
+                throw new AIServiceUnavailableException("AI 서비스 응답 시간이 초과되었습니다.");
+            }
+            if (Thread.currentThread().isInterrupted()) {
+                circuitBreaker.recordIgnored(); // 응답을 읽는 도중 취소됨
+                outcome = Outcome.CANCELLED;
+                throw new AIServiceUnavailableException("AI 서비스 호출이 취소되었습니다.");
+            }
+            circuitBreaker.recordFailure();
+            outcome = Outcome.UNAVAILABLE;
+            throw new AIServiceUnavailableException("AI 서비스에 연결할 수 없습니다: " + e.getMessage());
+        } catch (InterruptedException e) {
+            // 호출 취소 (다른 후보가 선택되었거나 마감 시간이 지남), 요청은 HttpClient가 중단함
+            Thread.currentThread().interrupt();
+            circuitBreaker.recordIgnored();
+            outcome = Outcome.CANCELLED;
+            throw new AIServiceUnavailableException("AI 서비스 호출이 취소되었습니다.");
+        } catch (AIServiceCallException e) {
+            if (e.serverError) {
+                circuitBreaker.recordFailure();
+            }
+            outcome = e.serverError ? Outcome.SERVER_ERROR : Outcome.CLIENT_ERROR;
+            throw e;
+        } catch (RuntimeException e) {
+            circuitBreaker.recordFailure();
+            if (deadlineExceeded.get()) { // 닫힌 스트림에서 응답이 끊겨 형식 오류로 보임
+                outcome = Outcome.TIMEOUT;
+                throw new AIServiceUnavailableException("AI 서비스 응답 시간이 초과되었습니다.");
+            }
+            throw e;
+        } finally {
+            deadline.cancel(false);
+            record(outcome, startNanos);
+        }
+    }
+
+    /**
+     * 응답 헤더 대기 (취소되면 요청도 중단)
+     */
+    private static HttpResponse<InputStream> awaitResponse(CompletableFuture<HttpResponse<InputStream>> call)
+            throws IOException, InterruptedException {
+        try {
+            return call.get();
+        } catch (InterruptedException e) {
+            call.cancel(true);
+            throw e;
+        } catch (CancellationException e) {
+            throw new HttpTimeoutException("request timed out"); // watchdog만 취소함
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IOException(e.getCause());
+        }
+    }
+
+    private static void closeQuietly(InputStream body) {
+        try {
+            body.close();
+        } catch (IOException ignored) {
+            // 읽는 쪽에서 IOException으로 처리됨
+        }
+    }
+
+    private void record(Outcome outcome, long startNanos) {
+        callTimers.get(outcome).record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * multipart/form-data 본문 (prompt, image)
+     * 이미지 바이트는 복사하지 않고 앞뒤 구분자와 이어서 전송
+     */
+    private HttpRequest.BodyPublisher multipartBody(String boundary, byte[] imageBytes,
+                                                    String imageFilename, String prompt) {
+        String filename = (imageFilename != null ? imageFilename : "image.png").replace("\"", "");
+        String head = "--" + boundary + "\r\n"
+                + "Content-Disposition: form-data; name=\"prompt\"\r\n"
+                + "Content-Type: text/plain; charset=UTF-8\r\n\r\n"
+                + prompt + "\r\n"
+                + "--" + boundary + "\r\n"
+                + "Content-Disposition: form-data; name=\"image\"; filename=\"" + filename + "\"\r\n"
+                + "Content-Type: application/octet-stream\r\n\r\n";
+        String tail = "\r\n--" + boundary + "--\r\n";
+
+        return HttpRequest.BodyPublishers.concat(
+                HttpRequest.BodyPublishers.ofString(head, StandardCharsets.UTF_8),
+                HttpRequest.BodyPublishers.ofByteArray(imageBytes),
+                HttpRequest.BodyPublishers.ofString(tail, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 응답 JSON에서 image_data 필드를 찾아 스트림에서 바로 Base64 디코딩
+     */
+    private byte[] readImageData(InputStream body) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IllegalStateException("AI 서비스 응답 형식이 올바르지 않습니다.");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("image_data".equals(field) && value == JsonToken.VALUE_STRING) {
+                    ByteArrayOutputStream image = new ByteArrayOutputStream();
+                    parser.readBinaryValue(Base64Variants.MIME_NO_LINEFEEDS, image);
+                    if (image.size() == 0) {
+                        break;
+                    }
+                    return image.toByteArray();
+                }
+                parser.skipChildren();
+            }
+        }
+        throw new IllegalStateException("AI 서비스에서 이미지 데이터를 받지 못했습니다.");
+    }
+
+    /**
+     * 호출 결과 (지표 태그)
+     */
+    private enum Outcome {
+        SUCCESS,        // 이미지 생성 성공
+        CLIENT_ERROR,   // 4xx 응답
+        SERVER_ERROR,   // 5xx 응답
+        TIMEOUT,        // 응답 시간 초과
+        UNAVAILABLE,    // 연결 실패
+        CANCELLED,      // 호출 취소
+        REJECTED,       // 서킷이 열려 호출하지 않음
+        BUSY,           // 동시 호출 한도로 기다리다 시간 초과
+        ERROR           // 응답 형식 오류 등
+    }
+
+    private static final class AIServiceCallException extends IllegalStateException {
+        private final boolean serverError;
+
+        private AIServiceCallException(String message, boolean serverError) {
+            super(message);
+            this.serverError = serverError;
+        }
+    }
+}
+
@@ -0,0 +1,180 @@
+package com.jangyeonguk.backend.service;
+
+import com.jangyeonguk.backend.dto.CanvasChangeResponse;
+import com.jangyeonguk.backend.dto.CanvasObjectEventResponse;
+import com.jangyeonguk.backend.dto.CanvasObjectResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 방 단위 캔버스 변경 알림
+ * 방마다 메모리상의 변경 버전을 관리하고, long-poll 대기 요청(DeferredResult)을 방별로 보관
+ * 변경이 발생하면 해당 방의 대기 요청만 깨우므로, 유휴 방은 스레드와 DB 커넥션을 점유하지 않음
+ * SSE 구독자에게는 변경된 객체 이벤트를 CanvasEventBroadcaster를 통해 push
+ * 대기 요청 없이 idle-channel-ttl-ms 동안 사용되지 않은 방은 메모리에서 제거
+ * 버전은 모든 방이 공유하는 카운터에서 발급하므로, 제거된 방을 다시 만들어도 버전이 줄어들지 않음
+ * (방마다 연속된 번호는 아니지만 늘어나기만 하며, 클라이언트는 같은지만 비교함)
+ */
+@Component
+@RequiredArgsConstructor
+public class CanvasChangeNotifier {
+
+    private final CanvasEventBroadcaster canvasEventBroadcaster;
+
+    private final Map<UUID, RoomChannel> channels = new ConcurrentHashMap<>();
+    private final AtomicLong lastVersion = new AtomicLong();
+
+    @Value("${canvas.long-poll.idle-channel-ttl-ms:300000}")
+    private long idleChannelTtlMs;
+
+    /**
+     * 방의 현재 변경 버전 조회
+     * 클라이언트가 이 버전으로 대기하므로, 방이 없으면 만들어 두어 다음 대기 요청과 같은 버전을 보게 함
+     *
+     * @param roomId 방 ID
+     * @return 현재 버전
+     */
+    public long currentVersion(UUID roomId) {
+        return channels.compute(roomId, (id, channel) -> touch(channel)).version.get();
+    }
+
+    /**
+     * since 이후의 변경을 기다리는 long-poll 요청 등록
+     * 이미 변경이 있었거나 클라이언트 버전이 서버보다 앞서 있으면(서버 재시작) 즉시 응답
+     *
+     * @param roomId 방 ID
+     * @param since 클라이언트가 마지막으로 본 버전
+     * @param timeoutMs 최대 대기 시간 (밀리초)
+     * @return 변경 또는 타임아웃 시 완료되는 DeferredResult
+     */
+    public DeferredResult<CanvasChangeResponse> awaitChange(UUID roomId, long since, long timeoutMs) {
+        DeferredResult<CanvasChangeResponse> waiter = new DeferredResult<>(timeoutMs);
+
+        // 유휴 방 정리(removeIdleChannels)와 경합하지 않도록 방 단위로 원자적으로 등록
+        RoomChannel channel = channels.compute(roomId, (id, current) -> {
+            RoomChannel target = touch(current);
+            target.waiters.add(waiter);
+            return target;
+        });
+        waiter.onTimeout(() -> waiter.setResult(response(roomId, channel.version.get(), false)));
+        waiter.onCompletion(() -> channel.waiters.remove(waiter));
+
+        // 등록 후 버전을 확인해야 등록과 알림 사이의 변경을 놓치지 않음
+        long version = channel.version.get();
+        if (version != since) {
+            waiter.setResult(response(roomId, version, true));
+        }
+
+        return waiter;
+    }
+
+    /**
+     * 방의 변경 이벤트 구독 (SSE)
+     *
+     * @param roomId 방 ID
+     * @param timeoutMs SSE 연결 유지 시간 (밀리초)
+     * @return SSE emitter
+     */
+    public SseEmitter subscribe(UUID roomId, long timeoutMs) {
+        return canvasEventBroadcaster.subscribe(roomId, timeoutMs, currentVersion(roomId));
+    }
+
+    /**
+     * 방의 변경을 알림
+     * 트랜잭션 안에서 호출되면 커밋 이후에 대기 요청을 깨워, 클라이언트가 재조회 시 커밋된 데이터를 보도록 함
+     *
+     * @param roomId 변경된 방 ID
+     * @param type 변경 종류
+     * @param object 변경 후 객체 상태
+     */
+    public void notifyRoomChanged(UUID roomId, CanvasObjectEventResponse.EventType type, CanvasObjectResponse object) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publish(roomId, type, object);
+                }
+            });
+        } else {
+            publish(roomId, type, object);
+        }
+    }
+
+    private void publish(UUID roomId, CanvasObjectEventResponse.EventType type, CanvasObjectResponse object) {
+        RoomChannel channel = channels.compute(roomId, (id, current) -> {
+            RoomChannel target = touch(current);
+            target.version.accumulateAndGet(lastVersion.incrementAndGet(), Math::max);
+            return target;
+        });
+        long version = channel.version.get();
+
+        DeferredResult<CanvasChangeResponse> waiter;
+        while ((waiter = channel.waiters.poll()) != null) {
+            waiter.setResult(response(roomId, version, true));
+        }
+
+        canvasEventBroadcaster.broadcast(CanvasObjectEventResponse.builder()
+                .type(type)
+                .roomId(roomId)
+                .objectId(object.getObjectId())
+                .version(version)
+                .object(type == CanvasObjectEventResponse.EventType.DELETE ? null : object)
+                .build());
+    }
+
+    /**
+     * 대기 요청이 없고 오래 사용되지 않은 방 제거 (대기 요청 등록/알림과 같은 방 단위 잠금 안에서 확인)
+     */
+    @Scheduled(fixedDelayString = "${canvas.long-poll.idle-channel-ttl-ms:300000}")
+    public void removeIdleChannels() {
+        long idleBefore = System.currentTimeMillis() - idleChannelTtlMs;
+        for (UUID roomId : channels.keySet()) {
+            channels.computeIfPresent(roomId, (id, channel) ->
+                    channel.waiters.isEmpty() && channel.lastUsedAt < idleBefore ? null : channel);
+        }
+    }
+
+    int channelCount() {
+        return channels.size();
+    }
+
+    /**
+     * 헬퍼 메서드: 방을 사용 중으로 표시 (없으면 현재까지 발급된 버전으로 새로 만듦, 방 단위 잠금 안에서 호출)
+     */
+    private RoomChannel touch(RoomChannel channel) {
+        RoomChannel target = (channel != null) ? channel : new RoomChannel(lastVersion.get());
+        target.lastUsedAt = System.currentTimeMillis();
+        return target;
+    }
+
+    private CanvasChangeResponse response(UUID roomId, long version, boolean changed) {
+        return CanvasChangeResponse.builder()
+                .roomId(roomId)
+                .version(version)
+                .changed(changed)
+                .build();
+    }
+
+    private static final class RoomChannel {
+        private final AtomicLong version;
+        private final Queue<DeferredResult<CanvasChangeResponse>> waiters = new ConcurrentLinkedQueue<>();
+        private volatile long lastUsedAt;
+
+        private RoomChannel(long version) {
+            this.version = new AtomicLong(version);
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package com.jangyeonguk.backend.service;
+
+import com.jangyeonguk.backend.dto.CanvasObjectEventResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 캔버스 변경 이벤트 push (SSE)
+ * 구독자마다 크기가 제한된 송신 큐를 두고, 전송은 구독자별 가상 스레드에서 수행
+ * 느린 클라이언트는 자신의 큐만 채우므로 방 전체 브로드캐스트를 지연시키지 않음
+ * 큐가 가득 차면 같은 objectId의 대기 이벤트를 최신 상태로 합치고(coalesce),
+ * 합칠 수 없으면 큐를 비우고 RESYNC(스냅샷 재조회) 상태로 강등
+ */
+@Component
+public class CanvasEventBroadcaster {
+
+    private final Map<UUID, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final ExecutorService senderExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final int queueCapacity;
+    private final Counter coalescedCounter;
+    private final Counter droppedCounter;
+    private final Counter resyncCounter;
+
+    public CanvasEventBroadcaster(
+            MeterRegistry meterRegistry,
+            @Value("${canvas.stream.queue-capacity:256}") int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+        this.coalescedCounter = Counter.builder("canvas.stream.events.coalesced")
+                .description("큐 초과 시 같은 객체의 대기 이벤트와 합쳐진 이벤트 수")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("canvas.stream.events.dropped")
+                .description("RESYNC 강등으로 버려진 이벤트 수")
+                .register(meterRegistry);
+        this.resyncCounter = Counter.builder("canvas.stream.resyncs")
+                .description("느린 구독자가 스냅샷 재조회로 강등된 횟수")
+                .register(meterRegistry);
+        Gauge.builder("canvas.stream.subscribers", this, CanvasEventBroadcaster::subscriberCount)
+                .description("현재 SSE 구독자 수")
+                .register(meterRegistry);
+        Gauge.builder("canvas.stream.queue.depth", this, CanvasEventBroadcaster::totalQueueDepth)
+                .description("모든 구독자 송신 큐에 대기 중인 이벤트 수")
+                .register(meterRegistry);
+        Gauge.builder("canvas.stream.queue.depth.max", this, CanvasEventBroadcaster::maxQueueDepth)
+                .description("가장 많이 밀린 구독자의 송신 큐 길이")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 방 이벤트 구독
+     * 구독 직후 RESYNC 이벤트를 보내므로, 클라이언트는 이를 받은 뒤 목록을 조회하면 누락 없이 이어받을 수 있음
+     *
+     * @param roomId 방 ID
+     * @param timeoutMs SSE 연결 유지 시간 (밀리초)
+     * @param currentVersion 구독 시점의 방 변경 버전
+     * @return SSE emitter
+     */
+    public SseEmitter subscribe(UUID roomId, long timeoutMs, long currentVersion) {
+        Subscriber subscriber = new Subscriber(roomId, new SseEmitter(timeoutMs));
+
+        subscriber.emitter.onCompletion(() -> unsubscribe(subscriber));
+        subscriber.emitter.onTimeout(() -> unsubscribe(subscriber));
+        subscriber.emitter.onError(e -> unsubscribe(subscriber));
+
+        subscribers.computeIfAbsent(roomId, id -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        subscriber.offer(resyncEvent(roomId, currentVersion));
+
+        return subscriber.emitter;
+    }
+
+    /**
+     * 방의 모든 구독자 큐에 이벤트 추가 (전송은 비동기)
+     *
+     * @param event 브로드캐스트할 이벤트
+     */
+    public void broadcast(CanvasObjectEventResponse event) {
+        Set<Subscriber> roomSubscribers = subscribers.get(event.getRoomId());
+        if (roomSubscribers == null) {
+            return;
+        }
+        for (Subscriber subscriber : roomSubscribers) {
+            subscriber.offer(event);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        senderExecutor.shutdownNow();
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        subscriber.closed = true;
+        subscribers.computeIfPresent(subscriber.roomId, (id, set) -> {
+            set.remove(subscriber);
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    private double subscriberCount() {
+        return subscribers.values().stream().mapToInt(Set::size).sum();
+    }
+
+    private double totalQueueDepth() {
+        return subscribers.values().stream()
+                .flatMap(Set::stream)
+                .mapToInt(Subscriber::depth)
+                .sum();
+    }
+
+    private double maxQueueDepth() {
+        return subscribers.values().stream()
+                .flatMap(Set::stream)
+                .mapToInt(Subscriber::depth)
+                .max()
+                .orElse(0);
+    }
+
+    private static CanvasObjectEventResponse resyncEvent(UUID roomId, Long version) {
+        return CanvasObjectEventResponse.builder()
+                .type(CanvasObjectEventResponse.EventType.RESYNC)
+                .roomId(roomId)
+                .version(version)
+                .build();
+    }
+
+    private final class Subscriber {
+        private final UUID roomId;
+        private final SseEmitter emitter;
+        private final ArrayDeque<CanvasObjectEventResponse> queue = new ArrayDeque<>(); // this로 동기화
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private boolean resyncPending; // this로 동기화
+        private volatile boolean closed;
+
+        private Subscriber(UUID roomId, SseEmitter emitter) {
+            this.roomId = roomId;
+            this.emitter = emitter;
+        }
+
+        private void offer(CanvasObjectEventResponse event) {
+            if (closed) {
+                return;
+            }
+            synchronized (this) {
+                if (event.getType() == CanvasObjectEventResponse.EventType.RESYNC) {
+                    droppedCounter.increment(queue.size());
+                    queue.clear();
+                    queue.addLast(event);
+                    resyncPending = true;
+                } else if (resyncPending) {
+                    // 스냅샷을 다시 받을 예정이므로 그 전의 이벤트는 의미가 없음
+                    droppedCounter.increment();
+                } else if (queue.size() < queueCapacity) {
+                    queue.addLast(event);
+                } else if (queue.removeIf(pending -> event.getObjectId().equals(pending.getObjectId()))) {
+                    // 같은 객체의 대기 이벤트를 최신 상태 하나로 합침
+                    queue.addLast(event);
+                    coalescedCounter.increment();
+                } else {
+                    droppedCounter.increment(queue.size() + 1);
+                    queue.clear();
+                    queue.addLast(resyncEvent(roomId, event.getVersion()));
+                    resyncPending = true;
+                    resyncCounter.increment();
+                }
+            }
+            scheduleDrain();
+        }
+
+        private synchronized int depth() {
+            return queue.size();
+        }
+
+        private synchronized CanvasObjectEventResponse poll() {
+            CanvasObjectEventResponse next = queue.pollFirst();
+            if (next != null && next.getType() == CanvasObjectEventResponse.EventType.RESYNC) {
+                resyncPending = false;
+            }
+            return next;
+        }
+
+        private void scheduleDrain() {
+            if (!closed && draining.compareAndSet(false, true)) {
+                senderExecutor.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                CanvasObjectEventResponse next;
+                while (!closed && (next = poll()) != null) {
+                    emitter.send(SseEmitter.event()
+                            .name(next.getType().name())
+                            .data(next));
+                }
+            } catch (IOException | IllegalStateException e) {
+                // 연결이 끊긴 구독자 정리
+                unsubscribe(this);
+                emitter.completeWithError(e);
+            } finally {
+                draining.set(false);
+            }
+
+            // 마지막 poll 이후 draining 해제 전에 들어온 이벤트 처리
+            if (!closed && depth() > 0) {
+                scheduleDrain();
+            }
+        }
+    }
+}
@@ -1,35 +1,92 @@
 package com.jangyeonguk.backend.service;
 
+import com.jangyeonguk.backend.dto.CanvasChangeResponse;
 import com.jangyeonguk.backend.dto.CanvasObjectCreateRequest;
+import com.jangyeonguk.backend.dto.CanvasObjectEventResponse;
 import com.jangyeonguk.backend.dto.CanvasObjectResponse;
+import com.jangyeonguk.backend.dto.CanvasObjectTransformRequest;
 import com.jangyeonguk.backend.dto.CanvasObjectUpdateRequest;
 import com.jangyeonguk.backend.entity.CanvasObject;
 import com.jangyeonguk.backend.entity.Room;
 import com.jangyeonguk.backend.entity.User;
 import com.jangyeonguk.backend.exception.CanvasObjectNotFoundException;
+import com.jangyeonguk.backend.exception.CanvasObjectVersionConflictException;
 import com.jangyeonguk.backend.exception.RoomNotFoundException;
 import com.jangyeonguk.backend.repository.CanvasObjectRepository;
 import com.jangyeonguk.backend.repository.RoomRepository;
 import com.jangyeonguk.backend.repository.UserRepository;
-import lombok.RequiredArgsConstructor;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
+/**
+ * 캔버스 객체 서비스
+ * 변경 작업은 RoomMutationExecutor를 통해 방 단위로 직렬화되어 writer 스레드의 트랜잭션 안에서 실행됨
+ */
 @Service
-@RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class CanvasObjectService {
     
     private final CanvasObjectRepository canvasObjectRepository;
     private final RoomRepository roomRepository;
     private final UserRepository userRepository;
+    private final CanvasChangeNotifier canvasChangeNotifier;
+    private final RoomMutationExecutor roomMutationExecutor;
+    private final RoomActivityTracker roomActivityTracker;
+    private final RoomMembershipCache roomMembershipCache;
+    private final ImageVariantService imageVariantService;
+    private final ObjectMapper objectMapper;
+    private final DistributionSummary snapshotObjects;
+    private final DistributionSummary snapshotSize;
+    
+    public CanvasObjectService(
+            CanvasObjectRepository canvasObjectRepository,
+            RoomRepository roomRepository,
+            UserRepository userRepository,
+            CanvasChangeNotifier canvasChangeNotifier,
+            RoomMutationExecutor roomMutationExecutor,
+            RoomActivityTracker roomActivityTracker,
+            RoomMembershipCache roomMembershipCache,
+            ImageVariantService imageVariantService,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry) {
+        this.canvasObjectRepository = canvasObjectRepository;
+        this.roomRepository = roomRepository;
+        this.userRepository = userRepository;
+        this.canvasChangeNotifier = canvasChangeNotifier;
+        this.roomMutationExecutor = roomMutationExecutor;
+        this.roomActivityTracker = roomActivityTracker;
+        this.roomMembershipCache = roomMembershipCache;
+        this.imageVariantService = imageVariantService;
+        this.objectMapper = objectMapper;
+        this.snapshotObjects = DistributionSummary.builder("canvas.room.snapshot.objects")
+                .description("방 전체 조회 시 반환한 객체 수")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.snapshotSize = DistributionSummary.builder("canvas.room.snapshot.size")
+                .description("방 전체 조회 시 반환한 objectData 크기 (문자 수 기준 근사값, ASCII 외 문자는 실제 바이트보다 작음)")
+                .baseUnit("bytes")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
     
     /**
      * 캔버스 객체 생성
@@ -38,14 +95,19 @@ public class CanvasObjectService {
      * @param request 캔버스 객체 생성 요청
      * @return 생성된 캔버스 객체 정보
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public CanvasObjectResponse createCanvasObject(UUID roomId, CanvasObjectCreateRequest request) {
+        // 현재 인증된 사용자 (writer 스레드에는 SecurityContext가 없으므로 미리 추출)
+        UUID currentUserId = requireMembership(roomId);
+        return mutate("create", roomId, () -> createInRoom(roomId, currentUserId, request));
+    }
+    
+    private CanvasObjectResponse createInRoom(UUID roomId, UUID currentUserId, CanvasObjectCreateRequest request) {
         // 방 조회
         Room room = roomRepository.findByRoomId(roomId)
                 .orElseThrow(() -> new RoomNotFoundException("방을 찾을 수 없습니다: " + roomId));
         
         // 현재 인증된 사용자 조회
-        UUID currentUserId = getCurrentUserId();
         User creator = userRepository.findByUserId(currentUserId)
                     .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + currentUserId));
         
@@ -58,23 +120,86 @@ public class CanvasObjectService {
                 .isDeleted(false)
                 .build();
         
-        CanvasObject savedObject = canvasObjectRepository.save(canvasObject);
+        CanvasObject savedObject = canvasObjectRepository.saveAndFlush(canvasObject); // flush로 버전/생성일시 반영
+        if (isImage(savedObject)) {
+            imageVariantService.scheduleVariants(savedObject.getObjectId(), savedObject.getObjectData());
+        }
+        CanvasObjectResponse response = mapToResponse(savedObject);
+        canvasChangeNotifier.notifyRoomChanged(roomId, CanvasObjectEventResponse.EventType.UPSERT, response);
         
-        return mapToResponse(savedObject);
+        return response;
     }
     
     /**
      * 방의 캔버스 객체 목록 조회
+     * 변경 알림(long-poll/SSE)은 원본 커밋 직후 나가므로, 알림을 받은 다른 사용자가 복제 지연된 스냅샷을 받고
+     * 새 버전으로 대기하지 않도록 복제본이 아닌 원본에서 조회 (읽기 전용 트랜잭션이 아니어도 엔티티는 읽기 전용으로 로드)
      * 
      * @param roomId 방 ID
      * @return 캔버스 객체 목록
      */
+    @Transactional
     public List<CanvasObjectResponse> getCanvasObjects(UUID roomId) {
+        requireMembership(roomId);
+        
+        RoomSnapshotEvent event = new RoomSnapshotEvent();
+        event.begin();
         List<CanvasObject> objects = canvasObjectRepository.findByRoom_RoomIdAndIsDeletedFalseOrderByCreatedAtAsc(roomId);
+        recordSnapshotSize(objects);
         
-        return objects.stream()
+        List<CanvasObjectResponse> responses = objects.stream()
                 .map(this::mapToResponse)
                 .collect(Collectors.toList());
+        
+        event.end();
+        if (event.shouldCommit()) {
+            event.roomId = roomId.toString();
+            event.objectCount = objects.size();
+            event.payloadBytes = utf8Length(objects); // 기록 중일 때만 계산
+            event.commit();
+        }
+        return responses;
+    }
+    
+    /**
+     * 방의 캔버스 변경 대기 (long-poll)
+     * 메모리상의 변경 버전만 확인하므로 트랜잭션(DB 커넥션)을 열지 않음
+     * 
+     * @param roomId 방 ID
+     * @param since 클라이언트가 마지막으로 본 버전 (null이면 현재 버전을 즉시 반환)
+     * @param timeoutMs 최대 대기 시간 (밀리초)
+     * @return 변경 또는 타임아웃 시 완료되는 응답
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public DeferredResult<CanvasChangeResponse> waitForChanges(UUID roomId, Long since, long timeoutMs) {
+        requireMembership(roomId);
+        
+        // since가 없으면 대기하지 않고 현재 버전만 알려줌 (클라이언트의 최초 기준점)
+        if (since == null) {
+            DeferredResult<CanvasChangeResponse> result = new DeferredResult<>();
+            result.setResult(CanvasChangeResponse.builder()
+                    .roomId(roomId)
+                    .version(canvasChangeNotifier.currentVersion(roomId))
+                    .changed(false)
+                    .build());
+            return result;
+        }
+        
+        return canvasChangeNotifier.awaitChange(roomId, since, timeoutMs);
+    }
+    
+    /**
+     * 방의 캔버스 변경 이벤트 구독 (SSE)
+     * 구독 직후 RESYNC 이벤트를 받으면 목록을 조회하고, 이후 UPSERT/DELETE 이벤트로 갱신
+     * 
+     * @param roomId 방 ID
+     * @param timeoutMs SSE 연결 유지 시간 (밀리초)
+     * @return SSE emitter
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public SseEmitter subscribeChanges(UUID roomId, long timeoutMs) {
+        requireMembership(roomId);
+        return canvasChangeNotifier.subscribe(roomId, timeoutMs);
     }
     
     /**
@@ -83,8 +208,13 @@ public class CanvasObjectService {
      * @param roomId 방 ID
      * @return 삭제된 캔버스 객체 정보
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public CanvasObjectResponse undoCanvasObject(UUID roomId) {
+        requireMembership(roomId);
+        return mutate("undo", roomId, () -> undoInRoom(roomId));
+    }
+    
+    private CanvasObjectResponse undoInRoom(UUID roomId) {
         // 방 존재 여부 확인
         roomRepository.findByRoomId(roomId)
                 .orElseThrow(() -> new RoomNotFoundException("방을 찾을 수 없습니다: " + roomId));
@@ -99,9 +229,11 @@ public class CanvasObjectService {
         
         CanvasObject canvasObject = latestObject.get();
         canvasObject.setIsDeleted(true);
-        CanvasObject savedObject = canvasObjectRepository.save(canvasObject);
+        CanvasObject savedObject = canvasObjectRepository.saveAndFlush(canvasObject); // flush로 버전/생성일시 반영
+        CanvasObjectResponse response = mapToResponse(savedObject);
+        canvasChangeNotifier.notifyRoomChanged(roomId, CanvasObjectEventResponse.EventType.DELETE, response);
         
-        return mapToResponse(savedObject);
+        return response;
     }
     
     /**
@@ -110,8 +242,13 @@ public class CanvasObjectService {
      * @param roomId 방 ID
      * @return 복구된 캔버스 객체 정보
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public CanvasObjectResponse redoCanvasObject(UUID roomId) {
+        requireMembership(roomId);
+        return mutate("redo", roomId, () -> redoInRoom(roomId));
+    }
+    
+    private CanvasObjectResponse redoInRoom(UUID roomId) {
         // 방 존재 여부 확인
         roomRepository.findByRoomId(roomId)
                 .orElseThrow(() -> new RoomNotFoundException("방을 찾을 수 없습니다: " + roomId));
@@ -126,9 +263,11 @@ public class CanvasObjectService {
         
         CanvasObject canvasObject = latestDeletedObject.get();
         canvasObject.setIsDeleted(false);
-        CanvasObject savedObject = canvasObjectRepository.save(canvasObject);
+        CanvasObject savedObject = canvasObjectRepository.saveAndFlush(canvasObject); // flush로 버전/생성일시 반영
+        CanvasObjectResponse response = mapToResponse(savedObject);
+        canvasChangeNotifier.notifyRoomChanged(roomId, CanvasObjectEventResponse.EventType.UPSERT, response);
         
-        return mapToResponse(savedObject);
+        return response;
     }
     
     /**
@@ -138,8 +277,13 @@ public class CanvasObjectService {
      * @param objectId 객체 ID
      * @return 삭제된 캔버스 객체 정보
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public CanvasObjectResponse deleteCanvasObject(UUID roomId, UUID objectId) {
+        requireMembership(roomId);
+        return mutate("delete", roomId, () -> deleteInRoom(roomId, objectId));
+    }
+    
+    private CanvasObjectResponse deleteInRoom(UUID roomId, UUID objectId) {
         // 방 존재 여부 확인
         roomRepository.findByRoomId(roomId)
                 .orElseThrow(() -> new RoomNotFoundException("방을 찾을 수 없습니다: " + roomId));
@@ -160,9 +304,11 @@ public class CanvasObjectService {
         
         // soft delete 처리
         canvasObject.setIsDeleted(true);
-        CanvasObject savedObject = canvasObjectRepository.save(canvasObject);
+        CanvasObject savedObject = canvasObjectRepository.saveAndFlush(canvasObject); // flush로 버전/생성일시 반영
+        CanvasObjectResponse response = mapToResponse(savedObject);
+        canvasChangeNotifier.notifyRoomChanged(roomId, CanvasObjectEventResponse.EventType.DELETE, response);
         
-        return mapToResponse(savedObject);
+        return response;
     }
     
     /**
@@ -173,8 +319,13 @@ public class CanvasObjectService {
      * @param request 업데이트 요청 (objectData)
      * @return 업데이트된 캔버스 객체 정보
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public CanvasObjectResponse updateCanvasObject(UUID roomId, UUID objectId, CanvasObjectUpdateRequest request) {
+        requireMembership(roomId);
+        return mutate("update", roomId, () -> updateInRoom(roomId, objectId, request));
+    }
+    
+    private CanvasObjectResponse updateInRoom(UUID roomId, UUID objectId, CanvasObjectUpdateRequest request) {
         // 방 존재 여부 확인
         roomRepository.findByRoomId(roomId)
                 .orElseThrow(() -> new RoomNotFoundException("방을 찾을 수 없습니다: " + roomId));
@@ -194,10 +345,311 @@ public class CanvasObjectService {
         }
         
         // objectData 업데이트
+        String previousData = canvasObject.getObjectData();
         canvasObject.setObjectData(request.getObjectData());
-        CanvasObject savedObject = canvasObjectRepository.save(canvasObject);
+        CanvasObject savedObject = canvasObjectRepository.saveAndFlush(canvasObject); // flush로 버전/생성일시 반영
+        if (isImage(savedObject) && imageDataChanged(previousData, savedObject.getObjectData())) {
+            imageVariantService.refreshVariants(objectId, savedObject.getObjectData());
+        }
+        CanvasObjectResponse response = mapToResponse(savedObject);
+        canvasChangeNotifier.notifyRoomChanged(roomId, CanvasObjectEventResponse.EventType.UPSERT, response);
         
-        return mapToResponse(savedObject);
+        return response;
+    }
+    
+    /**
+     * 캔버스 객체 부분 수정 (RFC 7396 JSON Merge Patch)
+     * 최상위 키만 바꾸는 패치는 jsonb 연산자로 DB에서 직접 적용하여 object_data를 읽고 다시 쓰지 않음
+     * 
+     * @param roomId 방 ID
+     * @param objectId 객체 ID
+     * @param patch 병합 패치 (null 값은 키 삭제)
+     * @param expectedVersion 클라이언트가 알고 있는 버전 (null이면 버전 확인 생략)
+     * @return 수정된 캔버스 객체 정보
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CanvasObjectResponse patchCanvasObject(UUID roomId, UUID objectId, JsonNode patch, Long expectedVersion) {
+        requireMembership(roomId);
+        if (patch == null || !patch.isObject()) {
+            throw new IllegalArgumentException("병합 패치는 JSON 객체여야 합니다.");
+        }
+        return mutate("patch", roomId, () -> patchInRoom(roomId, objectId, (ObjectNode) patch, expectedVersion));
+    }
+    
+    private CanvasObjectResponse patchInRoom(UUID roomId, UUID objectId, ObjectNode patch, Long expectedVersion) {
+        // 방 존재 여부 확인
+        roomRepository.findByRoomId(roomId)
+                .orElseThrow(() -> new RoomNotFoundException("방을 찾을 수 없습니다: " + roomId));
+        
+        if (!JsonMergePatch.isFlat(patch)) {
+            // 중첩 객체 패치는 메모리에서 적용
+            CanvasObjectResponse response = applyInMemory(roomId, objectId, expectedVersion, data -> JsonMergePatch.apply(data, patch));
+            refreshVariantsIfImageChanged(patch, response);
+            return response;
+        }
+        
+        Long currentVersion = canvasObjectRepository.findActiveVersion(roomId, objectId)
+                .orElseThrow(() -> new CanvasObjectNotFoundException("캔버스 객체를 찾을 수 없습니다: " + objectId));
+        checkVersion(expectedVersion, currentVersion);
+        
+        int updated = canvasObjectRepository.mergeObjectData(
+                roomId,
+                objectId,
+                JsonMergePatch.valuesToSet(patch).toString(),
+                JsonMergePatch.keysToRemove(patch),
+                currentVersion);
+        if (updated == 0) {
+            throw new CanvasObjectVersionConflictException("다른 사용자가 먼저 객체를 수정했습니다. 다시 시도해주세요.");
+        }
+        
+        CanvasObject savedObject = canvasObjectRepository.findById(objectId)
+                .orElseThrow(() -> new CanvasObjectNotFoundException("캔버스 객체를 찾을 수 없습니다: " + objectId));
+        CanvasObjectResponse response = mapToResponse(savedObject);
+        refreshVariantsIfImageChanged(patch, response);
+        canvasChangeNotifier.notifyRoomChanged(roomId, CanvasObjectEventResponse.EventType.UPSERT, response);
+        
+        return response;
+    }
+    
+    /**
+     * 캔버스 객체 변환 (translate / recolor)
+     * 색상·두께만 바꾸는 경우 flat 병합 패치로 변환해 DB에서 적용하고, 이동은 좌표를 메모리에서 계산
+     * 
+     * @param roomId 방 ID
+     * @param objectId 객체 ID
+     * @param request 이동량(dx, dy), 색상, 선 두께
+     * @param expectedVersion 클라이언트가 알고 있는 버전 (null이면 버전 확인 생략)
+     * @return 수정된 캔버스 객체 정보
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CanvasObjectResponse transformCanvasObject(UUID roomId, UUID objectId,
+                                                      CanvasObjectTransformRequest request, Long expectedVersion) {
+        requireMembership(roomId);
+        
+        ObjectNode stylePatch = objectMapper.createObjectNode();
+        if (request.getColor() != null) {
+            stylePatch.put("color", request.getColor());
+        }
+        if (request.getStrokeWidth() != null) {
+            stylePatch.put("strokeWidth", request.getStrokeWidth());
+        }
+        
+        double dx = request.getDx() != null ? request.getDx() : 0;
+        double dy = request.getDy() != null ? request.getDy() : 0;
+        if (dx == 0 && dy == 0) {
+            if (stylePatch.isEmpty()) {
+                throw new IllegalArgumentException("변경할 내용이 없습니다.");
+            }
+            return patchCanvasObject(roomId, objectId, stylePatch, expectedVersion);
+        }
+        
+        return mutate("transform", roomId, () -> {
+            roomRepository.findByRoomId(roomId)
+                    .orElseThrow(() -> new RoomNotFoundException("방을 찾을 수 없습니다: " + roomId));
+            return applyInMemory(roomId, objectId, expectedVersion, data -> {
+                translate((ObjectNode) data, dx, dy);
+                return JsonMergePatch.apply(data, stylePatch);
+            });
+        });
+    }
+    
+    /**
+     * 헬퍼 메서드: 객체를 읽어 objectData를 메모리에서 변환 후 저장 (@Version으로 낙관적 잠금)
+     */
+    private CanvasObjectResponse applyInMemory(UUID roomId, UUID objectId, Long expectedVersion,
+                                               UnaryOperator<JsonNode> change) {
+        CanvasObject canvasObject = canvasObjectRepository.findById(objectId)
+                .orElseThrow(() -> new CanvasObjectNotFoundException("캔버스 객체를 찾을 수 없습니다: " + objectId));
+        
+        // 방에 속한 객체인지 확인
+        if (!canvasObject.getRoom().getRoomId().equals(roomId)) {
+            throw new IllegalArgumentException("해당 방에 속한 객체가 아닙니다.");
+        }
+        
+        // 이미 삭제된 객체인지 확인
+        if (canvasObject.getIsDeleted()) {
+            throw new IllegalArgumentException("삭제된 객체는 수정할 수 없습니다.");
+        }
+        
+        checkVersion(expectedVersion, canvasObject.getVersion());
+        
+        try {
+            JsonNode data = objectMapper.readTree(canvasObject.getObjectData());
+            if (!data.isObject()) {
+                throw new IllegalArgumentException("객체 데이터가 JSON 객체가 아닙니다.");
+            }
+            canvasObject.setObjectData(objectMapper.writeValueAsString(change.apply(data)));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("객체 데이터를 처리할 수 없습니다: " + e.getOriginalMessage());
+        }
+        
+        CanvasObject savedObject = canvasObjectRepository.saveAndFlush(canvasObject); // flush로 버전/생성일시 반영
+        CanvasObjectResponse response = mapToResponse(savedObject);
+        canvasChangeNotifier.notifyRoomChanged(roomId, CanvasObjectEventResponse.EventType.UPSERT, response);
+        
+        return response;
+    }
+    
+    /**
+     * 헬퍼 메서드: 좌표 이동 (line: x1/y1/x2/y2, path: points, image: x/y)
+     */
+    private void translate(ObjectNode data, double dx, double dy) {
+        shift(data, "x1", dx);
+        shift(data, "x2", dx);
+        shift(data, "y1", dy);
+        shift(data, "y2", dy);
+        
+        if (data.has("x") || data.has("y") || data.has("imageData")) {
+            data.put("x", data.path("x").asDouble(0) + dx);
+            data.put("y", data.path("y").asDouble(0) + dy);
+        }
+        
+        if (data.get("points") instanceof ArrayNode points) {
+            for (JsonNode point : points) {
+                if (point instanceof ObjectNode pointNode) {
+                    shift(pointNode, "x", dx);
+                    shift(pointNode, "y", dy);
+                }
+            }
+        }
+    }
+    
+    private void shift(ObjectNode node, String field, double delta) {
+        JsonNode value = node.get(field);
+        if (value != null && value.isNumber()) {
+            node.put(field, value.asDouble() + delta);
+        }
+    }
+    
+    /**
+     * 헬퍼 메서드: 클라이언트가 알고 있는 버전과 현재 버전 비교
+     */
+    private void checkVersion(Long expectedVersion, Long currentVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(currentVersion)) {
+            throw new CanvasObjectVersionConflictException(
+                    "객체 버전이 일치하지 않습니다. (요청: " + expectedVersion + ", 현재: " + currentVersion + ")");
+        }
+    }
+    
+    /**
+     * 헬퍼 메서드: 방 전체 조회 응답 크기 분포 기록 (객체 수, objectData 크기, 방 ID는 태그로 쓰지 않음)
+     * 가장 자주 호출되는 조회이므로 크기는 문자를 세지 않고 String.length()(UTF-16 문자 수)로 근사
+     * (objectData는 대부분 ASCII인 JSON과 Base64 이미지라 실제 UTF-8 바이트 수와 거의 같음)
+     */
+    private void recordSnapshotSize(List<CanvasObject> objects) {
+        long dataSize = 0;
+        for (CanvasObject canvasObject : objects) {
+            String objectData = canvasObject.getObjectData();
+            dataSize += (objectData != null) ? objectData.length() : 0;
+        }
+        snapshotObjects.record(objects.size());
+        snapshotSize.record(dataSize);
+    }
+    
+    /**
+     * 헬퍼 메서드: 이미지 객체 여부
+     */
+    private boolean isImage(CanvasObject canvasObject) {
+        return "image".equals(canvasObject.getObjectType());
+    }
+    
+    /**
+     * 헬퍼 메서드: 전체 수정에서 원본 이미지(imageData)가 바뀌었는지 확인 (이동만 한 경우 축소본 유지)
+     */
+    private boolean imageDataChanged(String previousData, String currentData) {
+        try {
+            return !objectMapper.readTree(previousData).path("imageData")
+                    .equals(objectMapper.readTree(currentData).path("imageData"));
+        } catch (JsonProcessingException e) {
+            return true;
+        }
+    }
+    
+    /**
+     * 헬퍼 메서드: 패치가 원본 이미지(imageData)를 바꾼 경우 축소본 교체
+     */
+    private void refreshVariantsIfImageChanged(ObjectNode patch, CanvasObjectResponse response) {
+        if (patch.has("imageData") && "image".equals(response.getObjectType())) {
+            imageVariantService.refreshVariants(response.getObjectId(), response.getObjectData());
+        }
+    }
+    
+    /**
+     * 헬퍼 메서드: 방의 writer에서 변경 작업을 실행하고 방 활동 시각 기록 (rooms 행은 주기적으로 한 번에 갱신)
+     * JFR 기록 중이면 작업 종류, 방, 객체 유형, 데이터 크기를 이벤트로 남김
+     */
+    private CanvasObjectResponse mutate(String operation, UUID roomId, Supplier<CanvasObjectResponse> mutation) {
+        CanvasOperationEvent event = new CanvasOperationEvent();
+        event.begin();
+        CanvasObjectResponse result = null;
+        boolean succeeded = false;
+        try {
+            result = roomMutationExecutor.execute(roomId, mutation);
+            succeeded = true; // 예외 없이 반환되면 성공 (실패는 모두 예외로 전달됨)
+            roomActivityTracker.recordActivity(roomId);
+            return result;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.operation = operation;
+                event.roomId = roomId.toString();
+                event.succeeded = succeeded;
+                if (result != null) {
+                    event.objectType = result.getObjectType();
+                    event.payloadBytes = utf8Length(result.getObjectData()); // 기록 중일 때만 계산
+                }
+                event.commit();
+            }
+        }
+    }
+    
+    /**
+     * 헬퍼 메서드: 객체들의 objectData UTF-8 바이트 수 합계
+     */
+    private static long utf8Length(List<CanvasObject> objects) {
+        long length = 0;
+        for (CanvasObject canvasObject : objects) {
+            length += utf8Length(canvasObject.getObjectData());
+        }
+        return length;
+    }
+    
+    /**
+     * 헬퍼 메서드: 문자열의 UTF-8 바이트 수 (인코딩한 배열을 만들지 않고 계산)
+     */
+    private static long utf8Length(String value) {
+        if (value == null) {
+            return 0;
+        }
+        long length = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                length++;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length()
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                length += 4; // 서로게이트 쌍 (BMP 밖의 문자)
+                i++;
+            } else if (Character.isSurrogate(c)) {
+                length++; // 짝이 없는 서로게이트는 '?'로 인코딩됨
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+    
+    /**
+     * 헬퍼 메서드: 현재 사용자가 방의 참여자인지 확인 (캐시 사용, 대부분 DB 조회 없음)
+     * 
+     * @return 현재 인증된 사용자 ID
+     */
+    private UUID requireMembership(UUID roomId) {
+        UUID currentUserId = getCurrentUserId();
+        roomMembershipCache.requireMember(currentUserId, roomId);
+        return currentUserId;
     }
     
     /**
@@ -232,6 +684,7 @@ public class CanvasObjectService {
                 .objectType(canvasObject.getObjectType())
                 .objectData(canvasObject.getObjectData())
                 .createdAt(canvasObject.getCreatedAt())
+                .version(canvasObject.getVersion())
                 .build();
     }
 }
@@ -0,0 +1,38 @@
+package com.jangyeonguk.backend.service;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 캔버스 객체 변경 JFR 이벤트 (writer 대기 시간 포함)
+ * 기록 중이 아니면 begin/commit은 거의 비용이 없음
+ */
+@Name("com.jangyeonguk.canvas.Operation")
+@Label("Canvas Operation")
+@Category({"Canvas Sync", "Canvas"})
+@Description("캔버스 객체 생성/수정/삭제/undo/redo")
+@StackTrace(false)
+class CanvasOperationEvent extends Event {
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Room ID")
+    String roomId;
+
+    @Label("Object Type")
+    String objectType;
+
+    @Label("Payload Size")
+    @Description("저장된 objectData 크기 (UTF-8 바이트)")
+    @DataAmount(DataAmount.BYTES)
+    long payloadBytes;
+
+    @Label("Succeeded")
+    boolean succeeded;
+}
@@ -0,0 +1,314 @@
+package com.jangyeonguk.backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jangyeonguk.backend.entity.CanvasObject;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.ImageIO;
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.Shape;
+import java.awt.geom.Line2D;
+import java.awt.geom.Path2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 캔버스 객체 래스터라이저 (AI 변환 입력 이미지 생성)
+ * 선택된 line/path/image 객체를 브라우저와 같은 방식(둥근 선, 2차 베지어 경로)으로 그려
+ * 객체들의 전체 영역만큼 잘라낸 PNG를 만듦
+ * 결과는 (객체 ID, 버전) 목록을 키로 캐시하므로 같은 선택을 다시 변환하면 다시 그리지 않음
+ * 이미지 객체는 헤더로 형식과 픽셀 수를 먼저 확인하여, 지원하지 않는 형식이나 max-pixels를 넘는 이미지는 디코딩하지 않음
+ */
+@Component
+public class CanvasRasterizer {
+
+    private static final Set<String> RENDERABLE_TYPES = Set.of("line", "path", "image");
+    private static final int PADDING = 5; // 클라이언트 선택 영역과 같은 여백
+    private static final String DEFAULT_LINE_COLOR = "#000000";
+    private static final String DEFAULT_PATH_COLOR = "#4a9eff";
+    private static final double DEFAULT_STROKE_WIDTH = 2;
+
+    private final ObjectMapper objectMapper;
+    private final Cache<String, byte[]> renders;
+    private final int maxDimension;
+    private final long maxPixels;
+
+    public CanvasRasterizer(
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${ai.render.max-dimension:2048}") int maxDimension,
+            @Value("${ai.render.cache.max-bytes:67108864}") long cacheMaxBytes,
+            @Value("${ai.render.cache.ttl-ms:600000}") long cacheTtlMs,
+            @Value("${canvas.image.max-pixels:40000000}") long maxPixels) {
+        this.objectMapper = objectMapper;
+        this.maxDimension = maxDimension;
+        this.maxPixels = maxPixels;
+        this.renders = Caffeine.newBuilder()
+                .maximumWeight(cacheMaxBytes)
+                .weigher((String key, byte[] png) -> png.length)
+                .expireAfterAccess(Duration.ofMillis(cacheTtlMs))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, renders, "ai.render");
+    }
+
+    /**
+     * 래스터라이즈할 수 있는 객체 유형인지 확인
+     */
+    public boolean isRenderable(CanvasObject canvasObject) {
+        return RENDERABLE_TYPES.contains(canvasObject.getObjectType());
+    }
+
+    /**
+     * 객체들을 생성 순서대로 그려 PNG로 변환 (영역이 max-dimension보다 크면 비율을 유지하며 축소)
+     *
+     * @param objects 그릴 객체 (그릴 수 없는 유형은 건너뜀)
+     * @return PNG 바이트
+     */
+    public byte[] render(List<CanvasObject> objects) {
+        List<CanvasObject> ordered = objects.stream()
+                .filter(this::isRenderable)
+                .sorted(Comparator.comparing(CanvasObject::getCreatedAt, Comparator.nullsLast(Comparator.naturalOrder()))
+                        .thenComparing(CanvasObject::getObjectId))
+                .toList();
+        if (ordered.isEmpty()) {
+            throw new IllegalArgumentException("이미지로 변환할 수 있는 객체(line, path, image)가 없습니다.");
+        }
+
+        // 객체가 바뀌면 버전이 올라가므로 (ID, 버전) 목록이 같으면 같은 이미지
+        String key = ordered.stream()
+                .map(canvasObject -> canvasObject.getObjectId() + ":" + canvasObject.getVersion())
+                .sorted()
+                .collect(Collectors.joining(","));
+        return renders.get(key, ignored -> draw(ordered));
+    }
+
+    private byte[] draw(List<CanvasObject> objects) {
+        List<Drawable> drawables = new ArrayList<>();
+        for (CanvasObject canvasObject : objects) {
+            Drawable drawable = toDrawable(canvasObject);
+            if (drawable != null) {
+                drawables.add(drawable);
+            }
+        }
+        if (drawables.isEmpty()) {
+            throw new IllegalArgumentException("선택된 객체의 데이터를 읽을 수 없습니다.");
+        }
+
+        Rectangle2D bounds = null;
+        for (Drawable drawable : drawables) {
+            bounds = (bounds == null) ? drawable.bounds() : bounds.createUnion(drawable.bounds());
+        }
+        double minX = bounds.getMinX() - PADDING;
+        double minY = bounds.getMinY() - PADDING;
+        double width = bounds.getWidth() + PADDING * 2;
+        double height = bounds.getHeight() + PADDING * 2;
+        double scale = Math.min(1.0, maxDimension / Math.max(width, height));
+
+        BufferedImage canvas = new BufferedImage(
+                Math.max(1, (int) Math.ceil(width * scale)),
+                Math.max(1, (int) Math.ceil(height * scale)),
+                BufferedImage.TYPE_INT_ARGB); // 브라우저 캔버스처럼 배경은 투명
+        Graphics2D graphics = canvas.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            graphics.setRenderingHint(RenderingHints.KEY_STROKE_CONTROL, RenderingHints.VALUE_STROKE_PURE);
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.scale(scale, scale);
+            graphics.translate(-minX, -minY);
+            for (Drawable drawable : drawables) {
+                drawable.paint(graphics);
+            }
+        } finally {
+            graphics.dispose();
+        }
+
+        try {
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            ImageIO.write(canvas, "png", output);
+            return output.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 헬퍼 메서드: 객체 데이터를 그리기 가능한 도형으로 변환 (데이터가 올바르지 않으면 null)
+     */
+    private Drawable toDrawable(CanvasObject canvasObject) {
+        JsonNode data;
+        try {
+            data = objectMapper.readTree(canvasObject.getObjectData());
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+
+        return switch (canvasObject.getObjectType()) {
+            case "line" -> {
+                Line2D line = new Line2D.Double(
+                        data.path("x1").asDouble(), data.path("y1").asDouble(),
+                        data.path("x2").asDouble(), data.path("y2").asDouble());
+                yield new StrokeShape(line, color(data, DEFAULT_LINE_COLOR), strokeWidth(data));
+            }
+            case "path" -> {
+                Path2D path = bezierPath(data.path("points"));
+                yield (path != null) ? new StrokeShape(path, color(data, DEFAULT_PATH_COLOR), strokeWidth(data)) : null;
+            }
+            case "image" -> imageDrawable(data);
+            default -> null;
+        };
+    }
+
+    /**
+     * 헬퍼 메서드: 점 목록을 2차 베지어 곡선으로 연결 (프론트엔드 renderPathWithBezier와 같은 제어점)
+     */
+    private Path2D bezierPath(JsonNode points) {
+        if (!points.isArray() || points.size() < 2) {
+            return null;
+        }
+        int count = points.size();
+        Path2D path = new Path2D.Double();
+        path.moveTo(x(points, 0), y(points, 0));
+
+        if (count == 2) {
+            path.lineTo(x(points, 1), y(points, 1));
+            return path;
+        }
+        for (int i = 1; i < count; i++) {
+            if (i == 1) {
+                // 첫 번째 세그먼트: 현재 점과 다음 점의 중간까지
+                path.quadTo(x(points, i), y(points, i),
+                        (x(points, i) + x(points, i + 1)) / 2, (y(points, i) + y(points, i + 1)) / 2);
+            } else if (i == count - 1) {
+                // 마지막 세그먼트: 이전 점을 제어점으로 사용
+                path.quadTo(x(points, i - 1), y(points, i - 1), x(points, i), y(points, i));
+            } else {
+                // 중간 세그먼트: 이전 점과 다음 점의 중간까지
+                path.quadTo(x(points, i), y(points, i),
+                        (x(points, i - 1) + x(points, i + 1)) / 2, (y(points, i - 1) + y(points, i + 1)) / 2);
+            }
+        }
+        return path;
+    }
+
+    private Drawable imageDrawable(JsonNode data) {
+        JsonNode imageData = data.path("imageData");
+        if (!imageData.isTextual()) {
+            return null;
+        }
+        byte[] bytes;
+        try {
+            bytes = Base64.getMimeDecoder().decode(imageData.asText());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        // 디코딩 전에 헤더로 크기 확인 (작은 파일이 매우 큰 픽셀 버퍼로 풀리는 이미지 방지)
+        ImageDimensions.Info info = ImageDimensions.probe(bytes);
+        if (info == null) {
+            return null; // 지원하지 않는 형식
+        }
+        if (info.pixels() > maxPixels) {
+            throw new IllegalArgumentException("이미지가 너무 큽니다 (" + info.width() + "x" + info.height() + ").");
+        }
+        BufferedImage image;
+        try {
+            image = ImageIO.read(new ByteArrayInputStream(bytes));
+        } catch (IOException e) {
+            return null;
+        }
+        if (image == null) {
+            return null;
+        }
+        double width = data.path("width").asDouble(0) > 0 ? data.path("width").asDouble() : image.getWidth();
+        double height = data.path("height").asDouble(0) > 0 ? data.path("height").asDouble() : image.getHeight();
+        return new ImageShape(image, new Rectangle2D.Double(data.path("x").asDouble(0), data.path("y").asDouble(0), width, height));
+    }
+
+    private static double x(JsonNode points, int index) {
+        return points.get(index).path("x").asDouble();
+    }
+
+    private static double y(JsonNode points, int index) {
+        return points.get(index).path("y").asDouble();
+    }
+
+    private static double strokeWidth(JsonNode data) {
+        double strokeWidth = data.path("strokeWidth").asDouble(0);
+        return strokeWidth > 0 ? strokeWidth : DEFAULT_STROKE_WIDTH;
+    }
+
+    /**
+     * 헬퍼 메서드: CSS 16진수 색상(#rgb, #rrggbb) 변환 (그 외 형식은 기본 색상)
+     */
+    private static Color color(JsonNode data, String defaultColor) {
+        String value = data.path("color").asText(defaultColor);
+        String hex = value.startsWith("#") ? value.substring(1) : "";
+        if (hex.length() == 3) {
+            hex = "" + hex.charAt(0) + hex.charAt(0) + hex.charAt(1) + hex.charAt(1) + hex.charAt(2) + hex.charAt(2);
+        }
+        try {
+            if (hex.length() == 6) {
+                return new Color(Integer.parseInt(hex, 16));
+            }
+        } catch (NumberFormatException e) {
+            // 기본 색상 사용
+        }
+        return Color.decode(defaultColor);
+    }
+
+    private interface Drawable {
+        Rectangle2D bounds();
+
+        void paint(Graphics2D graphics);
+    }
+
+    private record StrokeShape(Shape outline, Color color, double strokeWidth) implements Drawable {
+        @Override
+        public Rectangle2D bounds() {
+            return outline.getBounds2D();
+        }
+
+        @Override
+        public void paint(Graphics2D graphics) {
+            graphics.setColor(color);
+            graphics.setStroke(new BasicStroke((float) strokeWidth, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
+            graphics.draw(outline);
+        }
+    }
+
+    private record ImageShape(BufferedImage image, Rectangle2D area) implements Drawable {
+        @Override
+        public Rectangle2D bounds() {
+            return area;
+        }
+
+        @Override
+        public void paint(Graphics2D graphics) {
+            graphics.drawImage(image, (int) Math.round(area.getX()), (int) Math.round(area.getY()),
+                    (int) Math.round(area.getWidth()), (int) Math.round(area.getHeight()), null);
+        }
+    }
+}
+
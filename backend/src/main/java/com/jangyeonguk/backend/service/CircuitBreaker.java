@@ -0,0 +1,101 @@
+package com.jangyeonguk.backend.service;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 외부 서비스 호출용 서킷 브레이커
+ * 연속 실패가 임계치에 도달하면 일정 시간 동안 호출을 즉시 거절(OPEN)하고,
+ * 시간이 지나면 한 번만 시험 호출(HALF_OPEN)을 허용하여 성공하면 다시 정상(CLOSED)으로 전환
+ */
+final class CircuitBreaker {
+
+    enum State {
+        CLOSED,     // 정상
+        OPEN,       // 호출 거절 중
+        HALF_OPEN   // 시험 호출 중
+    }
+
+    private final int failureThreshold;
+    private final long openDurationMs;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private State state = State.CLOSED; // lock 안에서만 접근
+    private int consecutiveFailures;
+    private long openedAtMillis;
+
+    CircuitBreaker(int failureThreshold, long openDurationMs) {
+        this.failureThreshold = failureThreshold;
+        this.openDurationMs = openDurationMs;
+    }
+
+    /**
+     * 호출 가능 여부 (OPEN 시간이 지났으면 시험 호출 하나만 허용)
+     */
+    boolean tryAcquire() {
+        lock.lock();
+        try {
+            return switch (state) {
+                case CLOSED -> true;
+                case HALF_OPEN -> false; // 시험 호출 결과를 기다리는 중
+                case OPEN -> {
+                    if (System.currentTimeMillis() - openedAtMillis < openDurationMs) {
+                        yield false;
+                    }
+                    state = State.HALF_OPEN;
+                    yield true;
+                }
+            };
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void recordSuccess() {
+        lock.lock();
+        try {
+            consecutiveFailures = 0;
+            state = State.CLOSED;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void recordFailure() {
+        lock.lock();
+        try {
+            consecutiveFailures++;
+            if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+                state = State.OPEN;
+                openedAtMillis = System.currentTimeMillis();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 서비스 상태를 알 수 없는 호출 결과 (취소, 요청 오류(4xx))
+     * 성공/실패 어느 쪽으로도 세지 않으며(연속 실패 수 유지), 시험 호출이었으면 바로 다음 호출이 다시 시험할 수 있도록 함
+     */
+    void recordIgnored() {
+        lock.lock();
+        try {
+            if (state == State.HALF_OPEN) {
+                state = State.OPEN;
+                openedAtMillis = 0L;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    State state() {
+        lock.lock();
+        try {
+            return state;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
+
@@ -0,0 +1,131 @@
+package com.jangyeonguk.backend.service;
+
+/**
+ * 이미지 헤더만 읽어 형식과 크기를 확인하는 유틸리티 (PNG, JPEG)
+ * 픽셀을 디코딩하지 않으므로 큰 이미지도 수십 바이트만 읽고 끝남
+ */
+final class ImageDimensions {
+
+    static final String PNG = "image/png";
+    static final String JPEG = "image/jpeg";
+
+    private static final byte[] PNG_SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+
+    private ImageDimensions() {
+    }
+
+    /**
+     * 이미지 형식과 크기
+     *
+     * @param mediaType MIME 타입
+     * @param width 가로 픽셀
+     * @param height 세로 픽셀
+     */
+    record Info(String mediaType, int width, int height) {
+
+        /**
+         * 전체 픽셀 수 (디코딩 전에 메모리 사용량을 가늠하는 데 사용)
+         */
+        long pixels() {
+            return (long) width * height;
+        }
+    }
+
+    /**
+     * 헤더에서 이미지 형식과 크기 확인
+     *
+     * @param image 이미지 바이트
+     * @return 형식과 크기 (지원하지 않는 형식이거나 헤더가 손상된 경우 null)
+     */
+    static Info probe(byte[] image) {
+        if (image == null) {
+            return null;
+        }
+        if (isPng(image)) {
+            return probePng(image);
+        }
+        if (image.length >= 2 && (image[0] & 0xFF) == 0xFF && (image[1] & 0xFF) == 0xD8) {
+            return probeJpeg(image);
+        }
+        return null;
+    }
+
+    private static boolean isPng(byte[] image) {
+        if (image.length < PNG_SIGNATURE.length) {
+            return false;
+        }
+        for (int i = 0; i < PNG_SIGNATURE.length; i++) {
+            if (image[i] != PNG_SIGNATURE[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * PNG: 시그니처(8) 다음 첫 청크는 항상 IHDR이며, 길이(4)·타입(4) 뒤에 width(4), height(4)
+     */
+    private static Info probePng(byte[] image) {
+        if (image.length < 24 || image[12] != 'I' || image[13] != 'H' || image[14] != 'D' || image[15] != 'R') {
+            return null;
+        }
+        int width = readInt(image, 16);
+        int height = readInt(image, 20);
+        return (width > 0 && height > 0) ? new Info(PNG, width, height) : null;
+    }
+
+    /**
+     * JPEG: 세그먼트를 건너뛰며 SOF(Start Of Frame) 마커를 찾아 height(2), width(2)를 읽음
+     * SOF0~SOF15 중 DHT(C4), JPG(C8), DAC(CC)는 SOF가 아니므로 제외
+     */
+    private static Info probeJpeg(byte[] image) {
+        int offset = 2;
+        while (offset + 4 <= image.length) {
+            if ((image[offset] & 0xFF) != 0xFF) {
+                return null; // 세그먼트 경계가 어긋남
+            }
+            int marker = image[offset + 1] & 0xFF;
+            if (marker == 0xFF) {
+                offset++; // 채움 바이트
+                continue;
+            }
+            if (marker == 0x01 || (marker >= 0xD0 && marker <= 0xD7)) {
+                offset += 2; // 길이가 없는 마커 (TEM, RST)
+                continue;
+            }
+            if (marker == 0xD9 || marker == 0xDA) {
+                return null; // 프레임 헤더 전에 이미지 끝(EOI)이나 스캔(SOS)이 나옴
+            }
+
+            int length = readShort(image, offset + 2);
+            if (length < 2) {
+                return null;
+            }
+            boolean startOfFrame = marker >= 0xC0 && marker <= 0xCF
+                    && marker != 0xC4 && marker != 0xC8 && marker != 0xCC;
+            if (startOfFrame) {
+                // 길이(2) 다음 정밀도(1), height(2), width(2)
+                if (offset + 9 > image.length) {
+                    return null;
+                }
+                int height = readShort(image, offset + 5);
+                int width = readShort(image, offset + 7);
+                return (width > 0 && height > 0) ? new Info(JPEG, width, height) : null;
+            }
+            offset += 2 + length;
+        }
+        return null;
+    }
+
+    private static int readInt(byte[] bytes, int offset) {
+        return ((bytes[offset] & 0xFF) << 24)
+                | ((bytes[offset + 1] & 0xFF) << 16)
+                | ((bytes[offset + 2] & 0xFF) << 8)
+                | (bytes[offset + 3] & 0xFF);
+    }
+
+    private static int readShort(byte[] bytes, int offset) {
+        return ((bytes[offset] & 0xFF) << 8) | (bytes[offset + 1] & 0xFF);
+    }
+}
+
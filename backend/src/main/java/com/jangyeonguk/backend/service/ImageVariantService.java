@@ -0,0 +1,363 @@
+package com.jangyeonguk.backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jangyeonguk.backend.entity.CanvasObject;
+import com.jangyeonguk.backend.entity.ImageVariant;
+import com.jangyeonguk.backend.exception.CanvasObjectNotFoundException;
+import com.jangyeonguk.backend.repository.CanvasObjectRepository;
+import com.jangyeonguk.backend.repository.ImageVariantRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.imageio.ImageIO;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 이미지 객체 축소본 서비스
+ * 이미지가 저장(커밋)되면 백그라운드에서 긴 변 기준 축소본(기본 1024, 256px)을 만들어 image_variants에 저장
+ * 클라이언트는 화면 배율에 맞는 크기를 요청하고, 그 크기 이상인 가장 작은 축소본(없으면 원본)을 받음
+ * 축소는 CPU 작업이므로 고정 크기 스레드 풀과 제한된 큐에서만 실행하며, 큐가 가득 차면 건너뜀 (원본으로 대체됨)
+ * 헤더의 픽셀 수가 max-pixels를 넘는 이미지는 디코딩하지 않음 (작은 파일로도 큰 메모리를 쓰게 하는 이미지 방지)
+ */
+@Slf4j
+@Service
+public class ImageVariantService {
+
+    private final CanvasObjectRepository canvasObjectRepository;
+    private final ImageVariantRepository imageVariantRepository;
+    private final RoomMembershipCache roomMembershipCache;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final List<Integer> variantSizes; // 큰 크기부터 (큰 축소본에서 다음 축소본을 이어서 만듦)
+    private final long maxPixels;
+    private final ThreadPoolExecutor executor;
+
+    // 객체별 가장 최근에 요청된 생성 작업 번호 (이미지가 다시 바뀌면 이전 작업 결과는 저장하지 않음)
+    private final Map<UUID, Long> latestGenerations = new ConcurrentHashMap<>();
+    private final AtomicLong generationSequence = new AtomicLong();
+
+    public ImageVariantService(
+            CanvasObjectRepository canvasObjectRepository,
+            ImageVariantRepository imageVariantRepository,
+            RoomMembershipCache roomMembershipCache,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${canvas.image.variant-sizes:1024,256}") List<Integer> variantSizes,
+            @Value("${canvas.image.variant-threads:1}") int threads,
+            @Value("${canvas.image.variant-queue-capacity:100}") int queueCapacity,
+            @Value("${canvas.image.max-pixels:40000000}") long maxPixels) {
+        this.canvasObjectRepository = canvasObjectRepository;
+        this.imageVariantRepository = imageVariantRepository;
+        this.roomMembershipCache = roomMembershipCache;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.variantSizes = variantSizes.stream()
+                .filter(size -> size > 0)
+                .distinct()
+                .sorted(Comparator.reverseOrder())
+                .toList();
+        this.maxPixels = maxPixels;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "image-variants-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    thread.setPriority(Thread.MIN_PRIORITY); // 요청 처리보다 우선하지 않음
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()); // 거절된 작업은 submit에서 정리
+
+        ExecutorServiceMetrics.monitor(meterRegistry, executor, "image.variants");
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 이미지 또는 축소본 (HTTP 응답용)
+     *
+     * @param mediaType MIME 타입
+     * @param data 이미지 바이트
+     */
+    public record ImageContent(String mediaType, byte[] data) {
+    }
+
+    /**
+     * 이미지 객체 조회 (요청한 크기에 맞는 가장 작은 축소본, 없으면 원본)
+     *
+     * @param roomId 방 ID
+     * @param objectId 이미지 객체 ID
+     * @param maxSize 화면에 그릴 긴 변의 픽셀 수 (null이면 원본)
+     * @return 이미지
+     */
+    @Transactional(readOnly = true)
+    public ImageContent getImage(UUID roomId, UUID objectId, Integer maxSize) {
+        roomMembershipCache.requireMember(getCurrentUserId(), roomId);
+
+        // 접근 확인은 object_data(원본 이미지 포함)를 읽지 않고 처리
+        canvasObjectRepository.findActiveVersion(roomId, objectId)
+                .orElseThrow(() -> new CanvasObjectNotFoundException("캔버스 객체를 찾을 수 없습니다: " + objectId));
+
+        if (maxSize != null) {
+            if (maxSize <= 0) {
+                throw new IllegalArgumentException("maxSize는 1 이상이어야 합니다.");
+            }
+            Optional<ImageVariant> variant = imageVariantRepository
+                    .findFirstByCanvasObject_ObjectIdAndMaxDimensionGreaterThanEqualOrderByMaxDimensionAsc(objectId, maxSize);
+            if (variant.isPresent()) {
+                return new ImageContent(variant.get().getMediaType(), variant.get().getData());
+            }
+        }
+
+        // 요청 크기가 가장 큰 축소본보다 크거나 아직 축소본이 없으면 원본
+        CanvasObject canvasObject = canvasObjectRepository.findById(objectId)
+                .orElseThrow(() -> new CanvasObjectNotFoundException("캔버스 객체를 찾을 수 없습니다: " + objectId));
+        byte[] original = decodeImageData(canvasObject.getObjectData());
+        if (original == null) {
+            throw new IllegalArgumentException("이미지 객체가 아닙니다.");
+        }
+        ImageDimensions.Info info = ImageDimensions.probe(original);
+        return new ImageContent(info != null ? info.mediaType() : "application/octet-stream", original);
+    }
+
+    /**
+     * 새 이미지 객체의 축소본 생성 예약 (트랜잭션 안이면 커밋 후 시작)
+     *
+     * @param objectId 이미지 객체 ID
+     * @param image 원본 이미지 바이트
+     */
+    public void scheduleVariants(UUID objectId, byte[] image) {
+        schedule(objectId, () -> image);
+    }
+
+    /**
+     * 새 이미지 객체의 축소본 생성 예약 (objectData의 Base64 디코딩도 백그라운드에서 처리)
+     *
+     * @param objectId 이미지 객체 ID
+     * @param objectData 객체 데이터 JSON (imageData 필드)
+     */
+    public void scheduleVariants(UUID objectId, String objectData) {
+        schedule(objectId, () -> decodeImageData(objectData));
+    }
+
+    /**
+     * 원본 이미지가 바뀐 객체의 축소본 교체 (호출하는 쪽의 트랜잭션에서 기존 축소본 삭제 후 커밋되면 다시 생성)
+     *
+     * @param objectId 이미지 객체 ID
+     * @param objectData 바뀐 객체 데이터 JSON
+     */
+    public void refreshVariants(UUID objectId, String objectData) {
+        imageVariantRepository.deleteByObjectId(objectId);
+        scheduleVariants(objectId, objectData);
+    }
+
+    private void schedule(UUID objectId, Supplier<byte[]> source) {
+        if (variantSizes.isEmpty()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    submit(objectId, source);
+                }
+            });
+        } else {
+            submit(objectId, source);
+        }
+    }
+
+    private void submit(UUID objectId, Supplier<byte[]> source) {
+        long generation = generationSequence.incrementAndGet();
+        latestGenerations.put(objectId, generation);
+        try {
+            executor.execute(() -> {
+                try {
+                    generate(objectId, generation, source.get());
+                } catch (Exception e) {
+                    log.warn("이미지 축소본 생성 실패 (objectId={}): {}", objectId, e.getMessage());
+                } finally {
+                    latestGenerations.remove(objectId, generation);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 실행되지 않는 작업의 번호가 남지 않도록 정리
+            latestGenerations.remove(objectId, generation);
+            log.warn("이미지 축소본 생성 대기열이 가득 차 건너뜁니다 (objectId={})", objectId);
+        }
+    }
+
+    /**
+     * 축소본 생성 및 저장 (축소본 생성 스레드)
+     * 원본보다 작은 크기만 만들며, 큰 축소본을 다음 축소본의 입력으로 사용하여 원본 디코딩은 한 번만 함
+     */
+    private void generate(UUID objectId, long generation, byte[] image) throws IOException {
+        ImageDimensions.Info info = ImageDimensions.probe(image);
+        if (info == null) {
+            return; // 지원하지 않는 형식
+        }
+        int longestSide = Math.max(info.width(), info.height());
+        if (variantSizes.stream().noneMatch(size -> size < longestSide)) {
+            return; // 이미 충분히 작은 이미지
+        }
+        if (info.pixels() > maxPixels) {
+            log.warn("픽셀 수가 너무 큰 이미지는 축소본을 만들지 않습니다 (objectId={}, {}x{})",
+                    objectId, info.width(), info.height());
+            return;
+        }
+
+        BufferedImage source = ImageIO.read(new ByteArrayInputStream(image));
+        if (source == null) {
+            return;
+        }
+        // JPEG 원본은 투명도가 없으므로 JPEG로, 나머지는 투명도를 유지하도록 PNG로 저장
+        boolean opaque = ImageDimensions.JPEG.equals(info.mediaType());
+        String mediaType = opaque ? ImageDimensions.JPEG : ImageDimensions.PNG;
+
+        List<ImageVariant> variants = new ArrayList<>();
+        for (int size : variantSizes) {
+            if (size >= longestSide) {
+                continue;
+            }
+            source = scale(source, size, opaque);
+            variants.add(ImageVariant.builder()
+                    .maxDimension(size)
+                    .width(source.getWidth())
+                    .height(source.getHeight())
+                    .mediaType(mediaType)
+                    .data(encode(source, opaque ? "jpg" : "png"))
+                    .build());
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!Long.valueOf(generation).equals(latestGenerations.get(objectId))) {
+                    return; // 그 사이 이미지가 다시 바뀜
+                }
+                CanvasObject canvasObject = canvasObjectRepository.getReferenceById(objectId);
+                variants.forEach(variant -> variant.setCanvasObject(canvasObject));
+                imageVariantRepository.deleteByObjectId(objectId);
+                imageVariantRepository.saveAll(variants);
+            });
+        } catch (DataIntegrityViolationException e) {
+            // 같은 객체의 다른 생성 작업이 먼저 저장함
+            log.debug("이미지 축소본이 이미 저장되었습니다 (objectId={})", objectId);
+        }
+    }
+
+    /**
+     * 긴 변이 maxDimension이 되도록 비율을 유지하며 축소
+     * 한 번에 크게 줄이면 bilinear 보간에서 픽셀이 빠져 거칠어지므로 절반씩 나누어 줄임
+     */
+    private BufferedImage scale(BufferedImage source, int maxDimension, boolean opaque) {
+        double ratio = (double) maxDimension / Math.max(source.getWidth(), source.getHeight());
+        int targetWidth = Math.max(1, (int) Math.round(source.getWidth() * ratio));
+        int targetHeight = Math.max(1, (int) Math.round(source.getHeight() * ratio));
+
+        BufferedImage current = source;
+        int width = source.getWidth();
+        int height = source.getHeight();
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+            BufferedImage next = new BufferedImage(width, height,
+                    opaque ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB);
+            Graphics2D graphics = next.createGraphics();
+            try {
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.drawImage(current, 0, 0, width, height, null);
+            } finally {
+                graphics.dispose();
+            }
+            current = next;
+        } while (width != targetWidth || height != targetHeight);
+        return current;
+    }
+
+    private byte[] encode(BufferedImage image, String format) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        if (!ImageIO.write(image, format, output)) {
+            throw new IOException("이미지를 " + format + " 형식으로 저장할 수 없습니다.");
+        }
+        return output.toByteArray();
+    }
+
+    /**
+     * 헬퍼 메서드: 이미지 객체 데이터에서 원본 이미지 추출 (imageData 필드의 Base64 디코딩)
+     *
+     * @return 원본 이미지 바이트 (이미지 객체가 아니면 null)
+     */
+    private byte[] decodeImageData(String objectData) {
+        try {
+            JsonNode imageData = objectMapper.readTree(objectData).path("imageData");
+            if (!imageData.isTextual()) {
+                return null;
+            }
+            return Base64.getMimeDecoder().decode(imageData.asText());
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 헬퍼 메서드: 현재 인증된 사용자의 userId 추출
+     */
+    private UUID getCurrentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        if (authentication == null || !authentication.isAuthenticated()) {
+            throw new IllegalStateException("인증이 필요합니다. 로그인 후 다시 시도해주세요.");
+        }
+
+        String principal = authentication.getPrincipal().toString();
+        try {
+            return UUID.fromString(principal);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalStateException("유효하지 않은 사용자 인증 정보입니다.");
+        }
+    }
+}
+
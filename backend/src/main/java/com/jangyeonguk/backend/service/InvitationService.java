@@ -4,8 +4,6 @@ import com.jangyeonguk.backend.dto.InvitationAcceptResponse;
 import com.jangyeonguk.backend.dto.InvitationCreateResponse;
 import com.jangyeonguk.backend.entity.Invitation;
 import com.jangyeonguk.backend.entity.Room;
-import com.jangyeonguk.backend.entity.RoomParticipant;
-import com.jangyeonguk.backend.entity.RoomParticipantId;
 import com.jangyeonguk.backend.entity.User;
 import com.jangyeonguk.backend.exception.*;
 import com.jangyeonguk.backend.repository.InvitationRepository;
@@ -13,14 +11,19 @@ import com.jangyeonguk.backend.repository.RoomParticipantRepository;
 import com.jangyeonguk.backend.repository.RoomRepository;
 import com.jangyeonguk.backend.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.OffsetDateTime;
 import java.util.UUID;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -30,6 +33,11 @@ public class InvitationService {
     private final RoomRepository roomRepository;
     private final UserRepository userRepository;
     private final RoomParticipantRepository roomParticipantRepository;
+    private final RoomMembershipCache roomMembershipCache;
+    private final InvitationTokenCache invitationTokenCache;
+    
+    @Value("${invitation.expiry.batch-size:500}")
+    private int expiryBatchSize;
     
     // 초대 링크 만료 시간 (7일)
     private static final int INVITATION_EXPIRY_DAYS = 7;
@@ -94,7 +102,9 @@ public class InvitationService {
      * 초대 수락
      * 초대 토큰을 받아서 검증하고, 사용자를 방의 참가자로 추가
      * 하나의 초대 링크는 여러 명이 동시에 사용할 수 있으며, 초대 상태는 계속 유효하게 유지됨
-     * 만료 시간만 확인하여 유효성을 검증함
+     * 만료 시간만 확인하여 유효성을 검증함 (만료 상태 반영은 expireStaleInvitations에서 일괄 처리)
+     * 토큰은 캐시에서 확인하고 참가자는 INSERT ... ON CONFLICT DO NOTHING 한 번으로 추가하므로,
+     * 링크 공유로 많은 사용자가 한꺼번에 참가해도 참가자당 쓰기 한 번이며 중복 키 오류가 나지 않음
      * 
      * @param token 초대 토큰
      * @return 방 접속 정보
@@ -104,54 +114,50 @@ public class InvitationService {
         // 현재 인증된 사용자의 userId 추출
         UUID currentUserId = getCurrentUserId();
         
-        // 사용자 조회
-        User user = userRepository.findByUserId(currentUserId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + currentUserId));
-        
-        // 토큰으로 초대 조회
-        Invitation invitation = invitationRepository.findByToken(token)
-                .orElseThrow(() -> new InvitationNotFoundException("유효하지 않은 초대 링크입니다."));
+        // 토큰으로 초대 대상 조회 (캐시)
+        InvitationTokenCache.Target target = invitationTokenCache.get(token);
+        if (target == null) {
+            throw new InvitationNotFoundException("유효하지 않은 초대 링크입니다.");
+        }
         
         // 만료 시간 확인
-        if (invitation.getExpiresAt().isBefore(OffsetDateTime.now())) {
-            // 만료 상태로 업데이트
-            invitation.setStatus(Invitation.InvitationStatus.EXPIRED);
-            invitationRepository.save(invitation);
+        if (target.isExpired(OffsetDateTime.now())) {
             throw new InvitationExpiredException("만료된 초대 링크입니다.");
         }
         
-        // 사용자가 이미 방의 참가자인지 확인
-        boolean alreadyParticipant = roomParticipantRepository.existsById_UserIdAndId_RoomId(
-                currentUserId, invitation.getRoom().getRoomId());
-        
-        if (alreadyParticipant) {
-            // 이미 참가자인 경우 방 정보만 반환 (초대 링크는 계속 유효하게 유지)
-            return InvitationAcceptResponse.builder()
-                    .roomId(invitation.getRoom().getRoomId())
-                    .roomUrl("/rooms/" + invitation.getRoom().getRoomId())
-                    .message("이미 참가 중인 방입니다.")
-                    .build();
-        }
-        
-        // RoomParticipant 생성 및 저장
-        RoomParticipantId participantId = new RoomParticipantId(
-                currentUserId, invitation.getRoom().getRoomId());
-        RoomParticipant participant = RoomParticipant.builder()
-                .id(participantId)
-                .user(user)
-                .room(invitation.getRoom())
-                .websocketSessionId(null) // WebSocket 연결 시 설정
-                .build();
-        roomParticipantRepository.save(participant);
+        // 참가자 추가 (이미 참가 중이면 0)
+        UUID roomId = target.roomId();
+        int inserted = roomParticipantRepository.insertIfAbsent(currentUserId, roomId);
+        roomMembershipCache.memberAdded(currentUserId, roomId); // 커밋 후 참여 캐시 갱신
         
         // 초대 링크는 여러 명이 사용할 수 있으므로 상태를 변경하지 않음
         return InvitationAcceptResponse.builder()
-                .roomId(invitation.getRoom().getRoomId())
-                .roomUrl("/rooms/" + invitation.getRoom().getRoomId())
-                .message("초대를 수락했습니다. 방에 참가했습니다.")
+                .roomId(roomId)
+                .roomUrl("/rooms/" + roomId)
+                .message(inserted > 0 ? "초대를 수락했습니다. 방에 참가했습니다." : "이미 참가 중인 방입니다.")
                 .build();
     }
     
+    /**
+     * 만료 시간이 지난 초대를 일괄 만료 처리
+     * 한 번에 batch-size개씩 나누어 갱신하여 긴 트랜잭션과 대량 행 잠금을 피함
+     */
+    @Scheduled(fixedDelayString = "${invitation.expiry.sweep-interval-ms:3600000}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // 배치마다 별도 트랜잭션으로 커밋
+    public void expireStaleInvitations() {
+        OffsetDateTime now = OffsetDateTime.now();
+        int total = 0;
+        int expired;
+        do {
+            expired = invitationRepository.expireBatch(now, expiryBatchSize);
+            total += expired;
+        } while (expired == expiryBatchSize);
+        
+        if (total > 0) {
+            log.info("만료된 초대 {}개를 만료 처리했습니다.", total);
+        }
+    }
+    
     /**
      * 헬퍼 메서드: 현재 인증된 사용자의 userId 추출
      */
@@ -0,0 +1,64 @@
+package com.jangyeonguk.backend.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.jangyeonguk.backend.repository.InvitationRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * 초대 토큰 -> (방, 만료 시간) 캐시
+ * 초대 링크를 공유하면 여러 사용자가 짧은 시간에 같은 토큰으로 수락하므로, 첫 조회 결과를 메모리에 두고 재사용
+ * 토큰의 방과 만료 시간은 생성 후 바뀌지 않으므로 캐시가 오래되어도 결과가 달라지지 않음
+ * 존재하지 않는 토큰은 캐시하지 않음
+ */
+@Component
+public class InvitationTokenCache {
+
+    private final LoadingCache<String, Target> targets;
+
+    public InvitationTokenCache(
+            InvitationRepository invitationRepository,
+            MeterRegistry meterRegistry,
+            @Value("${invitation.token-cache.max-size:10000}") long maxSize,
+            @Value("${invitation.token-cache.ttl-ms:600000}") long ttlMs) {
+        this.targets = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMillis(ttlMs))
+                .recordStats()
+                .build(token -> invitationRepository.findTargetByToken(token)
+                        .map(target -> new Target(target.getRoomId(), target.getExpiresAt()))
+                        .orElse(null));
+
+        CaffeineCacheMetrics.monitor(meterRegistry, targets, "invitation.token");
+    }
+
+    /**
+     * 토큰으로 초대 대상 조회
+     *
+     * @param token 초대 토큰
+     * @return 초대된 방과 만료 시간 (존재하지 않는 토큰이면 null)
+     */
+    public Target get(String token) {
+        return targets.get(token);
+    }
+
+    /**
+     * 초대 대상
+     *
+     * @param roomId 초대된 방 ID
+     * @param expiresAt 만료 시간
+     */
+    public record Target(UUID roomId, OffsetDateTime expiresAt) {
+
+        public boolean isExpired(OffsetDateTime now) {
+            return expiresAt.isBefore(now);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.jangyeonguk.backend.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * RFC 7396 JSON Merge Patch 헬퍼
+ * 1단계(flat) 패치는 PostgreSQL jsonb 연산자(||, -)로 DB에서 직접 적용할 수 있도록 분해하고,
+ * 중첩 객체가 포함된 패치는 메모리에서 재귀적으로 적용
+ */
+final class JsonMergePatch {
+
+    private JsonMergePatch() {
+    }
+
+    /**
+     * 패치가 최상위 키만 바꾸는지 여부 (값에 객체가 없으면 jsonb의 || 와 - 로 동일하게 적용 가능)
+     */
+    static boolean isFlat(JsonNode patch) {
+        Iterator<JsonNode> values = patch.elements();
+        while (values.hasNext()) {
+            if (values.next().isObject()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * flat 패치에서 설정할 키만 추출 (null이 아닌 값)
+     */
+    static ObjectNode valuesToSet(ObjectNode patch) {
+        ObjectNode values = patch.objectNode();
+        patch.fields().forEachRemaining(field -> {
+            if (!field.getValue().isNull()) {
+                values.set(field.getKey(), field.getValue());
+            }
+        });
+        return values;
+    }
+
+    /**
+     * flat 패치에서 제거할 키를 PostgreSQL text[] 리터럴로 변환 (값이 null인 키)
+     */
+    static String keysToRemove(ObjectNode patch) {
+        List<String> keys = new ArrayList<>();
+        patch.fields().forEachRemaining(field -> {
+            if (field.getValue().isNull()) {
+                keys.add(field.getKey());
+            }
+        });
+
+        StringBuilder literal = new StringBuilder("{");
+        for (int i = 0; i < keys.size(); i++) {
+            if (i > 0) {
+                literal.append(',');
+            }
+            literal.append('"')
+                    .append(keys.get(i).replace("\\", "\\\\").replace("\"", "\\\""))
+                    .append('"');
+        }
+        return literal.append('}').toString();
+    }
+
+    /**
+     * RFC 7396 패치 적용
+     *
+     * @param target 원본 문서 (변경됨)
+     * @param patch 병합 패치
+     * @return 패치가 적용된 문서
+     */
+    static JsonNode apply(JsonNode target, JsonNode patch) {
+        if (!patch.isObject()) {
+            return patch;
+        }
+
+        ObjectNode result = (target != null && target.isObject())
+                ? (ObjectNode) target
+                : ((ObjectNode) patch).objectNode();
+
+        Iterator<Map.Entry<String, JsonNode>> fields = patch.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            if (field.getValue().isNull()) {
+                result.remove(field.getKey());
+            } else {
+                result.set(field.getKey(), apply(result.get(field.getKey()), field.getValue()));
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,108 @@
+package com.jangyeonguk.backend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jangyeonguk.backend.exception.TooManyLoginAttemptsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 로그인/회원가입 시도 제한
+ * 비밀번호 해싱(BCrypt) 전에 확인하여, 무차별 대입이나 폭주 요청이 해싱 CPU를 쓰지 못하도록 함
+ * - 계정(이메일)별: 윈도우 동안 실패 횟수 제한 (성공 시 초기화)
+ * - IP별: 윈도우 동안 전체 시도 횟수 제한
+ * 카운터는 처음 기록된 시점부터 윈도우가 지나면 만료되는 고정 윈도우 방식
+ */
+@Component
+public class LoginAttemptLimiter {
+
+    private final Cache<String, AtomicInteger> accountFailures;
+    private final Cache<String, AtomicInteger> ipAttempts;
+    private final int maxFailuresPerAccount;
+    private final int maxAttemptsPerIp;
+    private final Counter accountThrottledCounter;
+    private final Counter ipThrottledCounter;
+
+    public LoginAttemptLimiter(
+            MeterRegistry meterRegistry,
+            @Value("${auth.attempts.window-ms:300000}") long windowMs,
+            @Value("${auth.attempts.max-failures-per-account:10}") int maxFailuresPerAccount,
+            @Value("${auth.attempts.max-per-ip:100}") int maxAttemptsPerIp,
+            @Value("${auth.attempts.max-tracked-keys:100000}") long maxTrackedKeys) {
+        this.maxFailuresPerAccount = maxFailuresPerAccount;
+        this.maxAttemptsPerIp = maxAttemptsPerIp;
+        this.accountFailures = Caffeine.newBuilder()
+                .maximumSize(maxTrackedKeys)
+                .expireAfterWrite(Duration.ofMillis(windowMs))
+                .build();
+        this.ipAttempts = Caffeine.newBuilder()
+                .maximumSize(maxTrackedKeys)
+                .expireAfterWrite(Duration.ofMillis(windowMs))
+                .build();
+        this.accountThrottledCounter = Counter.builder("auth.attempts.throttled")
+                .tag("scope", "account")
+                .description("계정별 실패 횟수 초과로 거절된 요청 수")
+                .register(meterRegistry);
+        this.ipThrottledCounter = Counter.builder("auth.attempts.throttled")
+                .tag("scope", "ip")
+                .description("IP별 시도 횟수 초과로 거절된 요청 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 시도 가능 여부 확인 후 IP 시도 횟수 기록 (비밀번호 해싱 전에 호출)
+     *
+     * @param email 계정 이메일 (회원가입 등 계정 제한이 필요 없으면 null)
+     * @param clientIp 요청 IP
+     */
+    public void acquire(String email, String clientIp) {
+        if (email != null) {
+            AtomicInteger failures = accountFailures.getIfPresent(normalize(email));
+            if (failures != null && failures.get() >= maxFailuresPerAccount) {
+                accountThrottledCounter.increment();
+                throw new TooManyLoginAttemptsException("로그인 실패 횟수가 너무 많습니다. 잠시 후 다시 시도해주세요.");
+            }
+        }
+
+        if (clientIp != null) {
+            AtomicInteger attempts = ipAttempts.get(clientIp, key -> new AtomicInteger());
+            if (attempts.incrementAndGet() > maxAttemptsPerIp) {
+                ipThrottledCounter.increment();
+                throw new TooManyLoginAttemptsException("요청이 너무 많습니다. 잠시 후 다시 시도해주세요.");
+            }
+        }
+    }
+
+    /**
+     * 로그인 실패 기록
+     *
+     * @param email 계정 이메일
+     */
+    public void recordFailure(String email) {
+        if (email != null) {
+            accountFailures.get(normalize(email), key -> new AtomicInteger()).incrementAndGet();
+        }
+    }
+
+    /**
+     * 로그인 성공 시 계정 실패 횟수 초기화
+     *
+     * @param email 계정 이메일
+     */
+    public void recordSuccess(String email) {
+        if (email != null) {
+            accountFailures.invalidate(normalize(email));
+        }
+    }
+
+    private String normalize(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+}
+
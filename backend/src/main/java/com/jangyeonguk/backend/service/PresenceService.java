@@ -0,0 +1,271 @@
+package com.jangyeonguk.backend.service;
+
+import com.jangyeonguk.backend.dto.PresenceFrameResponse;
+import com.jangyeonguk.backend.dto.PresenceParticipantResponse;
+import com.jangyeonguk.backend.dto.PresenceUpdateRequest;
+import com.jangyeonguk.backend.entity.User;
+import com.jangyeonguk.backend.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 실시간 접속(presence) 및 커서 채널
+ * 커서/선택 상태는 메모리에만 보관하며 DB에 저장하지 않음 (RoomParticipant.websocketSessionId 미사용)
+ * 커서 갱신은 최신 값으로 덮어쓰고, 방마다 고정 주기로 한 번씩 프레임으로 묶어서 발행
+ * 모든 요청은 방 참여자만 가능 (참여 여부는 RoomMembershipCache로 확인하므로 heartbeat도 DB를 사용하지 않음)
+ * 프레임 번호는 방의 접속 상태를 새로 만들 때 현재 시각(밀리초)에서 시작하므로, 모두 떠났다가 다시 만들어져도 줄어들지 않음
+ * (프레임은 발행 주기마다 최대 1씩 늘어나므로 시각보다 빨리 늘지 않음)
+ */
+@Service
+@RequiredArgsConstructor
+public class PresenceService {
+
+    private final UserRepository userRepository;
+    private final RoomMembershipCache roomMembershipCache;
+
+    // 방 ID -> 방의 접속 상태
+    private final Map<UUID, RoomPresence> rooms = new ConcurrentHashMap<>();
+
+    @Value("${presence.ttl-ms:15000}")
+    private long ttlMs;
+
+    @Value("${presence.max-selected-objects:200}")
+    private int maxSelectedObjects;
+
+    /**
+     * 방 접속 (join)
+     * 표시 이름 조회를 위해 접속 시 한 번만 사용자 정보를 읽고, 이후 heartbeat는 DB를 사용하지 않음
+     *
+     * @param roomId 방 ID
+     * @return 현재 프레임
+     */
+    public PresenceFrameResponse join(UUID roomId) {
+        UUID currentUserId = requireMembership(roomId);
+
+        RoomPresence current = rooms.get(roomId);
+        PresenceEntry existing = (current != null) ? current.members.get(currentUserId) : null;
+        String displayName = (existing != null)
+                ? existing.displayName()
+                : userRepository.findByUserId(currentUserId)
+                        .map(User::getDisplayName)
+                        .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + currentUserId));
+        PresenceEntry entry = new PresenceEntry(
+                currentUserId, displayName, null, null, List.of(), System.currentTimeMillis());
+
+        // 빈 방 정리(publishFrames)와 경합하지 않도록 방 단위로 원자적으로 등록
+        RoomPresence room = rooms.compute(roomId, (id, presence) -> {
+            RoomPresence target = (presence != null) ? presence : new RoomPresence(id);
+            target.members.put(currentUserId, entry);
+            target.dirty.set(true);
+            return target;
+        });
+
+        return room.latestFrame;
+    }
+
+    /**
+     * heartbeat 및 커서/선택 상태 갱신
+     * 접속하지 않은 사용자의 heartbeat는 무시 (클라이언트가 join부터 다시 수행)
+     *
+     * @param roomId 방 ID
+     * @param request 커서 좌표와 선택 객체 (null이면 기존 값 유지)
+     * @return 접속 상태가 유지되고 있으면 true
+     */
+    public boolean heartbeat(UUID roomId, PresenceUpdateRequest request) {
+        UUID currentUserId = requireMembership(roomId);
+        RoomPresence room = rooms.get(roomId);
+        if (room == null) {
+            return false;
+        }
+
+        PresenceEntry updated = room.members.computeIfPresent(currentUserId, (userId, entry) -> {
+            if (request == null) {
+                return entry.touch();
+            }
+            List<UUID> selection = entry.selectedObjectIds();
+            if (request.getSelectedObjectIds() != null) {
+                selection = request.getSelectedObjectIds().stream()
+                        .limit(maxSelectedObjects)
+                        .toList();
+            }
+            return new PresenceEntry(
+                    userId,
+                    entry.displayName(),
+                    request.getCursorX() != null ? request.getCursorX() : entry.cursorX(),
+                    request.getCursorY() != null ? request.getCursorY() : entry.cursorY(),
+                    selection,
+                    System.currentTimeMillis());
+        });
+
+        if (updated == null) {
+            return false;
+        }
+        if (request != null) {
+            room.dirty.set(true);
+        }
+        return true;
+    }
+
+    /**
+     * 방 퇴장 (leave)
+     *
+     * @param roomId 방 ID
+     */
+    public void leave(UUID roomId) {
+        UUID currentUserId = requireMembership(roomId);
+        RoomPresence room = rooms.get(roomId);
+        if (room != null && room.members.remove(currentUserId) != null) {
+            room.dirty.set(true);
+        }
+    }
+
+    /**
+     * 방의 최신 프레임 조회
+     *
+     * @param roomId 방 ID
+     * @return 최신 프레임 (접속자가 없는 방이면 빈 프레임)
+     */
+    public PresenceFrameResponse getFrame(UUID roomId) {
+        requireMembership(roomId);
+        RoomPresence room = rooms.get(roomId);
+        return room != null ? room.latestFrame : emptyFrame(roomId, 0L);
+    }
+
+    /**
+     * 방 상세 조회용 접속자 목록 (참여자가 아니면 커서/선택 상태를 노출하지 않도록 null)
+     *
+     * @param roomId 방 ID
+     * @return 접속자 목록, 현재 사용자가 방 참여자가 아니면 null
+     */
+    public List<PresenceParticipantResponse> getParticipantsIfMember(UUID roomId) {
+        if (!roomMembershipCache.isMember(getCurrentUserId(), roomId)) {
+            return null;
+        }
+        RoomPresence room = rooms.get(roomId);
+        return room != null ? room.latestFrame.getParticipants() : List.of();
+    }
+
+    /**
+     * 방의 현재 접속자 수 조회
+     */
+    public int getOnlineCount(UUID roomId) {
+        RoomPresence room = rooms.get(roomId);
+        return room != null ? room.members.size() : 0;
+    }
+
+    /**
+     * 고정 주기 프레임 발행
+     * TTL이 지난 접속자를 제거하고, 변경된 방만 새 프레임을 만듦
+     * 접속자가 모두 떠난 방은 메모리에서 제거
+     */
+    @Scheduled(fixedRateString = "${presence.frame-interval-ms:100}")
+    public void publishFrames() {
+        long expiredBefore = System.currentTimeMillis() - ttlMs;
+
+        rooms.forEach((roomId, room) -> {
+            if (room.members.values().removeIf(entry -> entry.lastSeenAt() < expiredBefore)) {
+                room.dirty.set(true);
+            }
+
+            if (room.dirty.getAndSet(false)) {
+                room.latestFrame = buildFrame(room, room.latestFrame.getSequence() + 1);
+            }
+
+            if (room.members.isEmpty()) {
+                rooms.computeIfPresent(roomId, (id, presence) -> presence.members.isEmpty() ? null : presence);
+            }
+        });
+    }
+
+    private PresenceFrameResponse buildFrame(RoomPresence room, long sequence) {
+        List<PresenceParticipantResponse> participants = room.members.values().stream()
+                .sorted(Comparator.comparing(PresenceEntry::userId))
+                .map(entry -> PresenceParticipantResponse.builder()
+                        .userId(entry.userId())
+                        .displayName(entry.displayName())
+                        .cursorX(entry.cursorX())
+                        .cursorY(entry.cursorY())
+                        .selectedObjectIds(entry.selectedObjectIds())
+                        .build())
+                .toList();
+
+        return PresenceFrameResponse.builder()
+                .roomId(room.roomId)
+                .sequence(sequence)
+                .onlineCount(participants.size())
+                .participants(participants)
+                .build();
+    }
+
+    private static PresenceFrameResponse emptyFrame(UUID roomId, long sequence) {
+        return PresenceFrameResponse.builder()
+                .roomId(roomId)
+                .sequence(sequence)
+                .onlineCount(0)
+                .participants(List.of())
+                .build();
+    }
+
+    /**
+     * 헬퍼 메서드: 현재 사용자가 방 참여자인지 확인 (참여자가 있는 방만 존재하는 방으로 취급)
+     */
+    private UUID requireMembership(UUID roomId) {
+        UUID currentUserId = getCurrentUserId();
+        roomMembershipCache.requireMember(currentUserId, roomId);
+        return currentUserId;
+    }
+
+    /**
+     * 헬퍼 메서드: 현재 인증된 사용자의 userId 추출
+     */
+    private UUID getCurrentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        if (authentication == null || !authentication.isAuthenticated()) {
+            throw new IllegalStateException("인증이 필요합니다. 로그인 후 다시 시도해주세요.");
+        }
+
+        String principal = authentication.getPrincipal().toString();
+        try {
+            return UUID.fromString(principal);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalStateException("유효하지 않은 사용자 인증 정보입니다.");
+        }
+    }
+
+    private static final class RoomPresence {
+        private final UUID roomId;
+        private final Map<UUID, PresenceEntry> members = new ConcurrentHashMap<>();
+        private final AtomicBoolean dirty = new AtomicBoolean();
+        private volatile PresenceFrameResponse latestFrame;
+
+        private RoomPresence(UUID roomId) {
+            this.roomId = roomId;
+            this.latestFrame = emptyFrame(roomId, System.currentTimeMillis());
+        }
+    }
+
+    private record PresenceEntry(
+            UUID userId,
+            String displayName,
+            Double cursorX,
+            Double cursorY,
+            List<UUID> selectedObjectIds,
+            long lastSeenAt
+    ) {
+        private PresenceEntry touch() {
+            return new PresenceEntry(userId, displayName, cursorX, cursorY, selectedObjectIds, System.currentTimeMillis());
+        }
+    }
+}
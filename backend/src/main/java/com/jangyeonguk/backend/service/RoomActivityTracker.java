@@ -0,0 +1,109 @@
+package com.jangyeonguk.backend.service;
+
+import com.jangyeonguk.backend.entity.Room;
+import com.jangyeonguk.backend.repository.RoomRepository;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 방 활동 시각 추적기
+ * 캔버스 변경마다 rooms 행을 UPDATE하면 같은 방의 모든 변경이 한 행의 락을 두고 경쟁하므로,
+ * 방별 마지막 활동 시각을 메모리에만 기록하고 주기적으로 UPDATE 한 번에 모아서 last_updated_at에 반영
+ * 대시보드의 방 목록 순서는 최대 flush 주기만큼 늦게 반영됨
+ *
+ * 2차 캐시: 반영한 방의 rooms 항목만 evict하고 다른 방의 캐시와 다른 테이블의 쿼리 캐시는 유지
+ * (rooms 영역 전체를 무효화하면 활동이 있는 한 flush마다 모든 방의 캐시가 비워져 2차 캐시의 의미가 없어짐)
+ * 대가로, evict 직전에 DB에서 읽은 다른 트랜잭션이 evict 직후 이전 값을 캐시에 넣으면
+ * 그 방의 캐시된 lastUpdatedAt은 다음 flush(해당 방에 활동이 있을 때)나 영역 만료(10분)까지 이전 값으로 남을 수 있음
+ * 방 목록(findAllByOrderByLastUpdatedAtDesc)은 쿼리 결과 행에서 값을 읽으므로 이 영향을 받지 않으며,
+ * 캐시된 Room을 쓰는 곳(권한 확인, 제목 등)은 lastUpdatedAt에 의존하지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoomActivityTracker {
+
+    private final RoomRepository roomRepository;
+    private final EntityManagerFactory entityManagerFactory;
+
+    // 방 ID -> 아직 DB에 반영하지 않은 마지막 활동 시각
+    private final Map<UUID, Instant> pending = new ConcurrentHashMap<>();
+
+    /**
+     * 방 활동 기록 (메모리에만 기록하므로 변경 요청마다 호출해도 됨)
+     *
+     * @param roomId 방 ID
+     */
+    public void recordActivity(UUID roomId) {
+        pending.merge(roomId, Instant.now(), (previous, current) -> current.isAfter(previous) ? current : previous);
+    }
+
+    /**
+     * 기록된 활동 시각을 한 번의 UPDATE로 반영
+     * 반영 도중 들어온 활동은 다음 주기에 반영되고, 실패하면 다시 기록해 두었다가 재시도
+     */
+    @Scheduled(fixedDelayString = "${canvas.activity.flush-interval-ms:5000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<UUID> roomIds = new ArrayList<>();
+        List<Instant> activityTimes = new ArrayList<>();
+        for (UUID roomId : pending.keySet()) {
+            Instant activityAt = pending.remove(roomId);
+            if (activityAt != null) {
+                roomIds.add(roomId);
+                activityTimes.add(activityAt);
+            }
+        }
+        if (roomIds.isEmpty()) {
+            return;
+        }
+
+        try {
+            roomRepository.updateLastUpdatedAt(arrayLiteral(roomIds), arrayLiteral(activityTimes));
+            // 커밋 후 갱신한 방만 2차 캐시에서 제거 (다음 조회 시 DB에서 다시 읽음)
+            roomIds.forEach(roomId -> entityManagerFactory.getCache().evict(Room.class, roomId));
+        } catch (RuntimeException e) {
+            log.warn("방 활동 시각 반영 실패 ({}개 방, 다음 주기에 재시도): {}", roomIds.size(), e.getMessage());
+            for (int i = 0; i < roomIds.size(); i++) {
+                pending.merge(roomIds.get(i), activityTimes.get(i),
+                        (previous, current) -> current.isAfter(previous) ? current : previous);
+            }
+        }
+    }
+
+    /**
+     * 서버 종료 시 남은 활동 시각 반영
+     */
+    @PreDestroy
+    void flushOnShutdown() {
+        flush();
+    }
+
+    /**
+     * 헬퍼 메서드: PostgreSQL 배열 리터럴 ({a,b,c}, UUID와 ISO-8601 시각에는 따옴표가 필요한 문자가 없음)
+     */
+    private static String arrayLiteral(List<?> values) {
+        StringBuilder literal = new StringBuilder("{");
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                literal.append(',');
+            }
+            literal.append(values.get(i));
+        }
+        return literal.append('}').toString();
+    }
+}
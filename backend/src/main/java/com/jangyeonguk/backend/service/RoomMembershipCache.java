@@ -0,0 +1,117 @@
+package com.jangyeonguk.backend.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.jangyeonguk.backend.exception.UnauthorizedRoomAccessException;
+import com.jangyeonguk.backend.repository.RoomParticipantRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 방 참여 여부 캐시
+ * 캔버스 API는 요청마다 (사용자, 방) 참여 여부를 확인하므로, 결과를 메모리에 캐시하여 DB 조회를 생략
+ * 참여자는 삭제되지 않으므로 참여 결과는 길게, 비참여 결과는 초대 수락 직후 반영되도록 짧게 캐시
+ * 참여자가 추가되면(방 생성, 초대 수락) 커밋 후 캐시를 갱신
+ */
+@Component
+public class RoomMembershipCache {
+
+    private final RoomParticipantRepository roomParticipantRepository;
+    private final LoadingCache<MembershipKey, Boolean> memberships;
+    private final Counter deniedCounter;
+
+    public RoomMembershipCache(
+            RoomParticipantRepository roomParticipantRepository,
+            MeterRegistry meterRegistry,
+            @Value("${canvas.membership.cache.max-size:100000}") long maxSize,
+            @Value("${canvas.membership.cache.positive-ttl-ms:600000}") long positiveTtlMs,
+            @Value("${canvas.membership.cache.negative-ttl-ms:5000}") long negativeTtlMs) {
+        this.roomParticipantRepository = roomParticipantRepository;
+        long positiveTtlNanos = TimeUnit.MILLISECONDS.toNanos(positiveTtlMs);
+        long negativeTtlNanos = TimeUnit.MILLISECONDS.toNanos(negativeTtlMs);
+
+        this.memberships = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<MembershipKey, Boolean>() {
+                    @Override
+                    public long expireAfterCreate(MembershipKey key, Boolean member, long currentTime) {
+                        return member ? positiveTtlNanos : negativeTtlNanos;
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(MembershipKey key, Boolean member, long currentTime, long currentDuration) {
+                        return member ? positiveTtlNanos : negativeTtlNanos;
+                    }
+
+                    @Override
+                    public long expireAfterRead(MembershipKey key, Boolean member, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build(key -> roomParticipantRepository.existsById_UserIdAndId_RoomId(key.userId(), key.roomId()));
+
+        CaffeineCacheMetrics.monitor(meterRegistry, memberships, "room.membership");
+        this.deniedCounter = Counter.builder("room.membership.denied")
+                .description("방에 참여하지 않은 사용자의 캔버스 API 요청 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 사용자가 방의 참여자인지 확인
+     *
+     * @param userId 사용자 ID
+     * @param roomId 방 ID
+     * @return 참여자이면 true
+     */
+    public boolean isMember(UUID userId, UUID roomId) {
+        return memberships.get(new MembershipKey(userId, roomId));
+    }
+
+    /**
+     * 사용자가 방의 참여자가 아니면 예외 발생
+     *
+     * @param userId 사용자 ID
+     * @param roomId 방 ID
+     */
+    public void requireMember(UUID userId, UUID roomId) {
+        if (!isMember(userId, roomId)) {
+            deniedCounter.increment();
+            throw new UnauthorizedRoomAccessException("방에 참여하지 않은 사용자입니다.");
+        }
+    }
+
+    /**
+     * 참여자 추가 반영 (트랜잭션 중이면 커밋 후 반영)
+     * 커밋 전에 반영하면 롤백 시 참여하지 않은 사용자가 참여자로 캐시될 수 있음
+     *
+     * @param userId 사용자 ID
+     * @param roomId 방 ID
+     */
+    public void memberAdded(UUID userId, UUID roomId) {
+        MembershipKey key = new MembershipKey(userId, roomId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    memberships.put(key, Boolean.TRUE);
+                }
+            });
+        } else {
+            memberships.put(key, Boolean.TRUE);
+        }
+    }
+
+    private record MembershipKey(UUID userId, UUID roomId) {
+    }
+}
+
@@ -0,0 +1,281 @@
+package com.jangyeonguk.backend.service;
+
+import com.jangyeonguk.backend.config.SqlStatementCounter;
+import com.jangyeonguk.backend.exception.RoomBusyException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 방 단위 단일 writer 실행기
+ * 방마다 메일박스(큐)를 두고, 작업이 있을 때만 가상 스레드 하나가 순서대로 처리
+ * 같은 방의 변경은 직렬화되어 DB 락 없이도 undo/redo의 read-then-write가 안전하고,
+ * 서로 다른 방은 완전히 병렬로 실행됨
+ * 큐에 쌓인 작업은 최대 batch-size개씩 하나의 트랜잭션으로 묶어서 커밋
+ * 작업에서 실행한 SQL은 작업을 요청한 HTTP 요청의 SQL 수/DB 시간으로 집계
+ * (배치가 롤백되어 하나씩 다시 실행한 경우 결과를 결정한 실행만 집계)
+ * 작업 안의 트랜잭션 외 부수 효과(알림, 축소본 생성 등)는 다시 실행될 수 있으므로 커밋 후 실행되도록 등록해야 함
+ */
+@Component
+public class RoomMutationExecutor {
+
+    private final Map<UUID, Mailbox> mailboxes = new ConcurrentHashMap<>();
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxPendingPerRoom;
+    private final long timeoutMs;
+
+    public RoomMutationExecutor(
+            PlatformTransactionManager transactionManager,
+            @Value("${canvas.mutation.batch-size:32}") int batchSize,
+            @Value("${canvas.mutation.max-pending-per-room:1000}") int maxPendingPerRoom,
+            @Value("${canvas.mutation.timeout-ms:10000}") long timeoutMs) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxPendingPerRoom = maxPendingPerRoom;
+        this.timeoutMs = timeoutMs;
+    }
+
+    /**
+     * 방의 writer 스레드에서 트랜잭션 안에 변경 작업을 실행하고 결과를 기다림
+     * 작업은 SecurityContext가 없는 스레드에서 실행되므로, 필요한 사용자 정보는 호출 전에 추출해서 넘겨야 함
+     * timeout-ms 안에 끝나지 않으면 RoomBusyException (아직 시작하지 않은 작업은 취소되어 실행되지 않음)
+     *
+     * @param roomId 방 ID
+     * @param mutation 변경 작업
+     * @return 작업 결과
+     */
+    public <T> T execute(UUID roomId, Supplier<T> mutation) {
+        MutationTask<T> task = new MutationTask<>(mutation);
+        boolean[] startWriter = new boolean[1];
+
+        Mailbox mailbox = mailboxes.compute(roomId, (id, current) -> {
+            Mailbox target = (current != null) ? current : new Mailbox(id);
+            if (target.pending.get() >= maxPendingPerRoom) {
+                throw new RoomBusyException("방에 처리 대기 중인 요청이 너무 많습니다. 잠시 후 다시 시도해주세요.");
+            }
+            target.pending.incrementAndGet();
+            target.queue.add(task);
+            if (!target.running) {
+                target.running = true;
+                startWriter[0] = true;
+            }
+            return target;
+        });
+
+        if (startWriter[0]) {
+            startWriter(mailbox);
+        }
+
+        try {
+            return task.future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            if (task.cancel()) {
+                throw new RoomBusyException("방의 변경 요청이 밀려 처리하지 못했습니다. 잠시 후 다시 시도해주세요.");
+            }
+            throw new RoomBusyException("변경 요청 처리 시간이 초과되었습니다. 반영 여부는 변경 알림으로 확인해주세요.");
+        } catch (InterruptedException e) {
+            task.cancel();
+            Thread.currentThread().interrupt();
+            throw new RoomBusyException("변경 요청 대기가 중단되었습니다.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("변경 작업 실행 중 오류가 발생했습니다.", e.getCause());
+        }
+    }
+
+    /**
+     * 방의 대기 중인 작업 수 (테스트/진단용)
+     */
+    int pending(UUID roomId) {
+        Mailbox mailbox = mailboxes.get(roomId);
+        return mailbox != null ? mailbox.pending.get() : 0;
+    }
+
+    private void startWriter(Mailbox mailbox) {
+        Thread.ofVirtual()
+                .name("room-writer-" + mailbox.roomId)
+                .start(() -> drain(mailbox));
+    }
+
+    private void drain(Mailbox mailbox) {
+        boolean stopped = false;
+        try {
+            while (true) {
+                List<MutationTask<?>> batch = new ArrayList<>(batchSize);
+                int polled = 0;
+                MutationTask<?> task;
+                while (batch.size() < batchSize && (task = mailbox.queue.poll()) != null) {
+                    polled++;
+                    if (task.start()) { // 시간 초과로 취소된 작업은 건너뜀
+                        batch.add(task);
+                    }
+                }
+
+                if (polled == 0) {
+                    // 큐가 비었을 때만 writer를 종료하고 메일박스를 제거 (enqueue와 같은 키 잠금으로 원자적으로 처리)
+                    boolean[] empty = new boolean[1];
+                    mailboxes.computeIfPresent(mailbox.roomId, (id, current) -> {
+                        if (current.queue.isEmpty()) {
+                            current.running = false;
+                            empty[0] = true;
+                            return null;
+                        }
+                        return current;
+                    });
+                    if (empty[0]) {
+                        stopped = true;
+                        return;
+                    }
+                    continue;
+                }
+
+                mailbox.pending.addAndGet(-polled);
+                if (!batch.isEmpty()) {
+                    runBatch(batch);
+                }
+            }
+        } finally {
+            if (!stopped) {
+                restartWriter(mailbox);
+            }
+        }
+    }
+
+    /**
+     * writer가 예상하지 못한 오류로 종료된 경우 running 상태를 되돌리고, 남은 작업이 있으면 새 writer 시작
+     * (running이 true로 남으면 이 방의 작업을 처리할 writer가 다시는 시작되지 않음)
+     */
+    private void restartWriter(Mailbox mailbox) {
+        boolean[] restart = new boolean[1];
+        mailboxes.computeIfPresent(mailbox.roomId, (id, current) -> {
+            if (current != mailbox) {
+                return current;
+            }
+            if (current.queue.isEmpty()) {
+                current.running = false;
+                return null;
+            }
+            restart[0] = true;
+            return current;
+        });
+        if (restart[0]) {
+            startWriter(mailbox);
+        }
+    }
+
+    private void runBatch(List<MutationTask<?>> batch) {
+        if (batch.size() > 1) {
+            try {
+                List<Object> results = transactionTemplate.execute(status -> {
+                    List<Object> values = new ArrayList<>(batch.size());
+                    for (MutationTask<?> task : batch) {
+                        values.add(task.run());
+                    }
+                    return values;
+                });
+                for (int i = 0; i < batch.size(); i++) {
+                    batch.get(i).complete(results.get(i));
+                }
+                return;
+            } catch (Throwable e) {
+                // 배치 전체가 롤백되었으므로, 실패한 작업만 실패하도록 하나씩 다시 실행 (롤백된 실행의 SQL 집계는 버림)
+            }
+        }
+
+        for (MutationTask<?> task : batch) {
+            try (SqlStatementCounter.Scope ignored = task.beginAttempt()) {
+                task.complete(transactionTemplate.execute(status -> task.run()));
+            } catch (Throwable e) {
+                task.fail(e);
+            }
+        }
+    }
+
+    private static final class Mailbox {
+        private final UUID roomId;
+        private final Queue<MutationTask<?>> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger pending = new AtomicInteger();
+        private boolean running; // mailboxes의 같은 키 잠금(compute) 안에서만 접근
+
+        private Mailbox(UUID roomId) {
+            this.roomId = roomId;
+        }
+    }
+
+    private static final class MutationTask<T> {
+        private static final int QUEUED = 0;
+        private static final int STARTED = 1;
+        private static final int CANCELLED = 2;
+
+        private final Supplier<T> mutation;
+        private final SqlStatementCounter requestStatements = SqlStatementCounter.current(); // 요청 스레드에서 생성됨
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+        private final AtomicInteger state = new AtomicInteger(QUEUED);
+        private SqlStatementCounter attemptStatements; // writer 스레드에서만 접근
+
+        private MutationTask(Supplier<T> mutation) {
+            this.mutation = mutation;
+        }
+
+        private boolean start() {
+            return state.compareAndSet(QUEUED, STARTED);
+        }
+
+        private boolean cancel() {
+            return state.compareAndSet(QUEUED, CANCELLED);
+        }
+
+        /**
+         * 새 실행 시작 (이전 실행의 SQL 집계는 버리고, 커밋 시점의 flush까지 이번 실행으로 집계)
+         */
+        private SqlStatementCounter.Scope beginAttempt() {
+            attemptStatements = (requestStatements != null) ? new SqlStatementCounter() : null;
+            return SqlStatementCounter.open(attemptStatements);
+        }
+
+        private T run() {
+            if (attemptStatements == null && requestStatements != null) {
+                attemptStatements = new SqlStatementCounter();
+            }
+            try (SqlStatementCounter.Scope ignored = SqlStatementCounter.open(attemptStatements)) {
+                return mutation.get();
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private void complete(Object result) {
+            recordStatements();
+            future.complete((T) result);
+        }
+
+        private void fail(Throwable e) {
+            recordStatements();
+            future.completeExceptionally(e);
+        }
+
+        private void recordStatements() {
+            if (attemptStatements != null) {
+                requestStatements.add(attemptStatements);
+                attemptStatements = null;
+            }
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.jangyeonguk.backend.service;
 
+import com.jangyeonguk.backend.dto.PresenceParticipantResponse;
 import com.jangyeonguk.backend.dto.RoomCreateRequest;
 import com.jangyeonguk.backend.dto.RoomCreateResponse;
 import com.jangyeonguk.backend.dto.RoomResponse;
@@ -30,6 +31,8 @@ public class RoomService {
     private final RoomRepository roomRepository;
     private final UserRepository userRepository;
     private final RoomParticipantRepository roomParticipantRepository;
+    private final RoomMembershipCache roomMembershipCache;
+    private final PresenceService presenceService;
     
     /**
      * 새 방 생성
@@ -73,6 +76,7 @@ public class RoomService {
                 .websocketSessionId(null) // WebSocket 연결 시 설정
                 .build();
         roomParticipantRepository.save(participant);
+        roomMembershipCache.memberAdded(owner.getUserId(), savedRoom.getRoomId()); // 커밋 후 참여 캐시 갱신
         
         return RoomCreateResponse.builder()
                 .roomId(savedRoom.getRoomId())
@@ -112,7 +116,7 @@ public class RoomService {
         return rooms.stream()
                 .map(room -> {
                     Long count = participantCounts.getOrDefault(room.getRoomId(), 0L);
-                    return mapToRoomResponse(room, count.intValue());
+                    return mapToRoomResponse(room, count.intValue(), null);
                 })
                 .collect(Collectors.toList());
     }
@@ -134,7 +138,11 @@ public class RoomService {
                 .getParticipantCountsByRoomIds(roomIds);
         Long count = participantCounts.getOrDefault(roomId, 0L);
         
-        return mapToRoomResponse(room, count.intValue());
+        // 현재 접속 중인 참가자 (메모리의 presence 프레임, DB 조회 없음)
+        // 방 정보는 참여자가 아니어도 조회할 수 있으므로, 참여자가 아니면 접속자 목록만 빼고 반환
+        List<PresenceParticipantResponse> onlineParticipants = presenceService.getParticipantsIfMember(roomId);
+        
+        return mapToRoomResponse(room, count.intValue(), onlineParticipants);
     }
 
     /**
@@ -161,7 +169,8 @@ public class RoomService {
     /**
      * 헬퍼 메서드: Room 엔티티를 RoomResponse DTO로 변환
      */
-    private RoomResponse mapToRoomResponse(Room room, Integer participantCount) {
+    private RoomResponse mapToRoomResponse(Room room, Integer participantCount,
+                                           List<PresenceParticipantResponse> onlineParticipants) {
         // isAnonymous가 true면 "익명"으로 표시, false면 displayName 표시
         String ownerName = room.getIsAnonymous() 
                 ? "익명" 
@@ -179,6 +188,8 @@ public class RoomService {
                 .createdAt(room.getCreatedAt())
                 .lastUpdatedAt(room.getLastUpdatedAt())
                 .participantCount(participantCount)
+                .onlineCount(presenceService.getOnlineCount(room.getRoomId()))
+                .onlineParticipants(onlineParticipants)
                 .build();
     }
 }
@@ -0,0 +1,31 @@
+package com.jangyeonguk.backend.service;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 방 전체 객체 조회 JFR 이벤트 (DB 조회 + 응답 변환)
+ */
+@Name("com.jangyeonguk.canvas.RoomSnapshot")
+@Label("Room Snapshot Load")
+@Category({"Canvas Sync", "Canvas"})
+@Description("방의 전체 캔버스 객체 조회")
+@StackTrace(false)
+class RoomSnapshotEvent extends Event {
+
+    @Label("Room ID")
+    String roomId;
+
+    @Label("Object Count")
+    int objectCount;
+
+    @Label("Payload Size")
+    @Description("반환한 objectData 크기 합계 (UTF-8 바이트)")
+    @DataAmount(DataAmount.BYTES)
+    long payloadBytes;
+}
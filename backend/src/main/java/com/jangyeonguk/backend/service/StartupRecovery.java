@@ -0,0 +1,45 @@
+package com.jangyeonguk.backend.service;
+
+import com.jangyeonguk.backend.config.TokenRevocationStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+/**
+ * 서버 시작 시 DB에서 상태를 복원/정리하는 작업 (폐기된 토큰 복원, 이 인스턴스가 실행하다 중단된 AI 변환 작업 실패 처리)
+ * 컨텍스트 refresh(@PostConstruct)가 아니라 웹 서버보다 앞선 lifecycle 단계에서 실행하므로
+ * 요청을 받기 전에 끝나면서도, refresh까지만 실행하는 AppCDS 학습 실행(spring.context.exit=onRefresh)은 DB 없이 가능
+ */
+@Component
+@RequiredArgsConstructor
+public class StartupRecovery implements SmartLifecycle {
+
+    private final TokenRevocationStore tokenRevocationStore;
+    private final AIConversionJobLeases aiConversionJobLeases;
+    private volatile boolean running;
+
+    @Override
+    public void start() {
+        tokenRevocationStore.load();
+        aiConversionJobLeases.failInterruptedJobs();
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 웹 서버(WebServerStartStopLifecycle)보다 먼저 시작
+     */
+    @Override
+    public int getPhase() {
+        return 0;
+    }
+}
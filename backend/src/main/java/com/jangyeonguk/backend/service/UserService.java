@@ -12,8 +12,8 @@ import com.jangyeonguk.backend.exception.UserAlreadyExistsException;
 import com.jangyeonguk.backend.repository.UserRepository;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
@@ -23,21 +23,29 @@ import org.springframework.util.StringUtils;
 public class UserService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final LoginAttemptLimiter loginAttemptLimiter;
     private final JwtUtil jwtUtil;
 
     /**
      * 회원가입
+     * 비밀번호 해싱을 기다리는 동안 DB 커넥션을 점유하지 않도록 트랜잭션 없이 실행 (조회/저장은 각각 짧은 트랜잭션)
+     * 
+     * @param request 회원가입 요청
+     * @param clientIp 요청 IP (시도 횟수 제한용)
      */
-    @Transactional
-    public UserSignupResponse signup(UserSignupRequest request) {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public UserSignupResponse signup(UserSignupRequest request, String clientIp) {
+        // IP별 시도 횟수 확인 (해싱 전에 거절)
+        loginAttemptLimiter.acquire(null, clientIp);
+        
         // 이메일 중복 확인
         if (userRepository.existsByEmail(request.getEmail())) {
             throw new UserAlreadyExistsException("이미 존재하는 이메일입니다: " + request.getEmail());
         }
 
-        // 비밀번호 해싱
-        String passwordHash = passwordEncoder.encode(request.getPassword());
+        // 비밀번호 해싱 (전용 실행기, 포화 시 503)
+        String passwordHash = passwordHashingExecutor.encode(request.getPassword());
 
         // 사용자 생성
         User user = User.builder()
@@ -57,16 +65,30 @@ public class UserService {
 
     /**
      * 로그인
+     * 비밀번호 해싱을 기다리는 동안 DB 커넥션을 점유하지 않도록 트랜잭션 없이 실행
+     * 
+     * @param request 로그인 요청
+     * @param clientIp 요청 IP (시도 횟수 제한용)
      */
-    public UserLoginResponse login(UserLoginRequest request) {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public UserLoginResponse login(UserLoginRequest request, String clientIp) {
+        // 계정/IP별 시도 횟수 확인 (해싱 전에 거절)
+        loginAttemptLimiter.acquire(request.getEmail(), clientIp);
+        
         // 이메일로 사용자 조회
         User user = userRepository.findByEmail(request.getEmail())
-                .orElseThrow(() -> new InvalidCredentialsException("이메일 또는 비밀번호가 올바르지 않습니다."));
+                .orElse(null);
+        if (user == null) {
+            loginAttemptLimiter.recordFailure(request.getEmail());
+            throw new InvalidCredentialsException("이메일 또는 비밀번호가 올바르지 않습니다.");
+        }
 
-        // 비밀번호 확인
-        if (!passwordEncoder.matches(request.getPassword(), user.getPasswordHash())) {
+        // 비밀번호 확인 (전용 실행기, 포화 시 503)
+        if (!passwordHashingExecutor.matches(request.getPassword(), user.getPasswordHash())) {
+            loginAttemptLimiter.recordFailure(request.getEmail());
             throw new InvalidCredentialsException("이메일 또는 비밀번호가 올바르지 않습니다.");
         }
+        loginAttemptLimiter.recordSuccess(request.getEmail());
 
         // JWT 토큰 생성
         String token = jwtUtil.generateToken(user.getUserId());
@@ -81,7 +103,7 @@ public class UserService {
 
     /**
      * 로그아웃
-     * JWT 토큰을 블랙리스트에 추가하여 무효화
+     * JWT 토큰을 폐기 저장소에 기록하여 무효화 (서버 재시작 후에도 유지)
      * 
      * @param request HTTP 요청 (Authorization 헤더에서 토큰 추출)
      * @return 로그아웃 성공 메시지
@@ -90,10 +112,8 @@ public class UserService {
         // Authorization 헤더에서 토큰 추출
         String token = extractTokenFromRequest(request);
         
-        if (token != null && jwtUtil.validateToken(token)) {
-            // 토큰을 블랙리스트에 추가하여 무효화
-            jwtUtil.addToBlacklist(token);
-            
+        if (token != null && jwtUtil.validateToken(token) && jwtUtil.addToBlacklist(token)) {
+            // 토큰이 폐기 저장소에 기록되어 무효화됨
             return UserLogoutResponse.builder()
                     .message("로그아웃되었습니다. 토큰이 무효화되었습니다.")
                     .build();
@@ -0,0 +1,111 @@
+package com.jangyeonguk.backend.config;
+
+import com.jangyeonguk.backend.repository.RevokedTokenRepository;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class JwtUtilTest {
+
+    private static final String SECRET = "test-secret-key-must-be-at-least-256-bits-long-for-hmac";
+    private static final long LIFETIME_MS = 60_000;
+
+    private final RevokedTokenRepository repository = mock(RevokedTokenRepository.class);
+    private final TokenRevocationStore tokenRevocationStore =
+            new TokenRevocationStore(repository, LIFETIME_MS, 1000, 100);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final UUID userId = UUID.randomUUID();
+
+    @Test
+    void verifiesTokenOnceAndThenServesItFromCache() {
+        JwtUtil jwtUtil = jwtUtil(SECRET, LIFETIME_MS);
+        String token = jwtUtil.generateToken(userId);
+
+        assertThat(jwtUtil.authenticate(token)).isEqualTo(userId);
+        assertThat(jwtUtil.authenticate(token)).isEqualTo(userId);
+
+        assertThat(validations("verified")).isEqualTo(1);
+        assertThat(validations("cached")).isEqualTo(1);
+    }
+
+    @Test
+    void cachedTokenRevokedByOtherInstanceIsRejected() {
+        JwtUtil jwtUtil = jwtUtil(SECRET, LIFETIME_MS);
+        String token = jwtUtil.generateToken(userId);
+        assertThat(jwtUtil.authenticate(token)).isEqualTo(userId);
+
+        // 다른 인스턴스의 로그아웃이 동기화된 상황 (이 인스턴스의 검증 캐시는 그대로 남아 있음)
+        Claims claims = claims(token);
+        tokenRevocationStore.revoke(UUID.fromString(claims.getId()), claims.getExpiration().getTime());
+
+        assertThat(jwtUtil.authenticate(token)).isNull();
+        assertThat(validations("rejected")).isEqualTo(1);
+    }
+
+    @Test
+    void logoutRevokesToken() {
+        JwtUtil jwtUtil = jwtUtil(SECRET, LIFETIME_MS);
+        String token = jwtUtil.generateToken(userId);
+        assertThat(jwtUtil.authenticate(token)).isEqualTo(userId);
+
+        assertThat(jwtUtil.addToBlacklist(token)).isTrue();
+
+        assertThat(jwtUtil.authenticate(token)).isNull();
+        assertThat(jwtUtil.validateToken(token)).isFalse();
+        verify(repository).save(any());
+    }
+
+    @Test
+    void rejectsTokenSignedWithOtherKey() {
+        JwtUtil jwtUtil = jwtUtil(SECRET, LIFETIME_MS);
+        String forged = jwtUtil("other-secret-key-must-be-at-least-256-bits-long-for-hmac", LIFETIME_MS)
+                .generateToken(userId);
+
+        assertThat(jwtUtil.authenticate(forged)).isNull();
+        assertThat(jwtUtil.authenticate(null)).isNull();
+        assertThat(validations("rejected")).isEqualTo(1);
+    }
+
+    @Test
+    void cachedTokenExpiresWithToken() throws Exception {
+        JwtUtil jwtUtil = jwtUtil(SECRET, 1000);
+        String token = jwtUtil.generateToken(userId);
+        assertThat(jwtUtil.authenticate(token)).isEqualTo(userId);
+
+        Thread.sleep(1100); // exp는 초 단위로 기록됨
+
+        assertThat(jwtUtil.authenticate(token)).isNull();
+    }
+
+    private JwtUtil jwtUtil(String secret, long expiration) {
+        JwtUtil jwtUtil = new JwtUtil(tokenRevocationStore, meterRegistry);
+        ReflectionTestUtils.setField(jwtUtil, "secret", secret);
+        ReflectionTestUtils.setField(jwtUtil, "expiration", expiration);
+        ReflectionTestUtils.setField(jwtUtil, "verifiedCacheMaxSize", 100L);
+        jwtUtil.init();
+        return jwtUtil;
+    }
+
+    private Claims claims(String token) {
+        return Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+
+    private long validations(String result) {
+        return meterRegistry.get("auth.jwt.validation").tag("result", result).timer().count();
+    }
+}
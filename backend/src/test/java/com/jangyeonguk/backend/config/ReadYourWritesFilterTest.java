@@ -0,0 +1,95 @@
+package com.jangyeonguk.backend.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class ReadYourWritesFilterTest {
+
+    private static final String SHARED_IP = "10.0.0.1";
+
+    private final ReadYourWritesFilter filter = new ReadYourWritesFilter(60_000);
+    private final ReadWriteRoutingDataSource routingDataSource =
+            new ReadWriteRoutingDataSource(mock(DataSource.class), List.of(mock(DataSource.class)));
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void pinsReadsOfUserWhoWrote() throws Exception {
+        String writer = UUID.randomUUID().toString();
+
+        assertThat(readUsesReplica(writer, SHARED_IP)).isTrue();
+        assertThat(writeUsesReplica(writer, SHARED_IP, 200)).isFalse();
+
+        assertThat(readUsesReplica(writer, SHARED_IP)).isFalse();
+        assertThat(readUsesReplica(writer, "10.0.0.2")).isFalse(); // IP가 바뀌어도 같은 사용자
+    }
+
+    @Test
+    void doesNotPinOtherUsersBehindSameIp() throws Exception {
+        writeUsesReplica(UUID.randomUUID().toString(), SHARED_IP, 200);
+
+        assertThat(readUsesReplica(UUID.randomUUID().toString(), SHARED_IP)).isTrue();
+    }
+
+    @Test
+    void pinsAnonymousReadsByIpAfterAnonymousWrite() throws Exception {
+        writeUsesReplica(null, SHARED_IP, 201); // 회원가입 등
+
+        assertThat(readUsesReplica(null, SHARED_IP)).isFalse();
+        assertThat(readUsesReplica(null, "10.0.0.2")).isTrue();
+        assertThat(readUsesReplica(UUID.randomUUID().toString(), SHARED_IP)).isTrue();
+    }
+
+    @Test
+    void failedWriteDoesNotPin() throws Exception {
+        String writer = UUID.randomUUID().toString();
+
+        writeUsesReplica(writer, SHARED_IP, 409);
+
+        assertThat(readUsesReplica(writer, SHARED_IP)).isTrue();
+    }
+
+    private boolean readUsesReplica(String userId, String ip) throws Exception {
+        return usesReplica("GET", userId, ip, 200);
+    }
+
+    private boolean writeUsesReplica(String userId, String ip, int status) throws Exception {
+        return usesReplica("POST", userId, ip, status);
+    }
+
+    /**
+     * 요청을 필터에 통과시키고, 요청 안에서 읽기 전용 트랜잭션이 복제본으로 가는지 반환
+     */
+    private boolean usesReplica(String method, String userId, String ip, int status) throws Exception {
+        SecurityContextHolder.clearContext();
+        if (userId != null) {
+            SecurityContextHolder.getContext().setAuthentication(
+                    new UsernamePasswordAuthenticationToken(userId, null, List.of()));
+        }
+        MockHttpServletRequest request = new MockHttpServletRequest(method, "/api/rooms");
+        request.setRemoteAddr(ip);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicBoolean replica = new AtomicBoolean();
+
+        filter.doFilter(request, response, (req, res) -> {
+            replica.set(routingDataSource.routesToReplica(true));
+            ((MockHttpServletResponse) res).setStatus(status);
+        });
+        return replica.get();
+    }
+}
@@ -0,0 +1,142 @@
+package com.jangyeonguk.backend.config;
+
+import com.jangyeonguk.backend.entity.RevokedToken;
+import com.jangyeonguk.backend.repository.RevokedTokenRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TokenRevocationStoreTest {
+
+    private static final long LIFETIME_MS = 1000;
+    private static final long BUCKET_MS = 100;
+    private static final long RING_MS = (LIFETIME_MS / BUCKET_MS + 2) * BUCKET_MS; // 링 한 바퀴
+
+    private final RevokedTokenRepository repository = mock(RevokedTokenRepository.class);
+
+    @Test
+    void findsRevokedTokenInItsExpiryBucket() {
+        TokenRevocationStore store = store(100);
+        UUID revoked = UUID.randomUUID();
+        long expiresAt = System.currentTimeMillis() + 500;
+
+        assertThat(store.revoke(revoked, expiresAt)).isTrue();
+
+        assertThat(store.isRevoked(revoked, expiresAt)).isTrue();
+        assertThat(store.isRevoked(UUID.randomUUID(), expiresAt)).isFalse();
+        verify(repository).save(any());
+        verify(repository, never()).existsById(any());
+    }
+
+    @Test
+    void ignoresTokensThatAlreadyExpired() {
+        TokenRevocationStore store = store(100);
+
+        assertThat(store.revoke(UUID.randomUUID(), System.currentTimeMillis() - 1)).isFalse();
+        verify(repository, never()).save(any());
+    }
+
+    @Test
+    void sweepDropsExpiredBuckets() throws Exception {
+        TokenRevocationStore store = store(100);
+        UUID revoked = UUID.randomUUID();
+        long expiresAt = System.currentTimeMillis() + 50;
+        store.revoke(revoked, expiresAt);
+
+        Thread.sleep(2 * BUCKET_MS + 50);
+        store.sweepExpired();
+
+        assertThat(store.isRevoked(revoked, expiresAt)).isFalse();
+        verify(repository).deleteExpired(any());
+    }
+
+    @Test
+    void expiredSlotIsReusedForLaterBucket() throws Exception {
+        TokenRevocationStore store = store(100);
+        UUID first = UUID.randomUUID();
+        long firstExpiresAt = System.currentTimeMillis() + 50;
+        store.revoke(first, firstExpiresAt);
+        Thread.sleep(2 * BUCKET_MS + 50);
+
+        // 같은 슬롯에 들어가는 한 바퀴 뒤의 버킷 (앞의 버킷은 만료되었으므로 교체)
+        UUID second = UUID.randomUUID();
+        long secondExpiresAt = firstExpiresAt + RING_MS;
+        store.revoke(second, secondExpiresAt);
+
+        assertThat(store.isRevoked(second, secondExpiresAt)).isTrue();
+        assertThat(store.isRevoked(first, firstExpiresAt)).isFalse();
+        assertThat(store.isRevoked(first, secondExpiresAt)).isFalse();
+    }
+
+    @Test
+    void expiryBeyondRingGoesToOverflow() {
+        TokenRevocationStore store = store(100);
+        UUID current = UUID.randomUUID();
+        long currentExpiresAt = System.currentTimeMillis() + 2 * BUCKET_MS;
+        store.revoke(current, currentExpiresAt);
+
+        // 같은 슬롯의 아직 유효한 버킷은 교체하지 않음 (토큰 수명보다 긴 만료 시간)
+        UUID later = UUID.randomUUID();
+        long laterExpiresAt = currentExpiresAt + RING_MS;
+        store.revoke(later, laterExpiresAt);
+
+        assertThat(store.isRevoked(current, currentExpiresAt)).isTrue();
+        assertThat(store.isRevoked(later, laterExpiresAt)).isTrue();
+    }
+
+    @Test
+    void fullStoreKeepsRevocationInDatabaseAndChecksItThere() {
+        TokenRevocationStore store = store(1);
+        long expiresAt = System.currentTimeMillis() + 500;
+        UUID inMemory = UUID.randomUUID();
+        UUID spilled = UUID.randomUUID();
+        UUID unknown = UUID.randomUUID();
+        when(repository.existsById(spilled)).thenReturn(true);
+        when(repository.existsById(unknown)).thenReturn(false);
+
+        assertThat(store.revoke(inMemory, expiresAt)).isTrue();
+        assertThat(store.isRevoked(unknown, expiresAt)).isFalse();
+        verify(repository, never()).existsById(any());
+
+        assertThat(store.revoke(spilled, expiresAt)).isTrue();
+
+        assertThat(store.isRevoked(inMemory, expiresAt)).isTrue();
+        assertThat(store.isRevoked(spilled, expiresAt)).isTrue();
+        assertThat(store.isRevoked(unknown, expiresAt)).isFalse();
+    }
+
+    @Test
+    void picksUpRevocationsFromOtherInstances() {
+        TokenRevocationStore store = store(100);
+        when(repository.findByExpiresAtAfter(any())).thenReturn(List.of());
+        store.load();
+
+        UUID revokedElsewhere = UUID.randomUUID();
+        long expiresAt = System.currentTimeMillis() + 500;
+        when(repository.findByRevokedAtAfterAndExpiresAtAfter(any(), any())).thenReturn(List.of(RevokedToken.builder()
+                .tokenKey(revokedElsewhere)
+                .expiresAt(OffsetDateTime.ofInstant(Instant.ofEpochMilli(expiresAt), ZoneOffset.UTC))
+                .revokedAt(OffsetDateTime.now())
+                .build()));
+        assertThat(store.isRevoked(revokedElsewhere, expiresAt)).isFalse();
+
+        store.syncFromDatabase();
+
+        assertThat(store.isRevoked(revokedElsewhere, expiresAt)).isTrue();
+    }
+
+    private TokenRevocationStore store(int maxEntries) {
+        return new TokenRevocationStore(repository, LIFETIME_MS, BUCKET_MS, maxEntries);
+    }
+}
@@ -0,0 +1,109 @@
+package com.jangyeonguk.backend.controller;
+
+import com.jangyeonguk.backend.config.JwtUtil;
+import com.jangyeonguk.backend.entity.Room;
+import com.jangyeonguk.backend.entity.RoomParticipant;
+import com.jangyeonguk.backend.entity.RoomParticipantId;
+import com.jangyeonguk.backend.entity.User;
+import com.jangyeonguk.backend.repository.RoomParticipantRepository;
+import com.jangyeonguk.backend.repository.RoomRepository;
+import com.jangyeonguk.backend.repository.UserRepository;
+import com.jangyeonguk.backend.support.SqlStatementBudget;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * GET /api/rooms의 SQL 실행 횟수가 방 수와 관계없이 일정한지 검증 (방/방장 N+1 회귀 방지)
+ * (application.properties의 PostgreSQL 사용)
+ */
+@SpringBootTest(properties = "db.statements.response-header.enabled=true")
+@AutoConfigureMockMvc
+class RoomControllerSqlBudgetTest {
+
+    private static final int ROOMS = 5;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private RoomParticipantRepository roomParticipantRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final List<User> users = new ArrayList<>();
+    private final List<Room> rooms = new ArrayList<>();
+    private final List<RoomParticipant> participants = new ArrayList<>();
+    private User member;
+
+    @BeforeEach
+    void setUp() {
+        member = saveUser("member");
+        // 방마다 방장이 다르므로 방장 이름을 방마다 따로 조회하면 SQL 수가 방 수만큼 늘어남
+        for (int i = 0; i < ROOMS; i++) {
+            User owner = saveUser("owner" + i);
+            Room room = roomRepository.save(Room.builder()
+                    .owner(owner)
+                    .title("budget " + i)
+                    .build());
+            rooms.add(room);
+            participants.add(roomParticipantRepository.save(RoomParticipant.builder()
+                    .id(new RoomParticipantId(member.getUserId(), room.getRoomId()))
+                    .user(member)
+                    .room(room)
+                    .build()));
+        }
+        // 2차 캐시가 방/사용자 조회를 가리지 않도록 비운 상태에서 측정
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        roomParticipantRepository.deleteAll(participants);
+        roomRepository.deleteAll(rooms);
+        userRepository.deleteAll(users);
+    }
+
+    @Test
+    void listingRoomsRunsConstantNumberOfStatements() throws Exception {
+        // 참여 방 + 방 + 방장 조회 1번, 참여자 수 조회 1번 (방 수만큼 늘어나면 N+1)
+        mockMvc.perform(get("/api/rooms")
+                        .header("Authorization", "Bearer " + jwtUtil.generateToken(member.getUserId())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(ROOMS))
+                .andExpect(SqlStatementBudget.atMost(2));
+    }
+
+    private User saveUser(String name) {
+        User user = userRepository.save(User.builder()
+                .email(name + "-" + UUID.randomUUID() + "@example.com")
+                .passwordHash("hash")
+                .displayName(name)
+                .build());
+        users.add(user);
+        return user;
+    }
+}
@@ -0,0 +1,193 @@
+package com.jangyeonguk.backend.service;
+
+import com.jangyeonguk.backend.exception.AIServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AIResultCacheTest {
+
+    private static final byte[] IMAGE = "image".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] RESULT = "result".getBytes(StandardCharsets.UTF_8);
+
+    @TempDir
+    Path directory;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor();
+    private final AtomicInteger generations = new AtomicInteger();
+
+    @AfterEach
+    void tearDown() {
+        callers.shutdownNow();
+    }
+
+    @Test
+    void normalizesPromptInKey() throws Exception {
+        AIResultCache cache = cache(1024, 10_000);
+
+        assertThat(cache.key(IMAGE, "  a  cat\n")).isEqualTo(cache.key(IMAGE, "a cat"));
+        assertThat(cache.key(IMAGE, "a cat")).isNotEqualTo(cache.key(IMAGE, "a dog"));
+    }
+
+    @Test
+    void servesStoredResultWithoutGenerating() throws Exception {
+        AIResultCache cache = cache(1024, 10_000);
+        String key = cache.key(IMAGE, "prompt");
+
+        assertThat(cache.getOrGenerate(key, this::generate)).isEqualTo(RESULT);
+        assertThat(cache.getOrGenerate(key, this::generate)).isEqualTo(RESULT);
+
+        assertThat(generations.get()).isEqualTo(1);
+        assertThat(requests("hit")).isEqualTo(1.0);
+        assertThat(requests("miss")).isEqualTo(1.0);
+    }
+
+    @Test
+    void concurrentRequestsForSameKeyShareOneGeneration() throws Exception {
+        AIResultCache cache = cache(1024, 10_000);
+        String key = cache.key(IMAGE, "prompt");
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<byte[]> first = callers.submit(() -> cache.getOrGenerate(key, () -> {
+            started.countDown();
+            await(release);
+            return generate();
+        }));
+        started.await();
+
+        List<Future<byte[]>> waiters = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            waiters.add(callers.submit(() -> cache.getOrGenerate(key, this::generate)));
+        }
+        awaitShared(10);
+        release.countDown();
+
+        assertThat(first.get(10, TimeUnit.SECONDS)).isEqualTo(RESULT);
+        for (Future<byte[]> waiter : waiters) {
+            assertThat(waiter.get(10, TimeUnit.SECONDS)).isEqualTo(RESULT);
+        }
+        assertThat(generations.get()).isEqualTo(1);
+    }
+
+    @Test
+    void failureIsSharedButNotCached() throws Exception {
+        AIResultCache cache = cache(1024, 10_000);
+        String key = cache.key(IMAGE, "prompt");
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<byte[]> first = callers.submit(() -> cache.getOrGenerate(key, () -> {
+            started.countDown();
+            await(release);
+            throw new AIServiceUnavailableException("실패");
+        }));
+        started.await();
+        Future<byte[]> waiter = callers.submit(() -> cache.getOrGenerate(key, this::generate));
+        awaitShared(1);
+        release.countDown();
+
+        assertThatThrownBy(() -> first.get(10, TimeUnit.SECONDS)).hasCauseInstanceOf(AIServiceUnavailableException.class);
+        assertThatThrownBy(() -> waiter.get(10, TimeUnit.SECONDS)).hasCauseInstanceOf(AIServiceUnavailableException.class);
+
+        assertThat(cache.getOrGenerate(key, this::generate)).isEqualTo(RESULT); // 실패 후에는 다시 생성
+        assertThat(generations.get()).isEqualTo(1);
+    }
+
+    @Test
+    void waiterGivesUpAfterWaitTimeout() throws Exception {
+        AIResultCache cache = cache(1024, 100);
+        String key = cache.key(IMAGE, "prompt");
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<byte[]> first = callers.submit(() -> cache.getOrGenerate(key, () -> {
+            started.countDown();
+            await(release);
+            return generate();
+        }));
+        started.await();
+
+        assertThatThrownBy(() -> cache.getOrGenerate(key, this::generate))
+                .isInstanceOf(AIServiceUnavailableException.class);
+
+        release.countDown();
+        assertThat(first.get(10, TimeUnit.SECONDS)).isEqualTo(RESULT);
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedWhenOverLimit() throws Exception {
+        AIResultCache cache = cache(2L * RESULT.length, 10_000);
+        String first = cache.key(IMAGE, "first");
+        String second = cache.key(IMAGE, "second");
+        String third = cache.key(IMAGE, "third");
+        cache.getOrGenerate(first, this::generate);
+        cache.getOrGenerate(second, this::generate);
+        cache.getOrGenerate(first, this::generate); // first를 최근 사용으로 갱신
+
+        cache.getOrGenerate(third, this::generate); // 가장 오래 사용하지 않은 second 삭제
+
+        assertThat(generations.get()).isEqualTo(3);
+        cache.getOrGenerate(first, this::generate);
+        assertThat(generations.get()).isEqualTo(3);
+        cache.getOrGenerate(second, this::generate);
+        assertThat(generations.get()).isEqualTo(4);
+    }
+
+    @Test
+    void reloadsStoredResultsAfterRestart() throws Exception {
+        AIResultCache cache = cache(1024, 10_000);
+        String key = cache.key(IMAGE, "prompt");
+        cache.getOrGenerate(key, this::generate);
+
+        AIResultCache restarted = cache(1024, 10_000);
+
+        assertThat(restarted.getOrGenerate(key, this::generate)).isEqualTo(RESULT);
+        assertThat(generations.get()).isEqualTo(1);
+    }
+
+    private AIResultCache cache(long maxBytes, long waitTimeoutMs) throws Exception {
+        AIResultCache cache = new AIResultCache(meterRegistry, directory.toString(), maxBytes, waitTimeoutMs);
+        cache.load();
+        return cache;
+    }
+
+    private byte[] generate() {
+        generations.incrementAndGet();
+        return RESULT.clone();
+    }
+
+    private double requests(String result) {
+        return meterRegistry.get("ai.result-cache.requests").tag("result", result).counter().count();
+    }
+
+    private void awaitShared(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (requests("shared") < expected) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(1);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.jangyeonguk.backend.service;
+
+import com.jangyeonguk.backend.dto.CanvasChangeResponse;
+import com.jangyeonguk.backend.dto.CanvasObjectEventResponse;
+import com.jangyeonguk.backend.dto.CanvasObjectResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.context.request.async.DeferredResultProcessingInterceptor;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class CanvasChangeNotifierTest {
+
+    private static final long TIMEOUT_MS = 10_000;
+
+    private final CanvasChangeNotifier notifier = new CanvasChangeNotifier(mock(CanvasEventBroadcaster.class));
+    private final UUID roomId = UUID.randomUUID();
+
+    @Test
+    void changeWakesWaiterOfSameRoom() {
+        long version = notifier.currentVersion(roomId);
+        DeferredResult<CanvasChangeResponse> waiter = notifier.awaitChange(roomId, version, TIMEOUT_MS);
+        assertThat(waiter.hasResult()).isFalse();
+
+        notifyChanged(roomId);
+
+        CanvasChangeResponse response = (CanvasChangeResponse) waiter.getResult();
+        assertThat(response.getChanged()).isTrue();
+        assertThat(response.getVersion()).isGreaterThan(version);
+    }
+
+    @Test
+    void changeOfOtherRoomDoesNotWakeWaiter() {
+        DeferredResult<CanvasChangeResponse> waiter =
+                notifier.awaitChange(roomId, notifier.currentVersion(roomId), TIMEOUT_MS);
+
+        notifyChanged(UUID.randomUUID());
+
+        assertThat(waiter.hasResult()).isFalse();
+    }
+
+    @Test
+    void respondsImmediatelyWhenClientVersionIsStale() {
+        long version = notifier.currentVersion(roomId);
+        notifyChanged(roomId);
+
+        DeferredResult<CanvasChangeResponse> waiter = notifier.awaitChange(roomId, version, TIMEOUT_MS);
+
+        CanvasChangeResponse response = (CanvasChangeResponse) waiter.getResult();
+        assertThat(response.getChanged()).isTrue();
+        assertThat(response.getVersion()).isEqualTo(notifier.currentVersion(roomId));
+    }
+
+    @Test
+    void timeoutRespondsUnchanged() throws Exception {
+        long version = notifier.currentVersion(roomId);
+        DeferredResult<CanvasChangeResponse> waiter = notifier.awaitChange(roomId, version, TIMEOUT_MS);
+
+        // 서블릿 컨테이너가 타임아웃 시 호출하는 경로를 그대로 실행
+        DeferredResultProcessingInterceptor interceptor =
+                ReflectionTestUtils.invokeMethod(waiter, "getLifecycleInterceptor");
+        interceptor.handleTimeout(new ServletWebRequest(new MockHttpServletRequest()), waiter);
+
+        CanvasChangeResponse response = (CanvasChangeResponse) waiter.getResult();
+        assertThat(response.getChanged()).isFalse();
+        assertThat(response.getVersion()).isEqualTo(version);
+    }
+
+    @Test
+    void removesIdleChannelsWithoutMovingVersionBackwards() throws Exception {
+        ReflectionTestUtils.setField(notifier, "idleChannelTtlMs", 0L);
+        notifyChanged(roomId);
+        long version = notifier.currentVersion(roomId);
+        Thread.sleep(5);
+
+        notifier.removeIdleChannels();
+
+        assertThat(notifier.channelCount()).isZero();
+        assertThat(notifier.currentVersion(roomId)).isGreaterThanOrEqualTo(version);
+    }
+
+    @Test
+    void keepsChannelWithWaiters() throws Exception {
+        ReflectionTestUtils.setField(notifier, "idleChannelTtlMs", 0L);
+        DeferredResult<CanvasChangeResponse> waiter =
+                notifier.awaitChange(roomId, notifier.currentVersion(roomId), TIMEOUT_MS);
+        Thread.sleep(5);
+
+        notifier.removeIdleChannels();
+
+        assertThat(notifier.channelCount()).isEqualTo(1);
+        notifyChanged(roomId); // 정리 후에도 같은 방에 등록된 대기 요청이 깨어나야 함
+        assertThat(waiter.hasResult()).isTrue();
+    }
+
+    private void notifyChanged(UUID roomId) {
+        notifier.notifyRoomChanged(roomId, CanvasObjectEventResponse.EventType.UPSERT,
+                CanvasObjectResponse.builder().objectId(UUID.randomUUID()).roomId(roomId).build());
+    }
+}
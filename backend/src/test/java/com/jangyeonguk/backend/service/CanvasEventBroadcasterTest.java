@@ -0,0 +1,186 @@
+package com.jangyeonguk.backend.service;
+
+import com.jangyeonguk.backend.dto.CanvasObjectEventResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CanvasEventBroadcasterTest {
+
+    private static final int QUEUE_CAPACITY = 3;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CanvasEventBroadcaster broadcaster = new CanvasEventBroadcaster(meterRegistry, QUEUE_CAPACITY);
+    private final UUID roomId = UUID.randomUUID();
+    private final List<Client> clients = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        clients.forEach(Client::release);
+        broadcaster.shutdown();
+    }
+
+    @Test
+    void sendsResyncFirstAndThenEvents() throws Exception {
+        Client client = subscribe();
+        UUID objectId = UUID.randomUUID();
+
+        broadcaster.broadcast(event(objectId, 1));
+
+        CanvasObjectEventResponse received = client.next();
+        assertThat(received.getType()).isEqualTo(CanvasObjectEventResponse.EventType.UPSERT);
+        assertThat(received.getObjectId()).isEqualTo(objectId);
+    }
+
+    @Test
+    void slowClientDoesNotDelayOtherSubscribers() throws Exception {
+        Client slow = subscribe();
+        Client fast = subscribe();
+        slow.pause();
+        broadcaster.broadcast(event(UUID.randomUUID(), 1));
+        slow.awaitBlocked();
+
+        UUID objectId = UUID.randomUUID();
+        broadcaster.broadcast(event(objectId, 2));
+
+        fast.next(); // 첫 번째 이벤트
+        assertThat(fast.next().getObjectId()).isEqualTo(objectId);
+    }
+
+    @Test
+    void coalescesPendingEventsOfSameObjectWhenQueueIsFull() throws Exception {
+        Client client = subscribe();
+        UUID sending = UUID.randomUUID();
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID third = UUID.randomUUID();
+        client.pause();
+        broadcaster.broadcast(event(sending, 1));
+        client.awaitBlocked(); // 전송 중인 이벤트는 큐에서 빠진 상태
+
+        broadcaster.broadcast(event(first, 2));
+        broadcaster.broadcast(event(second, 3));
+        broadcaster.broadcast(event(third, 4));
+        broadcaster.broadcast(event(second, 5)); // 큐가 가득 참 -> 대기 중인 second와 합쳐짐
+        client.release();
+
+        assertThat(client.next().getObjectId()).isEqualTo(sending);
+        assertThat(client.next().getObjectId()).isEqualTo(first);
+        assertThat(client.next().getObjectId()).isEqualTo(third);
+        CanvasObjectEventResponse latest = client.next();
+        assertThat(latest.getObjectId()).isEqualTo(second);
+        assertThat(latest.getVersion()).isEqualTo(5L);
+        assertThat(meterRegistry.counter("canvas.stream.events.coalesced").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.counter("canvas.stream.resyncs").count()).isZero();
+    }
+
+    @Test
+    void downgradesToResyncWhenQueueOverflows() throws Exception {
+        Client client = subscribe();
+        client.pause();
+        broadcaster.broadcast(event(UUID.randomUUID(), 1));
+        client.awaitBlocked();
+
+        for (int i = 0; i < QUEUE_CAPACITY; i++) {
+            broadcaster.broadcast(event(UUID.randomUUID(), 2 + i));
+        }
+        broadcaster.broadcast(event(UUID.randomUUID(), 10)); // 합칠 수 없음 -> RESYNC로 강등
+        broadcaster.broadcast(event(UUID.randomUUID(), 11)); // RESYNC 전송 전이므로 버려짐
+        client.release();
+
+        assertThat(client.next().getVersion()).isEqualTo(1L);
+        CanvasObjectEventResponse resync = client.next();
+        assertThat(resync.getType()).isEqualTo(CanvasObjectEventResponse.EventType.RESYNC);
+        assertThat(resync.getVersion()).isEqualTo(10L);
+        assertThat(client.received.poll(200, TimeUnit.MILLISECONDS)).isNull();
+        assertThat(meterRegistry.counter("canvas.stream.resyncs").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.counter("canvas.stream.events.dropped").count()).isEqualTo(QUEUE_CAPACITY + 2.0);
+    }
+
+    /**
+     * 구독 후 응답 스트림을 테스트용 클라이언트에 연결하고, 구독 직후의 RESYNC 이벤트를 받아 둠
+     */
+    private Client subscribe() throws Exception {
+        SseEmitter emitter = broadcaster.subscribe(roomId, 60_000, 0);
+        Client client = new Client();
+        clients.add(client);
+
+        // 서블릿 응답 대신 전송된 이벤트를 기록하는 Handler 연결 (ResponseBodyEmitter.Handler는 package-private)
+        Class<?> handlerType = Class.forName(ResponseBodyEmitter.class.getName() + "$Handler");
+        Object handler = Proxy.newProxyInstance(handlerType.getClassLoader(), new Class<?>[]{handlerType}, client);
+        ReflectionTestUtils.invokeMethod(emitter, "initialize", handler);
+
+        assertThat(client.next().getType()).isEqualTo(CanvasObjectEventResponse.EventType.RESYNC);
+        return client;
+    }
+
+    private CanvasObjectEventResponse event(UUID objectId, long version) {
+        return CanvasObjectEventResponse.builder()
+                .type(CanvasObjectEventResponse.EventType.UPSERT)
+                .roomId(roomId)
+                .objectId(objectId)
+                .version(version)
+                .build();
+    }
+
+    /**
+     * 전송된 이벤트를 기록하며, pause() 이후에는 release()까지 전송을 붙잡아 느린 클라이언트를 흉내냄
+     */
+    private static final class Client implements InvocationHandler {
+        private final BlockingQueue<CanvasObjectEventResponse> received = new LinkedBlockingQueue<>();
+        private final CountDownLatch blocked = new CountDownLatch(1);
+        private final CountDownLatch released = new CountDownLatch(1);
+        private volatile boolean paused;
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (method.getName().equals("send") && args[0] instanceof Set<?> items) {
+                for (Object item : items) {
+                    if (((ResponseBodyEmitter.DataWithMediaType) item).getData() instanceof CanvasObjectEventResponse event) {
+                        received.add(event);
+                    }
+                }
+                if (paused) {
+                    blocked.countDown();
+                    released.await();
+                }
+            }
+            return null;
+        }
+
+        private void pause() {
+            paused = true;
+        }
+
+        private void awaitBlocked() throws InterruptedException {
+            assertThat(blocked.await(5, TimeUnit.SECONDS)).isTrue();
+        }
+
+        private void release() {
+            released.countDown();
+        }
+
+        private CanvasObjectEventResponse next() throws InterruptedException {
+            CanvasObjectEventResponse event = received.poll(5, TimeUnit.SECONDS);
+            assertThat(event).isNotNull();
+            return event;
+        }
+    }
+}
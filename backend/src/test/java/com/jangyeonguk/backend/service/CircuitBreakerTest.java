@@ -0,0 +1,101 @@
+package com.jangyeonguk.backend.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CircuitBreakerTest {
+
+    private static final long OPEN_DURATION_MS = 100;
+
+    private final CircuitBreaker circuitBreaker = new CircuitBreaker(3, OPEN_DURATION_MS);
+
+    @Test
+    void opensAfterConsecutiveFailures() {
+        circuitBreaker.recordFailure();
+        circuitBreaker.recordFailure();
+        assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(circuitBreaker.tryAcquire()).isTrue();
+
+        circuitBreaker.recordFailure();
+
+        assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.tryAcquire()).isFalse();
+    }
+
+    @Test
+    void successResetsFailureCount() {
+        circuitBreaker.recordFailure();
+        circuitBreaker.recordFailure();
+        circuitBreaker.recordSuccess();
+        circuitBreaker.recordFailure();
+        circuitBreaker.recordFailure();
+
+        assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void allowsOneTrialCallAfterOpenDuration() throws Exception {
+        open();
+        Thread.sleep(OPEN_DURATION_MS + 20);
+
+        assertThat(circuitBreaker.tryAcquire()).isTrue();
+        assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        assertThat(circuitBreaker.tryAcquire()).isFalse(); // 시험 호출 결과를 기다리는 중
+    }
+
+    @Test
+    void successfulTrialCallCloses() throws Exception {
+        open();
+        Thread.sleep(OPEN_DURATION_MS + 20);
+        assertThat(circuitBreaker.tryAcquire()).isTrue();
+
+        circuitBreaker.recordSuccess();
+
+        assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(circuitBreaker.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void failedTrialCallOpensAgainForFullDuration() throws Exception {
+        open();
+        Thread.sleep(OPEN_DURATION_MS + 20);
+        assertThat(circuitBreaker.tryAcquire()).isTrue();
+
+        circuitBreaker.recordFailure(); // 한 번의 실패로 바로 다시 열림
+
+        assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.tryAcquire()).isFalse();
+    }
+
+    @Test
+    void ignoredTrialCallLetsNextCallTryAgain() throws Exception {
+        open();
+        Thread.sleep(OPEN_DURATION_MS + 20);
+        assertThat(circuitBreaker.tryAcquire()).isTrue();
+
+        circuitBreaker.recordIgnored();
+
+        assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.tryAcquire()).isTrue();
+        assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+    }
+
+    @Test
+    void ignoredResultWhileClosedKeepsFailureCount() {
+        circuitBreaker.recordFailure();
+        circuitBreaker.recordFailure();
+        circuitBreaker.recordIgnored();
+
+        assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+        circuitBreaker.recordFailure();
+        assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    private void open() {
+        for (int i = 0; i < 3; i++) {
+            circuitBreaker.recordFailure();
+        }
+        assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+}
@@ -0,0 +1,124 @@
+package com.jangyeonguk.backend.service;
+
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ImageDimensionsTest {
+
+    @Test
+    void readsPngHeader() throws Exception {
+        byte[] png = encode(new BufferedImage(320, 200, BufferedImage.TYPE_INT_ARGB), "png");
+
+        assertThat(ImageDimensions.probe(png)).isEqualTo(new ImageDimensions.Info(ImageDimensions.PNG, 320, 200));
+    }
+
+    @Test
+    void readsJpegEncodedByImageIO() throws Exception {
+        byte[] jpeg = encode(new BufferedImage(640, 480, BufferedImage.TYPE_INT_RGB), "jpg");
+
+        assertThat(ImageDimensions.probe(jpeg)).isEqualTo(new ImageDimensions.Info(ImageDimensions.JPEG, 640, 480));
+    }
+
+    @Test
+    void skipsFillBytesBeforeMarkers() {
+        byte[] jpeg = jpeg(
+                app0(),
+                bytes(0xFF, 0xFF, 0xFF), // 채움 바이트
+                sof(0xC0, 100, 50));
+
+        assertThat(ImageDimensions.probe(jpeg)).isEqualTo(new ImageDimensions.Info(ImageDimensions.JPEG, 100, 50));
+    }
+
+    @Test
+    void skipsRestartMarkersWithoutLength() {
+        byte[] jpeg = jpeg(
+                app0(),
+                bytes(0xFF, 0xD0, 0xFF, 0xD7, 0xFF, 0x01),
+                sof(0xC2, 8, 16));
+
+        assertThat(ImageDimensions.probe(jpeg)).isEqualTo(new ImageDimensions.Info(ImageDimensions.JPEG, 8, 16));
+    }
+
+    @Test
+    void doesNotMistakeHuffmanTableForFrameHeader() {
+        // DHT(C4)는 SOF 범위 안의 마커지만 프레임 헤더가 아님 (본문의 값을 크기로 읽으면 안 됨)
+        byte[] jpeg = jpeg(
+                bytes(0xFF, 0xC4, 0x00, 0x08, 0x00, 0x7F, 0x7F, 0x7F, 0x7F, 0x00),
+                bytes(0xFF, 0xCC, 0x00, 0x04, 0x01, 0x01), // DAC
+                sof(0xC0, 1920, 1080));
+
+        assertThat(ImageDimensions.probe(jpeg)).isEqualTo(new ImageDimensions.Info(ImageDimensions.JPEG, 1920, 1080));
+    }
+
+    @Test
+    void returnsNullForTruncatedImages() throws Exception {
+        byte[] png = encode(new BufferedImage(10, 10, BufferedImage.TYPE_INT_ARGB), "png");
+        byte[] jpeg = jpeg(app0(), sof(0xC0, 100, 50));
+        int sofOffset = app0().length + 2;
+
+        assertThat(ImageDimensions.probe(Arrays.copyOf(png, 20))).isNull();
+        assertThat(ImageDimensions.probe(Arrays.copyOf(jpeg, sofOffset + 6))).isNull(); // SOF의 크기 필드 중간에서 끊김
+        assertThat(ImageDimensions.probe(Arrays.copyOf(jpeg, sofOffset))).isNull();
+        assertThat(ImageDimensions.probe(Arrays.copyOf(jpeg, 3))).isNull();
+    }
+
+    @Test
+    void returnsNullForUnsupportedOrCorruptImages() {
+        assertThat(ImageDimensions.probe(null)).isNull();
+        assertThat(ImageDimensions.probe(new byte[0])).isNull();
+        assertThat(ImageDimensions.probe("GIF89a".getBytes())).isNull();
+        assertThat(ImageDimensions.probe(jpeg(bytes(0xFF, 0xDA, 0x00, 0x02), sof(0xC0, 1, 1)))).isNull(); // SOF 전에 SOS
+        assertThat(ImageDimensions.probe(jpeg(bytes(0x00, 0x00), sof(0xC0, 1, 1)))).isNull(); // 세그먼트 경계가 어긋남
+        assertThat(ImageDimensions.probe(jpeg(sof(0xC0, 0, 10)))).isNull();
+    }
+
+    @Test
+    void countsPixelsWithoutOverflow() {
+        assertThat(new ImageDimensions.Info(ImageDimensions.PNG, 65535, 65535).pixels()).isEqualTo(65535L * 65535L);
+    }
+
+    private static byte[] encode(BufferedImage image, String format) throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(image, format, output);
+        return output.toByteArray();
+    }
+
+    /**
+     * SOI(FFD8) 다음에 세그먼트를 이어 붙인 JPEG
+     */
+    private static byte[] jpeg(byte[]... segments) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        output.writeBytes(bytes(0xFF, 0xD8));
+        for (byte[] segment : segments) {
+            output.writeBytes(segment);
+        }
+        return output.toByteArray();
+    }
+
+    private static byte[] app0() {
+        return bytes(0xFF, 0xE0, 0x00, 0x10, 'J', 'F', 'I', 'F', 0x00, 0x01, 0x01, 0x00, 0x00, 0x01, 0x00, 0x01, 0x00, 0x00);
+    }
+
+    /**
+     * 프레임 헤더 (길이, 정밀도, height, width, 성분 1개)
+     */
+    private static byte[] sof(int marker, int width, int height) {
+        return bytes(0xFF, marker, 0x00, 0x0B, 0x08,
+                height >> 8, height & 0xFF, width >> 8, width & 0xFF,
+                0x01, 0x01, 0x11, 0x00);
+    }
+
+    private static byte[] bytes(int... values) {
+        byte[] bytes = new byte[values.length];
+        for (int i = 0; i < values.length; i++) {
+            bytes[i] = (byte) values[i];
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,58 @@
+package com.jangyeonguk.backend.service;
+
+import com.jangyeonguk.backend.entity.Room;
+import com.jangyeonguk.backend.entity.User;
+import com.jangyeonguk.backend.repository.RoomParticipantRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 초대 수락의 참가자 추가(INSERT ... ON CONFLICT DO NOTHING)가 중복 수락에도 오류 없이 한 행만 남기는지 검증
+ * (application.properties의 PostgreSQL 사용)
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class InvitationAcceptSqlTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private RoomParticipantRepository roomParticipantRepository;
+
+    @Test
+    void insertIfAbsentAddsParticipantOnce() {
+        User owner = persistUser();
+        User invitee = persistUser();
+        Room room = entityManager.persistAndFlush(Room.builder()
+                .owner(owner)
+                .title("invitation")
+                .build());
+        UUID userId = invitee.getUserId();
+        UUID roomId = room.getRoomId();
+        assertThat(roomParticipantRepository.existsById_UserIdAndId_RoomId(userId, roomId)).isFalse();
+
+        assertThat(roomParticipantRepository.insertIfAbsent(userId, roomId)).isEqualTo(1);
+        assertThat(roomParticipantRepository.insertIfAbsent(userId, roomId)).isZero();
+
+        assertThat(roomParticipantRepository.existsById_UserIdAndId_RoomId(userId, roomId)).isTrue();
+        assertThat(roomParticipantRepository.findAll())
+                .filteredOn(participant -> participant.getId().getRoomId().equals(roomId))
+                .hasSize(1);
+    }
+
+    private User persistUser() {
+        return entityManager.persist(User.builder()
+                .email(UUID.randomUUID() + "@example.com")
+                .passwordHash("hash")
+                .displayName("tester")
+                .build());
+    }
+}
@@ -0,0 +1,102 @@
+package com.jangyeonguk.backend.service;
+
+import com.jangyeonguk.backend.dto.InvitationAcceptResponse;
+import com.jangyeonguk.backend.exception.InvitationExpiredException;
+import com.jangyeonguk.backend.exception.InvitationNotFoundException;
+import com.jangyeonguk.backend.repository.InvitationRepository;
+import com.jangyeonguk.backend.repository.RoomParticipantRepository;
+import com.jangyeonguk.backend.repository.RoomRepository;
+import com.jangyeonguk.backend.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class InvitationServiceTest {
+
+    private static final String TOKEN = "token";
+
+    private final RoomParticipantRepository roomParticipantRepository = mock(RoomParticipantRepository.class);
+    private final RoomMembershipCache roomMembershipCache = mock(RoomMembershipCache.class);
+    private final InvitationTokenCache invitationTokenCache = mock(InvitationTokenCache.class);
+    private final InvitationService invitationService = new InvitationService(
+            mock(InvitationRepository.class),
+            mock(RoomRepository.class),
+            mock(UserRepository.class),
+            roomParticipantRepository,
+            roomMembershipCache,
+            invitationTokenCache);
+    private final UUID userId = UUID.randomUUID();
+    private final UUID roomId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(userId.toString(), null, List.of()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void acceptAddsParticipantWithSingleInsert() {
+        when(invitationTokenCache.get(TOKEN)).thenReturn(validTarget());
+        when(roomParticipantRepository.insertIfAbsent(userId, roomId)).thenReturn(1);
+
+        InvitationAcceptResponse response = invitationService.acceptInvitation(TOKEN);
+
+        assertThat(response.getRoomId()).isEqualTo(roomId);
+        assertThat(response.getMessage()).isEqualTo("초대를 수락했습니다. 방에 참가했습니다.");
+        verify(roomMembershipCache).memberAdded(userId, roomId);
+        verify(roomParticipantRepository, never()).existsById_UserIdAndId_RoomId(any(), any());
+    }
+
+    @Test
+    void acceptByExistingParticipantSucceedsWithoutInsert() {
+        when(invitationTokenCache.get(TOKEN)).thenReturn(validTarget());
+        when(roomParticipantRepository.insertIfAbsent(userId, roomId)).thenReturn(0);
+
+        InvitationAcceptResponse response = invitationService.acceptInvitation(TOKEN);
+
+        assertThat(response.getRoomId()).isEqualTo(roomId);
+        assertThat(response.getMessage()).isEqualTo("이미 참가 중인 방입니다.");
+        verify(roomMembershipCache).memberAdded(userId, roomId);
+    }
+
+    @Test
+    void rejectsUnknownToken() {
+        assertThatThrownBy(() -> invitationService.acceptInvitation(TOKEN))
+                .isInstanceOf(InvitationNotFoundException.class);
+        verifyNoInteractions(roomParticipantRepository, roomMembershipCache);
+    }
+
+    @Test
+    void rejectsExpiredToken() {
+        when(invitationTokenCache.get(TOKEN))
+                .thenReturn(new InvitationTokenCache.Target(roomId, OffsetDateTime.now().minusSeconds(1)));
+
+        assertThatThrownBy(() -> invitationService.acceptInvitation(TOKEN))
+                .isInstanceOf(InvitationExpiredException.class);
+        verifyNoInteractions(roomParticipantRepository, roomMembershipCache);
+    }
+
+    private InvitationTokenCache.Target validTarget() {
+        return new InvitationTokenCache.Target(roomId, OffsetDateTime.now().plusDays(1));
+    }
+}
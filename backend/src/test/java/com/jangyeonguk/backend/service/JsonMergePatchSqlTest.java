@@ -0,0 +1,86 @@
+package com.jangyeonguk.backend.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.jangyeonguk.backend.entity.CanvasObject;
+import com.jangyeonguk.backend.entity.Room;
+import com.jangyeonguk.backend.entity.User;
+import com.jangyeonguk.backend.repository.CanvasObjectRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * flat 패치를 DB에서 적용한 결과(jsonb ||, -)가 메모리 병합(JsonMergePatch.apply)과 같은지 검증
+ * (application.properties의 PostgreSQL 사용)
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class JsonMergePatchSqlTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private CanvasObjectRepository canvasObjectRepository;
+
+    @Test
+    void sqlMergeMatchesInMemoryMerge() throws Exception {
+        assertSameResult("{\"x\":1,\"y\":2}", "{\"x\":10,\"color\":\"red\"}");
+        assertSameResult("{\"x\":1,\"color\":\"red\"}", "{\"color\":null}");
+        assertSameResult("{\"x\":1}", "{\"missing\":null}");
+        assertSameResult("{\"points\":[1,2,3,4]}", "{\"points\":[5,6]}");
+        assertSameResult("{\"style\":{\"width\":2}}", "{\"style\":[1],\"x\":null}");
+        assertSameResult("{\"say \\\"hi\\\"\\\\\":1,\"{a,b}\":2}", "{\"say \\\"hi\\\"\\\\\":null,\"{a,b}\":null}");
+        assertSameResult("{\"text\":\"안녕\"}", "{\"text\":\"하세요\",\"x\":0.5}");
+        assertSameResult("{\"x\":1}", "{}");
+    }
+
+    private void assertSameResult(String data, String patchJson) throws Exception {
+        CanvasObject object = persistObject(data);
+        ObjectNode patch = (ObjectNode) objectMapper.readTree(patchJson);
+        assertThat(JsonMergePatch.isFlat(patch)).isTrue();
+
+        int updated = canvasObjectRepository.mergeObjectData(
+                object.getRoom().getRoomId(),
+                object.getObjectId(),
+                JsonMergePatch.valuesToSet(patch).toString(),
+                JsonMergePatch.keysToRemove(patch),
+                object.getVersion());
+        assertThat(updated).isEqualTo(1);
+
+        JsonNode fromSql = objectMapper.readTree(
+                canvasObjectRepository.findById(object.getObjectId()).orElseThrow().getObjectData());
+        JsonNode inMemory = JsonMergePatch.apply(objectMapper.readTree(data), patch);
+        assertThat(fromSql).as("%s + %s", data, patchJson).isEqualTo(inMemory);
+    }
+
+    private CanvasObject persistObject(String data) {
+        User user = entityManager.persist(User.builder()
+                .email(UUID.randomUUID() + "@example.com")
+                .passwordHash("hash")
+                .displayName("tester")
+                .build());
+        Room room = entityManager.persist(Room.builder()
+                .owner(user)
+                .title("merge patch")
+                .build());
+        CanvasObject object = entityManager.persistAndFlush(CanvasObject.builder()
+                .room(room)
+                .creator(user)
+                .objectType("line")
+                .objectData(data)
+                .build());
+        entityManager.clear();
+        return object;
+    }
+}
@@ -0,0 +1,74 @@
+package com.jangyeonguk.backend.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JsonMergePatchTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    /**
+     * RFC 7396 Appendix A의 예시
+     */
+    @Test
+    void appliesRfc7396Examples() throws Exception {
+        assertMerge("{\"a\":\"b\"}", "{\"a\":\"c\"}", "{\"a\":\"c\"}");
+        assertMerge("{\"a\":\"b\"}", "{\"b\":\"c\"}", "{\"a\":\"b\",\"b\":\"c\"}");
+        assertMerge("{\"a\":\"b\"}", "{\"a\":null}", "{}");
+        assertMerge("{\"a\":\"b\",\"b\":\"c\"}", "{\"a\":null}", "{\"b\":\"c\"}");
+        assertMerge("{\"a\":[\"b\"]}", "{\"a\":\"c\"}", "{\"a\":\"c\"}");
+        assertMerge("{\"a\":\"c\"}", "{\"a\":[\"b\"]}", "{\"a\":[\"b\"]}");
+        assertMerge("{\"a\":{\"b\":\"c\"}}", "{\"a\":{\"b\":\"d\",\"c\":null}}", "{\"a\":{\"b\":\"d\"}}");
+        assertMerge("{\"a\":[{\"b\":\"c\"}]}", "{\"a\":[1]}", "{\"a\":[1]}");
+        assertMerge("[\"a\",\"b\"]", "[\"c\",\"d\"]", "[\"c\",\"d\"]");
+        assertMerge("{\"a\":\"b\"}", "[\"c\"]", "[\"c\"]");
+        assertMerge("{\"a\":\"foo\"}", "null", "null");
+        assertMerge("{\"a\":\"foo\"}", "\"bar\"", "\"bar\"");
+        assertMerge("{\"e\":null}", "{\"a\":1}", "{\"e\":null,\"a\":1}");
+        assertMerge("[1,2]", "{\"a\":\"b\",\"c\":null}", "{\"a\":\"b\"}");
+        assertMerge("{}", "{\"a\":{\"bb\":{\"ccc\":null}}}", "{\"a\":{\"bb\":{}}}");
+    }
+
+    @Test
+    void mergesNestedObjectsWithoutTouchingSiblings() throws Exception {
+        assertMerge(
+                "{\"style\":{\"stroke\":\"#000\",\"width\":2},\"points\":[1,2,3,4]}",
+                "{\"style\":{\"width\":4,\"dash\":[2,2]}}",
+                "{\"style\":{\"stroke\":\"#000\",\"width\":4,\"dash\":[2,2]},\"points\":[1,2,3,4]}");
+    }
+
+    @Test
+    void replacesArraysInsteadOfMergingThem() throws Exception {
+        assertMerge("{\"points\":[1,2,3,4]}", "{\"points\":[5,6]}", "{\"points\":[5,6]}");
+    }
+
+    @Test
+    void detectsFlatPatches() throws Exception {
+        assertThat(JsonMergePatch.isFlat(json("{}"))).isTrue();
+        assertThat(JsonMergePatch.isFlat(json("{\"x\":1,\"color\":null,\"points\":[1,{\"a\":1}]}"))).isTrue();
+        assertThat(JsonMergePatch.isFlat(json("{\"x\":1,\"style\":{\"width\":2}}"))).isFalse();
+        assertThat(JsonMergePatch.isFlat(json("{\"style\":{}}"))).isFalse();
+    }
+
+    @Test
+    void splitsFlatPatchIntoValuesAndRemovedKeys() throws Exception {
+        ObjectNode patch = (ObjectNode) json("{\"x\":10,\"color\":null,\"points\":[1,2],\"say \\\"hi\\\"\\\\\":null}");
+
+        assertThat(JsonMergePatch.valuesToSet(patch)).isEqualTo(json("{\"x\":10,\"points\":[1,2]}"));
+        assertThat(JsonMergePatch.keysToRemove(patch)).isEqualTo("{\"color\",\"say \\\"hi\\\"\\\\\"}");
+        assertThat(JsonMergePatch.keysToRemove((ObjectNode) json("{\"x\":1}"))).isEqualTo("{}");
+    }
+
+    private void assertMerge(String target, String patch, String expected) throws Exception {
+        JsonNode result = JsonMergePatch.apply(json(target), json(patch));
+        assertThat(result).as("%s + %s", target, patch).isEqualTo(json(expected));
+    }
+
+    private JsonNode json(String value) throws Exception {
+        return objectMapper.readTree(value);
+    }
+}
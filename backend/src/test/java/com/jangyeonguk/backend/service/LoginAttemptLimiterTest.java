@@ -0,0 +1,73 @@
+package com.jangyeonguk.backend.service;
+
+import com.jangyeonguk.backend.exception.TooManyLoginAttemptsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LoginAttemptLimiterTest {
+
+    private static final long WINDOW_MS = 200;
+    private static final String EMAIL = "user@example.com";
+    private static final String IP = "203.0.113.1";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final LoginAttemptLimiter limiter = new LoginAttemptLimiter(meterRegistry, WINDOW_MS, 3, 5, 1000);
+
+    @Test
+    void throttlesAccountAfterMaxFailures() {
+        for (int i = 0; i < 3; i++) {
+            limiter.acquire(EMAIL, null);
+            limiter.recordFailure(EMAIL);
+        }
+
+        // 이메일은 대소문자/공백을 무시하고 같은 계정으로 셈
+        assertThatThrownBy(() -> limiter.acquire(" User@Example.com ", null))
+                .isInstanceOf(TooManyLoginAttemptsException.class);
+        limiter.acquire("other@example.com", null);
+        assertThat(meterRegistry.counter("auth.attempts.throttled", "scope", "account").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void successResetsAccountFailures() {
+        limiter.recordFailure(EMAIL);
+        limiter.recordFailure(EMAIL);
+        limiter.recordSuccess(EMAIL);
+        limiter.recordFailure(EMAIL);
+        limiter.recordFailure(EMAIL);
+
+        limiter.acquire(EMAIL, null);
+    }
+
+    @Test
+    void throttlesIpAfterMaxAttempts() {
+        for (int i = 0; i < 5; i++) {
+            limiter.acquire(null, IP);
+        }
+
+        assertThatThrownBy(() -> limiter.acquire(null, IP))
+                .isInstanceOf(TooManyLoginAttemptsException.class);
+        limiter.acquire(null, "203.0.113.2");
+        assertThat(meterRegistry.counter("auth.attempts.throttled", "scope", "ip").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void countersExpireAfterWindow() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            limiter.recordFailure(EMAIL);
+        }
+        for (int i = 0; i < 5; i++) {
+            limiter.acquire(null, IP);
+        }
+        assertThatThrownBy(() -> limiter.acquire(EMAIL, null))
+                .isInstanceOf(TooManyLoginAttemptsException.class);
+        assertThatThrownBy(() -> limiter.acquire(null, IP))
+                .isInstanceOf(TooManyLoginAttemptsException.class);
+
+        Thread.sleep(WINDOW_MS + 50);
+
+        limiter.acquire(EMAIL, IP);
+    }
+}
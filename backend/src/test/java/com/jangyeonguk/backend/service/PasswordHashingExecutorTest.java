@@ -0,0 +1,119 @@
+package com.jangyeonguk.backend.service;
+
+import com.jangyeonguk.backend.exception.AuthenticationBusyException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PasswordHashingExecutorTest {
+
+    private final BlockingPasswordEncoder passwordEncoder = new BlockingPasswordEncoder();
+    private final ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor();
+    private PasswordHashingExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        passwordEncoder.release.countDown();
+        callers.shutdownNow();
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void encodesAndMatchesOnHashingThreads() {
+        executor = new PasswordHashingExecutor(new BCryptPasswordEncoder(4), new SimpleMeterRegistry(), 1, 4, 5000);
+
+        String hash = executor.encode("password");
+
+        assertThat(executor.matches("password", hash)).isTrue();
+        assertThat(executor.matches("wrong", hash)).isFalse();
+    }
+
+    @Test
+    void rejectsImmediatelyWhenQueueIsFull() throws Exception {
+        executor = new PasswordHashingExecutor(passwordEncoder, new SimpleMeterRegistry(), 1, 1, 10_000);
+        Future<String> running = callers.submit(() -> executor.encode("running"));
+        assertThat(passwordEncoder.started.await(5, TimeUnit.SECONDS)).isTrue();
+        Future<String> queued = callers.submit(() -> executor.encode("queued"));
+        awaitQueued();
+
+        long startNanos = System.nanoTime();
+        assertThatThrownBy(() -> executor.encode("rejected"))
+                .isInstanceOf(AuthenticationBusyException.class);
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos)).isLessThan(1000);
+
+        passwordEncoder.release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("hash:running");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("hash:queued");
+    }
+
+    @Test
+    void givesUpAfterTimeout() throws Exception {
+        executor = new PasswordHashingExecutor(passwordEncoder, new SimpleMeterRegistry(), 1, 1, 100);
+
+        assertThatThrownBy(() -> executor.encode("slow"))
+                .isInstanceOf(AuthenticationBusyException.class);
+        assertThat(passwordEncoder.interrupted.await(5, TimeUnit.SECONDS)).isTrue(); // 해싱 작업도 취소됨
+    }
+
+    @Test
+    void propagatesEncoderExceptions() {
+        executor = new PasswordHashingExecutor(new BCryptPasswordEncoder(4), new SimpleMeterRegistry(), 1, 1, 5000);
+
+        assertThatThrownBy(() -> executor.matches(null, "hash"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private void awaitQueued() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (executorQueueSize() < 1) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(1);
+        }
+    }
+
+    private int executorQueueSize() {
+        ThreadPoolExecutor pool = (ThreadPoolExecutor) ReflectionTestUtils.getField(executor, "executor");
+        return pool.getQueue().size();
+    }
+
+    /**
+     * release 전까지 해싱을 붙잡아 느린 BCrypt를 흉내내는 인코더
+     */
+    private static final class BlockingPasswordEncoder implements PasswordEncoder {
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final CountDownLatch interrupted = new CountDownLatch(1);
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                Thread.currentThread().interrupt();
+            }
+            return "hash:" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encode(rawPassword).equals(encodedPassword);
+        }
+    }
+}
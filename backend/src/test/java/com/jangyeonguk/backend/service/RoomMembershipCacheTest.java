@@ -0,0 +1,104 @@
+package com.jangyeonguk.backend.service;
+
+import com.jangyeonguk.backend.exception.UnauthorizedRoomAccessException;
+import com.jangyeonguk.backend.repository.RoomParticipantRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RoomMembershipCacheTest {
+
+    private static final long NEGATIVE_TTL_MS = 100;
+
+    private final RoomParticipantRepository repository = mock(RoomParticipantRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RoomMembershipCache cache =
+            new RoomMembershipCache(repository, meterRegistry, 100, 60_000, NEGATIVE_TTL_MS);
+    private final UUID userId = UUID.randomUUID();
+    private final UUID roomId = UUID.randomUUID();
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void cachesMembership() {
+        when(repository.existsById_UserIdAndId_RoomId(userId, roomId)).thenReturn(true);
+
+        assertThat(cache.isMember(userId, roomId)).isTrue();
+        assertThat(cache.isMember(userId, roomId)).isTrue();
+
+        verify(repository, times(1)).existsById_UserIdAndId_RoomId(userId, roomId);
+    }
+
+    @Test
+    void nonMembershipExpiresAfterNegativeTtl() throws Exception {
+        when(repository.existsById_UserIdAndId_RoomId(userId, roomId)).thenReturn(false, true);
+        assertThat(cache.isMember(userId, roomId)).isFalse();
+        assertThat(cache.isMember(userId, roomId)).isFalse();
+
+        Thread.sleep(NEGATIVE_TTL_MS + 50); // 다른 인스턴스에서 초대를 수락한 상황
+
+        assertThat(cache.isMember(userId, roomId)).isTrue();
+        verify(repository, times(2)).existsById_UserIdAndId_RoomId(userId, roomId);
+    }
+
+    @Test
+    void memberAddedReplacesCachedNonMembership() {
+        when(repository.existsById_UserIdAndId_RoomId(userId, roomId)).thenReturn(false);
+        assertThat(cache.isMember(userId, roomId)).isFalse();
+
+        cache.memberAdded(userId, roomId);
+
+        assertThat(cache.isMember(userId, roomId)).isTrue();
+        verify(repository, times(1)).existsById_UserIdAndId_RoomId(userId, roomId);
+    }
+
+    @Test
+    void memberAddedInTransactionAppliesOnlyAfterCommit() {
+        when(repository.existsById_UserIdAndId_RoomId(userId, roomId)).thenReturn(false);
+        assertThat(cache.isMember(userId, roomId)).isFalse();
+        TransactionSynchronizationManager.initSynchronization();
+
+        cache.memberAdded(userId, roomId);
+
+        assertThat(cache.isMember(userId, roomId)).isFalse();
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(cache.isMember(userId, roomId)).isTrue();
+    }
+
+    @Test
+    void memberAddedInRolledBackTransactionIsIgnored() {
+        when(repository.existsById_UserIdAndId_RoomId(userId, roomId)).thenReturn(false);
+        TransactionSynchronizationManager.initSynchronization();
+
+        cache.memberAdded(userId, roomId);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        assertThat(cache.isMember(userId, roomId)).isFalse();
+    }
+
+    @Test
+    void requireMemberRejectsNonMember() {
+        when(repository.existsById_UserIdAndId_RoomId(userId, roomId)).thenReturn(false);
+
+        assertThatThrownBy(() -> cache.requireMember(userId, roomId))
+                .isInstanceOf(UnauthorizedRoomAccessException.class);
+        assertThat(meterRegistry.counter("room.membership.denied").count()).isEqualTo(1.0);
+    }
+}
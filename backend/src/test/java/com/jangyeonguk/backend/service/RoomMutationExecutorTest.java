@@ -0,0 +1,189 @@
+package com.jangyeonguk.backend.service;
+
+import com.jangyeonguk.backend.exception.RoomBusyException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RoomMutationExecutorTest {
+
+    private final CountingTransactionManager transactionManager = new CountingTransactionManager();
+    private final ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor();
+    private final UUID roomId = UUID.randomUUID();
+
+    @AfterEach
+    void tearDown() {
+        callers.shutdownNow();
+    }
+
+    @Test
+    void serializesMutationsOfSameRoom() throws Exception {
+        RoomMutationExecutor executor = new RoomMutationExecutor(transactionManager, 8, 1000, 10_000);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        List<Future<Integer>> results = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            int value = i;
+            results.add(callers.submit(() -> executor.execute(roomId, () -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                Thread.onSpinWait();
+                running.decrementAndGet();
+                return value;
+            })));
+        }
+
+        for (int i = 0; i < results.size(); i++) {
+            assertThat(results.get(i).get(10, TimeUnit.SECONDS)).isEqualTo(i);
+        }
+        assertThat(maxRunning.get()).isEqualTo(1);
+    }
+
+    @Test
+    void batchesQueuedMutationsIntoOneTransaction() throws Exception {
+        RoomMutationExecutor executor = new RoomMutationExecutor(transactionManager, 32, 1000, 10_000);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> blocker = callers.submit(() -> executor.execute(roomId, () -> {
+            started.countDown();
+            await(release);
+            return "first";
+        }));
+        started.await();
+
+        List<Future<Integer>> queued = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            int value = i;
+            queued.add(callers.submit(() -> executor.execute(roomId, () -> value)));
+        }
+        awaitPending(executor, 10);
+        release.countDown();
+
+        assertThat(blocker.get(10, TimeUnit.SECONDS)).isEqualTo("first");
+        for (int i = 0; i < queued.size(); i++) {
+            assertThat(queued.get(i).get(10, TimeUnit.SECONDS)).isEqualTo(i);
+        }
+        // 첫 작업 1번 + 대기하던 10개를 묶은 배치 1번
+        assertThat(transactionManager.commits.get()).isEqualTo(2);
+    }
+
+    @Test
+    void failedBatchIsRetriedOneByOneSoOnlyFailingMutationFails() throws Exception {
+        RoomMutationExecutor executor = new RoomMutationExecutor(transactionManager, 32, 1000, 10_000);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> blocker = callers.submit(() -> executor.execute(roomId, () -> {
+            started.countDown();
+            await(release);
+            return "first";
+        }));
+        started.await();
+
+        Future<String> before = callers.submit(() -> executor.execute(roomId, () -> "before"));
+        awaitPending(executor, 1);
+        Future<String> failing = callers.submit(() -> executor.execute(roomId, () -> {
+            throw new IllegalArgumentException("invalid");
+        }));
+        awaitPending(executor, 2);
+        Future<String> after = callers.submit(() -> executor.execute(roomId, () -> "after"));
+        awaitPending(executor, 3);
+        release.countDown();
+
+        assertThat(blocker.get(10, TimeUnit.SECONDS)).isEqualTo("first");
+        assertThat(before.get(10, TimeUnit.SECONDS)).isEqualTo("before");
+        assertThat(after.get(10, TimeUnit.SECONDS)).isEqualTo("after");
+        assertThatThrownBy(() -> failing.get(10, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(IllegalArgumentException.class);
+        // 배치 롤백 1번 + 개별 재실행에서 실패한 작업 롤백 1번
+        assertThat(transactionManager.rollbacks.get()).isEqualTo(2);
+    }
+
+    @Test
+    void errorInMutationDoesNotStopTheRoomWriter() {
+        RoomMutationExecutor executor = new RoomMutationExecutor(transactionManager, 32, 1000, 10_000);
+
+        assertThatThrownBy(() -> executor.execute(roomId, () -> {
+            throw new StackOverflowError();
+        }))
+                .isInstanceOf(IllegalStateException.class)
+                .hasCauseInstanceOf(StackOverflowError.class);
+
+        assertThat(executor.execute(roomId, () -> "next")).isEqualTo("next");
+    }
+
+    @Test
+    void timedOutMutationIsCancelledBeforeItRuns() throws Exception {
+        RoomMutationExecutor executor = new RoomMutationExecutor(transactionManager, 32, 1000, 200);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        callers.submit(() -> executor.execute(roomId, () -> {
+            started.countDown();
+            await(release);
+            return "first";
+        }));
+        started.await();
+
+        AtomicInteger ran = new AtomicInteger();
+        assertThatThrownBy(() -> executor.execute(roomId, ran::incrementAndGet))
+                .isInstanceOf(RoomBusyException.class);
+        release.countDown();
+
+        assertThat(executor.execute(roomId, () -> "next")).isEqualTo("next");
+        assertThat(ran.get()).isZero();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 뒤의 작업이 writer 큐에 쌓일 때까지 대기
+     */
+    private void awaitPending(RoomMutationExecutor executor, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (executor.pending(roomId) != expected) {
+            assertThat(System.nanoTime()).as("대기 작업 수 %d", expected).isLessThan(deadline);
+            Thread.sleep(1);
+        }
+    }
+
+    private static final class CountingTransactionManager implements PlatformTransactionManager {
+        private final AtomicInteger commits = new AtomicInteger();
+        private final AtomicInteger rollbacks = new AtomicInteger();
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+            commits.incrementAndGet();
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+            rollbacks.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.jangyeonguk.backend.support;
+
+import com.jangyeonguk.backend.config.SqlStatementCounter;
+import com.jangyeonguk.backend.config.SqlStatementCountingFilter;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 엔드포인트/서비스별 SQL 실행 횟수 예산 검증 유틸리티 (N+1 회귀 방지)
+ *
+ * MockMvc: 응답 헤더를 켠 테스트에서 SQL 수 검증
+ * <pre>
+ * &#64;SpringBootTest(properties = "db.statements.response-header.enabled=true")
+ * &#64;AutoConfigureMockMvc
+ * ...
+ * mockMvc.perform(get("/api/rooms").header("Authorization", token))
+ *         .andExpect(SqlStatementBudget.atMost(3));
+ * </pre>
+ *
+ * 서비스: 호출하는 동안 실행된 SQL 수 검증
+ * <pre>
+ * RoomResponse room = SqlStatementBudget.assertAtMost(2, () -&gt; roomService.getRoom(roomId));
+ * </pre>
+ */
+public final class SqlStatementBudget {
+
+    private SqlStatementBudget() {
+    }
+
+    /**
+     * 응답의 SQL 실행 횟수가 예산 이하인지 검증
+     *
+     * @param maxStatements 허용하는 최대 SQL 수
+     */
+    public static ResultMatcher atMost(int maxStatements) {
+        return result -> {
+            String header = result.getResponse().getHeader(SqlStatementCountingFilter.STATEMENT_COUNT_HEADER);
+            assertThat(header)
+                    .as("%s 헤더가 없습니다. db.statements.response-header.enabled=true로 실행해야 합니다.",
+                            SqlStatementCountingFilter.STATEMENT_COUNT_HEADER)
+                    .isNotNull();
+            assertThat(Integer.parseInt(header))
+                    .as("%s %s의 SQL 실행 횟수", result.getRequest().getMethod(), result.getRequest().getRequestURI())
+                    .isLessThanOrEqualTo(maxStatements);
+        };
+    }
+
+    /**
+     * 작업을 실행하고, 그 동안 실행된 SQL 수가 예산 이하인지 검증
+     *
+     * @param maxStatements 허용하는 최대 SQL 수
+     * @param action 검증할 작업
+     * @return 작업 결과
+     */
+    public static <T> T assertAtMost(int maxStatements, Supplier<T> action) {
+        SqlStatementCounter counter = new SqlStatementCounter();
+        T result;
+        try (SqlStatementCounter.Scope ignored = SqlStatementCounter.open(counter)) {
+            result = action.get();
+        }
+        assertThat(counter.getStatements())
+                .as("SQL 실행 횟수 (누적 %dms)", counter.getElapsedMillis())
+                .isLessThanOrEqualTo(maxStatements);
+        return result;
+    }
+}
@@ -19,8 +19,15 @@ export const aiImageApi = {
     // prompt 추가
     formData.append('prompt', request.prompt);
     
-    // image 파일 추가
-    formData.append('image', request.image, 'selected-area.png');
+    // image 파일 추가 (생략하면 서버에서 선택된 객체를 그려서 사용)
+    if (request.image) {
+      formData.append('image', request.image, 'selected-area.png');
+    }
+    
+    // 후보 이미지 수 추가 (생략하면 1개)
+    if (request.variants) {
+      formData.append('variants', String(request.variants));
+    }
     
     // 토큰 가져오기
     const token = getToken();
@@ -47,5 +54,94 @@ export const aiImageApi = {
     
     return response.json();
   },
+
+  /**
+   * AI 이미지 변환 작업 상태 조회
+   */
+  async getConversion(
+    roomId: string,
+    conversionId: string
+  ): Promise<AIImageConversionResponse> {
+    const token = getToken();
+
+    const response = await fetch(`${API_BASE_URL}/rooms/${roomId}/ai-image-conversion/${conversionId}`, {
+      headers: token ? {
+        'Authorization': `Bearer ${token}`,
+      } : {},
+    });
+
+    if (!response.ok) {
+      let errorMessage = '요청에 실패했습니다.';
+      try {
+        const error = await response.json();
+        errorMessage = error.message || error.error || errorMessage;
+      } catch {
+        errorMessage = `HTTP ${response.status}: ${response.statusText}`;
+      }
+      throw new Error(errorMessage);
+    }
+
+    return response.json();
+  },
+
+  /**
+   * AI 변환 후보 이미지 조회
+   */
+  async getCandidateImage(
+    roomId: string,
+    conversionId: string,
+    candidateId: string
+  ): Promise<Blob> {
+    const token = getToken();
+
+    const response = await fetch(
+      `${API_BASE_URL}/rooms/${roomId}/ai-image-conversion/${conversionId}/candidates/${candidateId}/image`,
+      {
+        headers: token ? {
+          'Authorization': `Bearer ${token}`,
+        } : {},
+      }
+    );
+
+    if (!response.ok) {
+      throw new Error(`HTTP ${response.status}: ${response.statusText}`);
+    }
+
+    return response.blob();
+  },
+
+  /**
+   * AI 변환 후보 이미지 선택 (선택된 이미지가 캔버스 객체로 저장됨)
+   */
+  async selectCandidate(
+    roomId: string,
+    conversionId: string,
+    candidateId: string
+  ): Promise<AIImageConversionResponse> {
+    const token = getToken();
+
+    const response = await fetch(
+      `${API_BASE_URL}/rooms/${roomId}/ai-image-conversion/${conversionId}/candidates/${candidateId}/select`,
+      {
+        method: 'POST',
+        headers: token ? {
+          'Authorization': `Bearer ${token}`,
+        } : {},
+      }
+    );
+
+    if (!response.ok) {
+      let errorMessage = '요청에 실패했습니다.';
+      try {
+        const error = await response.json();
+        errorMessage = error.message || error.error || errorMessage;
+      } catch {
+        errorMessage = `HTTP ${response.status}: ${response.statusText}`;
+      }
+      throw new Error(errorMessage);
+    }
+
+    return response.json();
+  },
 };
 
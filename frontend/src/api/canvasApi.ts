@@ -1,5 +1,7 @@
 import type { CanvasObjectCreateRequest, CanvasObjectResponse, CanvasObjectUpdateRequest } from '../types/canvas';
 import { apiGet, apiPost, apiDelete, apiPut } from '../utils/apiClient';
+import { getToken } from '../utils/tokenStorage';
+import { API_BASE_URL } from '../config/env';
 
 export const canvasApi = {
   /**
@@ -50,5 +52,33 @@ export const canvasApi = {
   ): Promise<CanvasObjectResponse> {
     return apiPut<CanvasObjectResponse>(`/rooms/${roomId}/canvas-objects/${objectId}`, request);
   },
+  /**
+   * 이미지 객체의 이미지 조회 (maxSize 이상인 가장 작은 축소본, 없으면 원본)
+   * version을 쿼리에 붙여 원본 이미지가 바뀐 경우 브라우저 캐시를 사용하지 않도록 함
+   */
+  async getCanvasObjectImage(
+    roomId: string,
+    objectId: string,
+    maxSize?: number,
+    version?: number
+  ): Promise<Blob> {
+    const params = new URLSearchParams();
+    if (maxSize !== undefined) {
+      params.set('maxSize', String(Math.ceil(maxSize)));
+    }
+    if (version !== undefined) {
+      params.set('v', String(version));
+    }
+    const token = getToken();
+    const response = await fetch(
+      `${API_BASE_URL}/rooms/${roomId}/canvas-objects/${objectId}/image?${params.toString()}`,
+      {
+        headers: token ? { 'Authorization': `Bearer ${token}` } : {},
+      }
+    );
+    if (!response.ok) {
+      throw new Error(`이미지를 불러오지 못했습니다: ${response.status}`);
+    }
+    return response.blob();
+  },
 };
-
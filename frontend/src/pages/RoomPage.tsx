@@ -1278,40 +1278,6 @@ export function RoomPage() {
     }
   };
 
-  // 선택된 객체들의 bounding box 영역을 이미지로 추출
-  const extractSelectedAreaAsImage = async (): Promise<Blob | null> => {
-    const canvas = canvasRef.current;
-    if (!canvas || selectedObjectIds.size === 0) return null;
-
-    const boundingBox = getSelectedObjectsBoundingBox();
-    if (!boundingBox) return null;
-
-    const { minX, minY, maxX, maxY } = boundingBox;
-    const width = maxX - minX;
-    const height = maxY - minY;
-
-    // 임시 canvas 생성하여 선택 영역만 추출
-    const tempCanvas = document.createElement('canvas');
-    tempCanvas.width = width;
-    tempCanvas.height = height;
-    const tempCtx = tempCanvas.getContext('2d');
-    if (!tempCtx) return null;
-
-    // 원본 canvas에서 선택 영역을 임시 canvas로 복사
-    tempCtx.drawImage(
-      canvas,
-      minX, minY, width, height, // 원본에서 추출할 영역
-      0, 0, width, height // 임시 canvas에 그릴 위치
-    );
-
-    // Blob으로 변환
-    return new Promise<Blob | null>((resolve) => {
-      tempCanvas.toBlob((blob) => {
-        resolve(blob);
-      }, 'image/png');
-    });
-  };
-
   // AI 이미지 변환 핸들러
   const handleAIImageConvert = async (prompt: string) => {
     if (!roomId || selectedObjectIds.size === 0) return;
@@ -1319,18 +1285,11 @@ export function RoomPage() {
     try {
       setIsConverting(true);
       
-      // 선택 영역을 이미지로 추출
-      const imageBlob = await extractSelectedAreaAsImage();
-      if (!imageBlob) {
-        alert('선택 영역을 이미지로 추출할 수 없습니다.');
-        return;
-      }
-
+      // 선택 영역 이미지는 서버에서 저장된 객체로 직접 그림 (업로드 불필요)
       const selectedIdsArray = Array.from(selectedObjectIds);
       const response = await aiImageApi.convertToImage(roomId, {
         selectedObjectIds: selectedIdsArray,
         prompt: prompt,
-        image: imageBlob,
       });
       
       alert(`변환 요청이 접수되었습니다.\n변환 ID: ${response.conversionId}\n상태: ${response.status}\n${response.message}`);
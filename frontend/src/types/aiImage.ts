@@ -2,12 +2,21 @@
 export interface AIImageConversionRequest {
   selectedObjectIds: string[]; // 선택된 객체 ID 목록
   prompt: string; // 사용자가 입력한 프롬프트
-  image: Blob; // 선택 영역 이미지
+  image?: Blob; // 선택 영역 이미지 (생략 시 서버에서 선택된 객체를 그림)
+  variants?: number; // 생성할 후보 이미지 수 (2 이상이면 후보 중 하나를 선택)
+}
+
+export interface AIConversionCandidate {
+  candidateId: string; // 후보 이미지 ID
+  width: number; // 가로 픽셀
+  height: number; // 세로 픽셀
 }
 
 export interface AIImageConversionResponse {
   conversionId: string; // 변환 작업 ID
-  status: string; // 변환 상태 (PENDING, PROCESSING, COMPLETED, FAILED)
+  status: string; // 변환 상태 (QUEUED, RUNNING, AWAITING_SELECTION, COMPLETED, FAILED)
   message: string; // 상태 메시지
+  resultObjectId?: string; // 완료 시 생성된 이미지 캔버스 객체 ID
+  candidates?: AIConversionCandidate[]; // 생성된 후보 이미지 (선택 전까지)
 }
 